@@ -0,0 +1,75 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of converting a column of epoch days to Persian dates in a single thread,
+ * one {@link PersianDate} at a time versus {@link PersianDates#convertEpochDays}.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkConversionBenchmark {
+
+    @Param({"4000000"})
+    public int size;
+
+    long[] epochDays;
+
+    int[] outYyyymmdd;
+
+    int[] outYears;
+    int[] outMonths;
+    int[] outDays;
+
+    @Setup
+    public void setup() {
+        epochDays = randomEpochDays(size);
+        outYyyymmdd = new int[size];
+        outYears = new int[size];
+        outMonths = new int[size];
+        outDays = new int[size];
+    }
+
+    static long[] randomEpochDays(int size) {
+        Random random = new Random(1396);
+        long minEpochDay = PersianDate.of(1300, 1, 1).toEpochDay();
+        int span = (int) (PersianDate.of(1500, 12, 29).toEpochDay() - minEpochDay);
+        long[] epochDays = new long[size];
+        for (int i = 0; i < size; i++) {
+            epochDays[i] = minEpochDay + random.nextInt(span);
+        }
+        return epochDays;
+    }
+
+    @Benchmark
+    public int[] ofEpochDayLoop() {
+        for (int i = 0; i < epochDays.length; i++) {
+            PersianDate pd = PersianDate.ofEpochDay(epochDays[i]);
+            outYyyymmdd[i] = pd.getYear() * 10000 + pd.getMonthValue() * 100 + pd.getDayOfMonth();
+        }
+        return outYyyymmdd;
+    }
+
+    @Benchmark
+    public int[] convertEpochDaysYyyymmdd() {
+        PersianDates.convertEpochDays(epochDays, outYyyymmdd);
+        return outYyyymmdd;
+    }
+
+    @Benchmark
+    public int[] convertEpochDaysFields() {
+        PersianDates.convertEpochDays(epochDays, outYears, outMonths, outDays);
+        return outDays;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianChronology;
+import com.github.mfathi91.time.PersianDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.chrono.ChronoPeriod;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of iterating over the days of 1300 to 1500, and over their months, by
+ * {@link PersianDate#datesUntil(PersianDate)} and
+ * {@link PersianDate#datesUntil(PersianDate, ChronoPeriod)}, compared with loops of
+ * {@link PersianDate#plusDays(long)} and {@link PersianDate#plusMonths(long)}.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DatesUntilBenchmark {
+
+    private final PersianDate start = PersianDate.of(1300, 1, 1);
+
+    private final PersianDate end = PersianDate.of(1500, 1, 1);
+
+    private final ChronoPeriod month = PersianChronology.INSTANCE.period(0, 1, 0);
+
+    @Benchmark
+    public long plusDaysLoop() {
+        long sum = 0;
+        for (PersianDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            sum += date.getDayOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long datesUntil() {
+        return start.datesUntil(end).mapToLong(PersianDate::getDayOfMonth).sum();
+    }
+
+    @Benchmark
+    public long datesUntilParallel() {
+        return start.datesUntil(end).parallel().mapToLong(PersianDate::getDayOfMonth).sum();
+    }
+
+    @Benchmark
+    public long plusMonthsLoop() {
+        long sum = 0;
+        for (PersianDate date = start; date.isBefore(end); date = date.plusMonths(1)) {
+            sum += date.getMonthValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long datesUntilMonthly() {
+        return start.datesUntil(end, month).mapToLong(PersianDate::getMonthValue).sum();
+    }
+}
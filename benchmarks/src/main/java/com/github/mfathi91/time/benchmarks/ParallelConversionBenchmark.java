@@ -0,0 +1,54 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link PersianDates#convertEpochDaysParallel(long[], int[], ForkJoinPool)}
+ * with different levels of parallelism, showing how the conversion scales with the
+ * number of cores. Compare the results with {@link BulkConversionBenchmark}, which
+ * converts the same column in a single thread.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelConversionBenchmark {
+
+    @Param({"4000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    private long[] epochDays;
+
+    private int[] outYyyymmdd;
+
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setup() {
+        epochDays = BulkConversionBenchmark.randomEpochDays(size);
+        outYyyymmdd = new int[size];
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] convertEpochDaysParallel() {
+        PersianDates.convertEpochDaysParallel(epochDays, outYyyymmdd, pool);
+        return outYyyymmdd;
+    }
+}
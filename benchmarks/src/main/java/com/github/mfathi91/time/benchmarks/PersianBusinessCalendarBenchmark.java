@@ -0,0 +1,86 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianBusinessCalendar;
+import com.github.mfathi91.time.PersianDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of counting the working days of ranges of up to a year, and of adding 20
+ * working days, by {@link PersianBusinessCalendar}, compared with stepping through the
+ * days by {@link PersianDate#plusDays(long)} and {@link PersianDate#getDayOfWeek()}.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianBusinessCalendarBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private final PersianBusinessCalendar calendar = PersianBusinessCalendar.official();
+
+    private final PersianDate[] starts = new PersianDate[SIZE];
+
+    private final PersianDate[] ends = new PersianDate[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        PersianDate first = PersianDate.of(1300, 1, 1);
+        for (int i = 0; i < SIZE; i++) {
+            starts[i] = first.plusDays(random.nextInt(73000));
+            ends[i] = starts[i].plusDays(random.nextInt(366));
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public long workingDaysBetween() {
+        int i = next();
+        return calendar.workingDaysBetween(starts[i], ends[i]);
+    }
+
+    @Benchmark
+    public long workingDaysBetweenLoop() {
+        int i = next();
+        long count = 0;
+        for (PersianDate date = starts[i]; date.isBefore(ends[i]); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.FRIDAY) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public PersianDate plusWorkingDays() {
+        return calendar.plusWorkingDays(starts[next()], 20);
+    }
+
+    @Benchmark
+    public PersianDate plusWorkingDaysLoop() {
+        PersianDate date = starts[next()];
+        for (int remaining = 20; remaining > 0; ) {
+            date = date.plusDays(1);
+            if (date.getDayOfWeek() != DayOfWeek.FRIDAY) {
+                remaining--;
+            }
+        }
+        return date;
+    }
+}
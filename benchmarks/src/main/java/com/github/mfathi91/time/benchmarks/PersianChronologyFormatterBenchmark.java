@@ -0,0 +1,79 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianChronology;
+import com.github.mfathi91.time.PersianDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.chrono.ChronoLocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of parsing Persian dates with {@link DateTimeFormatter} and
+ * {@link PersianChronology}, which resolves the parsed fields by
+ * {@link PersianChronology#resolveDate(java.util.Map, ResolverStyle)}.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianChronologyFormatterBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    /**
+     * Pattern letter 'y' is year-of-era, which is resolved to year.
+     */
+    private final DateTimeFormatter yearOfEraFormatter =
+            DateTimeFormatter.ofPattern("yyyy/MM/dd").withChronology(PersianChronology.INSTANCE);
+
+    /**
+     * Pattern letter 'u' is year.
+     */
+    private final DateTimeFormatter yearFormatter =
+            DateTimeFormatter.ofPattern("uuuu/MM/dd").withChronology(PersianChronology.INSTANCE);
+
+    private final DateTimeFormatter strictFormatter = yearFormatter.withResolverStyle(ResolverStyle.STRICT);
+
+    private final String[] texts = new String[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        long minEpochDay = PersianDate.of(1300, 1, 1).toEpochDay();
+        long maxEpochDay = PersianDate.of(1500, 12, 29).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            PersianDate date = PersianDate.ofEpochDay(minEpochDay + random.nextInt((int) (maxEpochDay - minEpochDay)));
+            texts[i] = date.format(yearFormatter);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public ChronoLocalDate parseYearOfEra() {
+        return yearOfEraFormatter.parse(texts[next()], PersianChronology.INSTANCE::date);
+    }
+
+    @Benchmark
+    public ChronoLocalDate parseYear() {
+        return yearFormatter.parse(texts[next()], PersianChronology.INSTANCE::date);
+    }
+
+    @Benchmark
+    public ChronoLocalDate parseYearStrict() {
+        return strictFormatter.parse(texts[next()], PersianChronology.INSTANCE::date);
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDateArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of sorting and range filtering 4M random dates of ten years, by
+ * {@link PersianDateArray}, compared with an array of {@link PersianDate}s.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateArrayBenchmark {
+
+    private static final int SIZE = 1 << 22;
+
+    private static final PersianDate START = PersianDate.of(1393, 6, 1);
+
+    private static final PersianDate END = PersianDate.of(1395, 2, 15);
+
+    private final PersianDate[] dates = new PersianDate[SIZE];
+
+    private final PersianDate[] datesToSort = new PersianDate[SIZE];
+
+    private PersianDateArray array;
+
+    private PersianDateArray arrayToSort;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long first = PersianDate.of(1390, 1, 1).toEpochDay();
+        array = PersianDateArray.withCapacity(SIZE);
+        arrayToSort = PersianDateArray.withCapacity(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = PersianDate.ofEpochDay(first + random.nextInt(3652));
+            array.add(dates[i]);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(dates, 0, datesToSort, 0, SIZE);
+        arrayToSort.clear();
+        for (int i = 0; i < SIZE; i++) {
+            arrayToSort.addPacked(array.getPacked(i));
+        }
+    }
+
+    @Benchmark
+    public PersianDateArray sortOffHeap() {
+        arrayToSort.sort();
+        return arrayToSort;
+    }
+
+    @Benchmark
+    public PersianDate[] sortObjectArray() {
+        Arrays.sort(datesToSort);
+        return datesToSort;
+    }
+
+    @Benchmark
+    public int countOffHeap() {
+        return array.count(START, END);
+    }
+
+    @Benchmark
+    public int countObjectArray() {
+        int count = 0;
+        for (PersianDate date : dates) {
+            if (!date.isBefore(START) && date.isBefore(END)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public PersianDateArray filterOffHeap() {
+        return array.filter(START, END);
+    }
+}
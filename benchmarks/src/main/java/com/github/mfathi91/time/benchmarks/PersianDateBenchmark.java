@@ -0,0 +1,186 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PackedPersianDate;
+import com.github.mfathi91.time.PersianDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the hot paths of {@link PersianDate}.
+ * <p>
+ * Every benchmark reads its input from a pre-filled table of random dates, so that
+ * neither the JIT compiler nor the branch predictor can specialize for a single value.
+ * Run it with {@code -prof gc} to get allocation rates as well.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private final int[] years = new int[SIZE];
+    private final int[] months = new int[SIZE];
+    private final int[] days = new int[SIZE];
+    private final long[] epochDays = new long[SIZE];
+    private final long[] julianDays = new long[SIZE];
+    private final long[] amounts = new long[SIZE];
+    private final LocalDate[] localDates = new LocalDate[SIZE];
+    private final PersianDate[] persianDates = new PersianDate[SIZE];
+    private final PersianDate[] otherPersianDates = new PersianDate[SIZE];
+    private final String[] texts = new String[SIZE];
+    private final byte[][] asciiTexts = new byte[SIZE][];
+    private final String[] isoTexts = new String[SIZE];
+
+    private final StringBuilder sb = new StringBuilder(16);
+
+    private final char[] buf = new char[16];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        long minEpochDay = PersianDate.of(1300, 1, 1).toEpochDay();
+        long maxEpochDay = PersianDate.of(1500, 12, 29).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            PersianDate pd = PersianDate.ofEpochDay(minEpochDay + random.nextInt((int) (maxEpochDay - minEpochDay)));
+            years[i] = pd.getYear();
+            months[i] = pd.getMonthValue();
+            days[i] = pd.getDayOfMonth();
+            epochDays[i] = pd.toEpochDay();
+            julianDays[i] = pd.toJulianDay();
+            amounts[i] = random.nextInt(2000) - 1000;
+            localDates[i] = pd.toGregorian();
+            persianDates[i] = pd;
+            texts[i] = pd.toString();
+            asciiTexts[i] = texts[i].getBytes(StandardCharsets.US_ASCII);
+            isoTexts[i] = localDates[i].toString();
+        }
+        for (int i = 0; i < SIZE; i++) {
+            // Half of the pairs are equal, so that equals() takes both of its paths
+            otherPersianDates[i] = (i & 1) == 0 ? PersianDate.of(years[i], months[i], days[i]) : persianDates[(i + 1) & MASK];
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public PersianDate of() {
+        int i = next();
+        return PersianDate.of(years[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    public PersianDate ofEpochDay() {
+        return PersianDate.ofEpochDay(epochDays[next()]);
+    }
+
+    @Benchmark
+    public PersianDate ofJulianDays() {
+        return PersianDate.ofJulianDays(julianDays[next()]);
+    }
+
+    @Benchmark
+    public PersianDate fromGregorian() {
+        return PersianDate.fromGregorian(localDates[next()]);
+    }
+
+    @Benchmark
+    public LocalDate toGregorian() {
+        return persianDates[next()].toGregorian();
+    }
+
+    @Benchmark
+    public PersianDate plusDays() {
+        int i = next();
+        return persianDates[i].plusDays(amounts[i]);
+    }
+
+    @Benchmark
+    public PersianDate plusMonths() {
+        int i = next();
+        return persianDates[i].plusMonths(amounts[i]);
+    }
+
+    @Benchmark
+    public long untilDays() {
+        int i = next();
+        return persianDates[i].until(otherPersianDates[i], ChronoUnit.DAYS);
+    }
+
+    @Benchmark
+    public ChronoPeriod untilPeriod() {
+        int i = next();
+        return persianDates[i].until(otherPersianDates[i]);
+    }
+
+    @Benchmark
+    public DayOfWeek getDayOfWeek() {
+        return persianDates[next()].getDayOfWeek();
+    }
+
+    @Benchmark
+    public int hashCodeOf() {
+        return persianDates[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean equalsTo() {
+        int i = next();
+        return persianDates[i].equals(otherPersianDates[i]);
+    }
+
+    @Benchmark
+    public String toStringOf() {
+        return persianDates[next()].toString();
+    }
+
+    @Benchmark
+    public StringBuilder formatToStringBuilder() {
+        sb.setLength(0);
+        persianDates[next()].formatTo(sb);
+        return sb;
+    }
+
+    @Benchmark
+    public char[] formatToCharArray() {
+        persianDates[next()].formatTo(buf, 0);
+        return buf;
+    }
+
+    @Benchmark
+    public PersianDate parse() {
+        return PersianDate.parse(texts[next()]);
+    }
+
+    @Benchmark
+    public int parsePackedBytes() {
+        byte[] text = asciiTexts[next()];
+        return PackedPersianDate.parse(text, 0, text.length);
+    }
+
+    /**
+     * Parses an ISO date with {@code java.time}, as a reference for {@link #parse()}.
+     */
+    @Benchmark
+    public LocalDate parseIsoLocalDate() {
+        return LocalDate.parse(isoTexts[next()]);
+    }
+}
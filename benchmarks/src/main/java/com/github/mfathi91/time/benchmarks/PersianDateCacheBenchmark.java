@@ -0,0 +1,70 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDateCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of creating {@link PersianDate} instances with {@link PersianDateCache}
+ * enabled for all of the dates of the benchmark, to be compared with the same
+ * benchmarks of {@link PersianDateBenchmark}.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateCacheBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private final int[] years = new int[SIZE];
+    private final int[] months = new int[SIZE];
+    private final int[] days = new int[SIZE];
+    private final long[] epochDays = new long[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        PersianDate first = PersianDate.of(1350, 1, 1);
+        PersianDate last = PersianDate.of(1450, 12, 29);
+        PersianDateCache.enable(first, last);
+        Random random = new Random(1396);
+        for (int i = 0; i < SIZE; i++) {
+            PersianDate pd = first.plusDays(random.nextInt((int) (last.toEpochDay() - first.toEpochDay())));
+            years[i] = pd.getYear();
+            months[i] = pd.getMonthValue();
+            days[i] = pd.getDayOfMonth();
+            epochDays[i] = pd.toEpochDay();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        PersianDateCache.disable();
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public PersianDate of() {
+        int i = next();
+        return PersianDate.of(years[i], months[i], days[i]);
+    }
+
+    @Benchmark
+    public PersianDate ofEpochDay() {
+        return PersianDate.ofEpochDay(epochDays[next()]);
+    }
+}
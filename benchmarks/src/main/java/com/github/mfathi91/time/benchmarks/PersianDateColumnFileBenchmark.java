@@ -0,0 +1,111 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PackedPersianDate;
+import com.github.mfathi91.time.PersianDateColumnFile;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of a sequential scan of a column file of 16M dates, by
+ * {@link PersianDateColumnFile}, compared with reading the file into the heap before
+ * scanning it, and with scanning an array of packed dates that is already on the heap.
+ * The file is in the page cache after the first iteration.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateColumnFileBenchmark {
+
+    private static final int SIZE = 1 << 24;
+
+    private final int[] packed = new int[SIZE];
+
+    private Path path;
+
+    private PersianDateColumnFile column;
+
+    private ByteBuffer heapBuffer;
+
+    @Setup
+    public void setup() throws IOException {
+        int date = PackedPersianDate.of(1300, 1, 1);
+        for (int i = 0; i < SIZE; i++) {
+            // 128 rows a day
+            if ((i & 127) == 127) {
+                date = PackedPersianDate.plusDays(date, 1);
+            }
+            packed[i] = date;
+        }
+        path = Files.createTempFile("persian-dates", ".pdc");
+        PersianDateColumnFile.write(path, packed, 0, SIZE);
+        column = PersianDateColumnFile.open(path);
+        heapBuffer = ByteBuffer.allocate((int) Files.size(path)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.delete(path);
+    }
+
+    @Benchmark
+    public long scanMapped() {
+        long sum = 0;
+        for (long i = 0, size = column.size(); i < size; i++) {
+            sum += column.getPacked(i) & 0x1F;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scanMappedForEach() {
+        long[] sum = new long[1];
+        column.forEachPacked(0, column.size(), date -> sum[0] += date & 0x1F);
+        return sum[0];
+    }
+
+    @Benchmark
+    public long scanMappedDates() {
+        long sum = 0;
+        for (long i = 0, size = column.size(); i < size; i++) {
+            sum += column.get(i).getDayOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long readAndScan() throws IOException {
+        heapBuffer.clear();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (heapBuffer.hasRemaining() && channel.read(heapBuffer) >= 0) {
+                // read the whole file
+            }
+        }
+        long sum = 0;
+        for (int i = 16; i < heapBuffer.capacity(); i += 4) {
+            sum += heapBuffer.getInt(i) & 0x1F;
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long scanHeapArray() {
+        long sum = 0;
+        for (int date : packed) {
+            sum += date & 0x1F;
+        }
+        return sum;
+    }
+}
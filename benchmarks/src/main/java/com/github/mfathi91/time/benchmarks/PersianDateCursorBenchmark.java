@@ -0,0 +1,66 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDateCursor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of iterating over the days of 1300 to 1500, and over their months, by a
+ * {@link PersianDateCursor}, compared with loops of {@link PersianDate#plusDays(long)}
+ * and {@link PersianDate#plusMonths(long)}. The days are bucketed by day-of-week, as in
+ * an aggregation.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateCursorBenchmark {
+
+    private final PersianDate start = PersianDate.of(1300, 1, 1);
+
+    private final PersianDate end = PersianDate.of(1500, 1, 1);
+
+    private final PersianDateCursor cursor = PersianDateCursor.of(start);
+
+    private final long[] buckets = new long[7];
+
+    @Benchmark
+    public long[] plusDaysLoop() {
+        for (PersianDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+            buckets[date.getDayOfWeek().ordinal()] += date.getDayOfMonth();
+        }
+        return buckets;
+    }
+
+    @Benchmark
+    public long[] cursorNextDay() {
+        for (cursor.set(start); cursor.isBefore(end); cursor.nextDay()) {
+            buckets[cursor.getDayOfWeek().ordinal()] += cursor.getDayOfMonth();
+        }
+        return buckets;
+    }
+
+    @Benchmark
+    public long plusMonthsLoop() {
+        long sum = 0;
+        for (PersianDate date = start; date.isBefore(end); date = date.plusMonths(1)) {
+            sum += date.lengthOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long cursorNextMonth() {
+        long sum = 0;
+        for (cursor.set(start); cursor.isBefore(end); cursor.nextMonth()) {
+            sum += cursor.lengthOfMonth();
+        }
+        return sum;
+    }
+}
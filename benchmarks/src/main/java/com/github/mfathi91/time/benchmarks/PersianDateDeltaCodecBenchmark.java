@@ -0,0 +1,121 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDateDeltaCodec;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of writing and reading a sorted column of 65536 dates, with a few rows on
+ * every day like an audit log, by {@link PersianDateDeltaCodec}, compared with the three
+ * bytes of {@link PersianDate#writeTo(ByteBuffer)} and with the text of the dates.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateDeltaCodecBenchmark {
+
+    private static final int SIZE = 1 << 16;
+
+    private final PersianDate[] dates = new PersianDate[SIZE];
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(SIZE * 10);
+
+    private ByteBuffer deltas;
+
+    private ByteBuffer packed;
+
+    private ByteBuffer text;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        PersianDate date = PersianDate.of(1390, 1, 1);
+        for (int i = 0; i < SIZE; i++) {
+            // about four rows a day
+            if (random.nextInt(4) == 0) {
+                date = date.plusDays(1);
+            }
+            dates[i] = date;
+        }
+        deltas = ByteBuffer.allocate(SIZE * 10);
+        PersianDateDeltaCodec.encode(dates, 0, SIZE, deltas);
+        deltas.flip();
+        packed = ByteBuffer.allocate(SIZE * PersianDate.BYTES);
+        for (PersianDate d : dates) {
+            d.writeTo(packed);
+        }
+        packed.flip();
+        text = ByteBuffer.allocate(SIZE * 10);
+        for (PersianDate d : dates) {
+            text.put(d.toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        text.flip();
+    }
+
+    @Benchmark
+    public int encodeDeltas() {
+        buffer.clear();
+        return PersianDateDeltaCodec.encode(dates, 0, SIZE, buffer);
+    }
+
+    @Benchmark
+    public int encodePacked() {
+        buffer.clear();
+        for (PersianDate date : dates) {
+            date.writeTo(buffer);
+        }
+        return buffer.position();
+    }
+
+    @Benchmark
+    public long decodeDeltas() {
+        deltas.rewind();
+        long sum = 0;
+        PersianDateDeltaCodec.Decoder decoder = PersianDateDeltaCodec.decoder(deltas);
+        while (decoder.hasNext()) {
+            sum += decoder.next().getDayOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodeDeltasEpochDays() {
+        deltas.rewind();
+        long sum = 0;
+        PersianDateDeltaCodec.Decoder decoder = PersianDateDeltaCodec.decoder(deltas);
+        while (decoder.hasNext()) {
+            sum += decoder.nextEpochDay();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodePacked() {
+        packed.rewind();
+        long sum = 0;
+        while (packed.hasRemaining()) {
+            sum += PersianDate.readFrom(packed).getDayOfMonth();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long decodeText() {
+        byte[] bytes = text.array();
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += PersianDate.parse(new String(bytes, i * 10, 10, StandardCharsets.US_ASCII)).getDayOfMonth();
+        }
+        return sum;
+    }
+}
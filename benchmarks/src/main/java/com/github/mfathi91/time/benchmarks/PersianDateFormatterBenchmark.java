@@ -0,0 +1,87 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianChronology;
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDateFormatter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.chrono.ChronoLocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link PersianDateFormatter}, compared with {@link DateTimeFormatter}
+ * on the same pattern and dates.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateFormatterBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private static final String PATTERN = "yyyy/MM/dd";
+
+    private final PersianDateFormatter persianFormatter = PersianDateFormatter.ofPattern(PATTERN);
+
+    private final DateTimeFormatter dateTimeFormatter =
+            DateTimeFormatter.ofPattern(PATTERN).withChronology(PersianChronology.INSTANCE);
+
+    private final PersianDate[] dates = new PersianDate[SIZE];
+
+    private final String[] texts = new String[SIZE];
+
+    private final StringBuilder sb = new StringBuilder(32);
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        long minEpochDay = PersianDate.of(1300, 1, 1).toEpochDay();
+        long maxEpochDay = PersianDate.of(1500, 12, 29).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = PersianDate.ofEpochDay(minEpochDay + random.nextInt((int) (maxEpochDay - minEpochDay)));
+            texts[i] = persianFormatter.format(dates[i]);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public String format() {
+        return persianFormatter.format(dates[next()]);
+    }
+
+    @Benchmark
+    public StringBuilder formatTo() {
+        sb.setLength(0);
+        persianFormatter.formatTo(dates[next()], sb);
+        return sb;
+    }
+
+    @Benchmark
+    public String formatDateTimeFormatter() {
+        return dateTimeFormatter.format(dates[next()]);
+    }
+
+    @Benchmark
+    public PersianDate parse() {
+        return persianFormatter.parse(texts[next()]);
+    }
+
+    @Benchmark
+    public ChronoLocalDate parseDateTimeFormatter() {
+        return dateTimeFormatter.parse(texts[next()], PersianChronology.INSTANCE::date);
+    }
+}
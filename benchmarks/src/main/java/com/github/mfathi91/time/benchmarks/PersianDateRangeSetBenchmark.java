@@ -0,0 +1,73 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDateRangeSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of checking if a date is in one of 512 disjoint ranges of dates from 1300 to
+ * 1500, by {@link PersianDateRangeSet#contains(PersianDate)}, compared with a
+ * {@link TreeMap} from the start date of each range to its end date.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateRangeSetBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private static final int RANGES = 512;
+
+    private final PersianDate[] dates = new PersianDate[SIZE];
+
+    private final PersianDateRangeSet rangeSet = new PersianDateRangeSet();
+
+    private final TreeMap<PersianDate, PersianDate> treeMap = new TreeMap<>();
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        PersianDate first = PersianDate.of(1300, 1, 1);
+        long days = PersianDate.of(1500, 1, 1).toEpochDay() - first.toEpochDay();
+        long step = days / RANGES;
+        for (int i = 0; i < RANGES; i++) {
+            PersianDate start = first.plusDays(i * step + random.nextInt((int) step / 2));
+            PersianDate end = start.plusDays(1 + random.nextInt((int) step / 2));
+            rangeSet.add(start, end);
+            treeMap.put(start, end);
+        }
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = first.plusDays((long) (random.nextDouble() * days));
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return rangeSet.contains(dates[next()]);
+    }
+
+    @Benchmark
+    public boolean containsTreeMap() {
+        PersianDate date = dates[next()];
+        Map.Entry<PersianDate, PersianDate> entry = treeMap.floorEntry(date);
+        return entry != null && date.isBefore(entry.getValue());
+    }
+}
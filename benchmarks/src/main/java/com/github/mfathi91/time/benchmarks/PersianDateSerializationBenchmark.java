@@ -0,0 +1,85 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of writing a Persian date to bytes and reading it back, by
+ * {@link PersianDate#writeTo(ByteBuffer)} and {@link PersianDate#readFrom(ByteBuffer)},
+ * compared with its string form, and of Java serialization of a date, compared with
+ * Java serialization of its string form.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateSerializationBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private final PersianDate[] dates = new PersianDate[SIZE];
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(16);
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = PersianDate.of(1300 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(29));
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public PersianDate byteBuffer() {
+        buffer.clear();
+        dates[next()].writeTo(buffer);
+        buffer.flip();
+        return PersianDate.readFrom(buffer);
+    }
+
+    @Benchmark
+    public PersianDate byteBufferString() {
+        buffer.clear();
+        buffer.put(dates[next()].toString().getBytes(StandardCharsets.US_ASCII));
+        buffer.flip();
+        return PersianDate.parse(StandardCharsets.US_ASCII.decode(buffer));
+    }
+
+    @Benchmark
+    public Object javaSerialization() throws IOException, ClassNotFoundException {
+        return serializeAndDeserialize(dates[next()]);
+    }
+
+    @Benchmark
+    public Object javaSerializationString() throws IOException, ClassNotFoundException {
+        return PersianDate.parse((String) serializeAndDeserialize(dates[next()].toString()));
+    }
+
+    private static Object serializeAndDeserialize(Object object) throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDateTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the time arithmetic of {@link PersianDateTime}, compared with
+ * {@link LocalDateTime}.
+ * <p>
+ * The conversions of epoch milliseconds to a Persian date-time in a time-zone are
+ * compared with {@link LocalDateTime#ofInstant(Instant, ZoneId)} followed by
+ * {@link PersianDate#fromGregorian(java.time.LocalDate)}.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDateTimeBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private final PersianDateTime[] persianDateTimes = new PersianDateTime[SIZE];
+
+    private final LocalDateTime[] localDateTimes = new LocalDateTime[SIZE];
+
+    private final long[] seconds = new long[SIZE];
+
+    private final long[] epochMillis = new long[SIZE];
+
+    private final ZoneId tehran = ZoneId.of("Asia/Tehran");
+
+    private final ZoneId london = ZoneId.of("Europe/London");
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        long minEpochDay = PersianDate.of(1300, 1, 1).toEpochDay();
+        long maxEpochDay = PersianDate.of(1500, 12, 29).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            PersianDate date = PersianDate.ofEpochDay(minEpochDay + random.nextInt((int) (maxEpochDay - minEpochDay)));
+            LocalTime time = LocalTime.ofSecondOfDay(random.nextInt(86400));
+            persianDateTimes[i] = PersianDateTime.of(date, time);
+            localDateTimes[i] = LocalDateTime.of(date.toGregorian(), time);
+            seconds[i] = random.nextInt(200_000) - 100_000;
+            // from 2015 to 2025
+            epochMillis[i] = 1420070400000L + (long) (random.nextDouble() * 315_532_800_000L);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public PersianDateTime plusSeconds() {
+        int i = next();
+        return persianDateTimes[i].plusSeconds(seconds[i]);
+    }
+
+    @Benchmark
+    public LocalDateTime plusSecondsLocalDateTime() {
+        int i = next();
+        return localDateTimes[i].plusSeconds(seconds[i]);
+    }
+
+    @Benchmark
+    public PersianDateTime plusHours() {
+        int i = next();
+        return persianDateTimes[i].plusHours(seconds[i] >> 8);
+    }
+
+    @Benchmark
+    public long until() {
+        int i = next();
+        return persianDateTimes[i].until(persianDateTimes[(i + 1) & MASK], ChronoUnit.SECONDS);
+    }
+
+    @Benchmark
+    public long untilLocalDateTime() {
+        int i = next();
+        return localDateTimes[i].until(localDateTimes[(i + 1) & MASK], ChronoUnit.SECONDS);
+    }
+
+    @Benchmark
+    public PersianDateTime ofEpochMilli() {
+        return PersianDateTime.ofEpochMilli(epochMillis[next()], tehran);
+    }
+
+    @Benchmark
+    public PersianDateTime ofEpochMilliDaylightSaving() {
+        return PersianDateTime.ofEpochMilli(epochMillis[next()], london);
+    }
+
+    @Benchmark
+    public PersianDate ofEpochMilliLocalDateTime() {
+        LocalDateTime ldt = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[next()]), tehran);
+        return PersianDate.fromGregorian(ldt.toLocalDate());
+    }
+
+    @Benchmark
+    public PersianDate ofEpochMilliLocalDateTimeDaylightSaving() {
+        LocalDateTime ldt = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[next()]), london);
+        return PersianDate.fromGregorian(ldt.toLocalDate());
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PackedPersianDate;
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianDates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of sorting and searching 1M random dates of ten years by
+ * {@link PersianDates}, compared with {@link Arrays} and the natural order of
+ * {@link PersianDate}. {@code binarySearchPacked} searches an array of the packed
+ * forms of the dates.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianDatesSortBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    private final PersianDate[] dates = new PersianDate[SIZE];
+
+    private final PersianDate[] datesToSort = new PersianDate[SIZE];
+
+    private final PersianDate[] sortedDates = new PersianDate[SIZE];
+
+    private final int[] sortedPacked = new int[SIZE];
+
+    private final PersianDate[] keys = new PersianDate[1024];
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        long first = PersianDate.of(1390, 1, 1).toEpochDay();
+        for (int i = 0; i < SIZE; i++) {
+            dates[i] = PersianDate.ofEpochDay(first + random.nextInt(3652));
+        }
+        System.arraycopy(dates, 0, sortedDates, 0, SIZE);
+        Arrays.sort(sortedDates);
+        for (int i = 0; i < SIZE; i++) {
+            sortedPacked[i] = PackedPersianDate.pack(sortedDates[i]);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = PersianDate.ofEpochDay(first + random.nextInt(3652));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        System.arraycopy(dates, 0, datesToSort, 0, SIZE);
+    }
+
+    @Benchmark
+    public PersianDate[] radixSort() {
+        PersianDates.sort(datesToSort);
+        return datesToSort;
+    }
+
+    @Benchmark
+    public PersianDate[] arraysSortNaturalOrder() {
+        Arrays.sort(datesToSort, Comparator.naturalOrder());
+        return datesToSort;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int binarySearchDates() {
+        int sum = 0;
+        for (PersianDate key : keys) {
+            sum += PersianDates.binarySearch(sortedDates, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int binarySearchPacked() {
+        int sum = 0;
+        for (PersianDate key : keys) {
+            sum += PersianDates.binarySearch(sortedPacked, key);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int arraysBinarySearch() {
+        int sum = 0;
+        for (PersianDate key : keys) {
+            sum += Arrays.binarySearch(sortedDates, key);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.mfathi91.time.benchmarks;
+
+import com.github.mfathi91.time.PersianDate;
+import com.github.mfathi91.time.PersianZonedDateTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of converting epoch milliseconds to a Persian date in a time-zone, and of
+ * finding the start of that Persian day, by {@link PersianZonedDateTime}, compared with
+ * converting through {@link ZonedDateTime} and {@link PersianDate#fromGregorian(LocalDate)}.
+ *
+ * @author Mahmoud Fathi
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PersianZonedDateTimeBenchmark {
+
+    private static final int SIZE = 1024;
+
+    private static final int MASK = SIZE - 1;
+
+    private final ZoneId tehran = ZoneId.of("Asia/Tehran");
+
+    private final long[] epochMillis = new long[SIZE];
+
+    private int index;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(1396);
+        for (int i = 0; i < SIZE; i++) {
+            // from 2015 to 2025
+            epochMillis[i] = 1420070400000L + (long) (random.nextDouble() * 315_532_800_000L);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & MASK;
+    }
+
+    @Benchmark
+    public PersianZonedDateTime ofEpochMilli() {
+        return PersianZonedDateTime.ofEpochMilli(epochMillis[next()], tehran);
+    }
+
+    @Benchmark
+    public PersianDate ofEpochMilliZonedDateTime() {
+        ZonedDateTime zdt = Instant.ofEpochMilli(epochMillis[next()]).atZone(tehran);
+        return PersianDate.fromGregorian(zdt.toLocalDate());
+    }
+
+    @Benchmark
+    public long startOfDay() {
+        PersianZonedDateTime pzdt = PersianZonedDateTime.ofEpochMilli(epochMillis[next()], tehran);
+        return pzdt.toLocalDate().atStartOfDay(tehran).toEpochSecond();
+    }
+
+    @Benchmark
+    public long startOfDayZonedDateTime() {
+        ZonedDateTime zdt = Instant.ofEpochMilli(epochMillis[next()]).atZone(tehran);
+        LocalDate date = PersianDate.fromGregorian(zdt.toLocalDate()).toGregorian();
+        return date.atStartOfDay(tehran).toEpochSecond();
+    }
+}
@@ -113,4 +113,36 @@ public class MyUtils {
             }
         return val;
     }
+
+    /**
+     * Checks whether {@code fromIndex}, inclusive, and {@code toIndex}, exclusive, are a
+     * range of an array of length {@code arrayLength}. If they are not, an
+     * IndexOutOfBoundsException will be thrown with a suitable message.
+     *
+     * @param arrayLength length of the array
+     * @param fromIndex   index of the first element of the range
+     * @param toIndex     index after the last element of the range
+     */
+    static void checkFromToIndex(int arrayLength, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > arrayLength || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex " + fromIndex + ", toIndex " + toIndex +
+                    ", array length " + arrayLength);
+        }
+    }
+
+    /**
+     * Checks whether {@code length} elements starting at {@code offset} are a range of an
+     * array of length {@code arrayLength}. If they are not, an IndexOutOfBoundsException
+     * will be thrown with a suitable message.
+     *
+     * @param arrayLength length of the array
+     * @param offset      index of the first element of the range
+     * @param length      number of elements of the range
+     */
+    static void checkOffsetLength(int arrayLength, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > arrayLength - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length +
+                    ", array length " + arrayLength);
+        }
+    }
 }
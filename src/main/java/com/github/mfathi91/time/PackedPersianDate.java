@@ -0,0 +1,410 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.Objects;
+
+/**
+ * This class provides static methods to represent a Persian date as a single
+ * {@code int}, and to operate on such packed dates without creating instances
+ * of {@link PersianDate}.
+ * <p>
+ * A packed date holds year, month-of-year and day-of-month in its bits as
+ * {@code year << 9 | month << 5 | dayOfMonth}. All of the packed dates are positive,
+ * and comparing two packed dates as {@code int}s gives the same result as comparing
+ * them chronologically, so arrays of packed dates can be sorted and searched by
+ * {@link java.util.Arrays}.
+ * <p>
+ * Methods of this class accept only valid packed dates, which are the ones that are
+ * returned by the methods of this class; a {@link DateTimeException} is thrown otherwise.
+ * It is not possible to get an instance of this class.
+ * <p>
+ * This class is stateless and thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+public final class PackedPersianDate {
+
+    /**
+     * The value that is returned by the parse methods, if the text is not a valid date.
+     * It is not a valid packed date.
+     */
+    public static final int INVALID = -1;
+
+    /**
+     * The packed form of {@link PersianDate#MIN}.
+     */
+    public static final int MIN = pack(PersianDate.MIN);
+
+    /**
+     * The packed form of {@link PersianDate#MAX}.
+     */
+    public static final int MAX = pack(PersianDate.MAX);
+
+    // Ensure non-instantiability
+    private PackedPersianDate() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Packs year, month and day-of-month into an {@code int}.
+     *
+     * @param year       the year to represent, from 1 to MAX_YEAR
+     * @param month      the value of month, from 1 to 12
+     * @param dayOfMonth the dayOfMonth to represent, from 1 to 31
+     * @return the packed date
+     * @throws DateTimeException if the passed parameters do not form a valid date
+     */
+    public static int of(int year, int month, int dayOfMonth) {
+        if (year >= PersianYearTable.MIN_YEAR && year <= PersianYearTable.MAX_YEAR &&
+                month >= 1 && month <= 12 && dayOfMonth >= 1 && dayOfMonth <= 31) {
+            int packed = packUnchecked(year, month, dayOfMonth);
+            if (isValid(packed)) {
+                return packed;
+            }
+        }
+        // Throws an exception that tells which of the fields is invalid
+        return pack(PersianDate.of(year, month, dayOfMonth));
+    }
+
+    /**
+     * Packs {@code date} into an {@code int}.
+     *
+     * @param date the date to pack, not null
+     * @return the packed date
+     */
+    public static int pack(PersianDate date) {
+        Objects.requireNonNull(date, "date");
+        return packUnchecked(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    /**
+     * Obtains an instance of {@link PersianDate} from a packed date.
+     *
+     * @param packed the packed date
+     * @return the equivalent {@code PersianDate}, not null
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static PersianDate toPersianDate(int packed) {
+        return PersianDate.of(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    /**
+     * Returns true if {@code packed} is a valid packed date.
+     *
+     * @param packed the value to check
+     * @return true if {@code packed} represents a valid Persian date
+     */
+    public static boolean isValid(int packed) {
+        int year = packed >>> 9;
+        int month = (packed >>> 5) & 0xF;
+        int day = packed & 0x1F;
+        return year >= PersianYearTable.MIN_YEAR && year <= PersianYearTable.MAX_YEAR &&
+                month >= 1 && month <= 12 && day >= 1 &&
+                day <= PersianMonth.of(month).length(PersianYearTable.isLeapYear(year));
+    }
+
+    /**
+     * @param packed the packed date
+     * @return the year
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static int getYear(int packed) {
+        return check(packed) >>> 9;
+    }
+
+    /**
+     * @param packed the packed date
+     * @return the month-of-year, from 1 to 12
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static int getMonthValue(int packed) {
+        return (check(packed) >>> 5) & 0xF;
+    }
+
+    /**
+     * @param packed the packed date
+     * @return day-of-month, from 1 to 31
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static int getDayOfMonth(int packed) {
+        return check(packed) & 0x1F;
+    }
+
+    /**
+     * @param packed the packed date
+     * @return day-of-year, from 1 to 365 or 366 in a leap year
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static int getDayOfYear(int packed) {
+        check(packed);
+        return PersianYearTable.daysBeforeMonth((packed >>> 5) & 0xF) + (packed & 0x1F);
+    }
+
+    /**
+     * Returns day-of-week of a packed date.
+     *
+     * @param packed the packed date
+     * @return day-of-week, not null
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static DayOfWeek getDayOfWeek(int packed) {
+        // 1970-01-01 (epoch day 0) is a Thursday
+        return DayOfWeek.of((int) Math.floorMod(toEpochDay(packed) + 3, 7L) + 1);
+    }
+
+    /**
+     * Returns the epoch day of a packed date.
+     *
+     * @param packed the packed date
+     * @return the epoch day
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static long toEpochDay(int packed) {
+        check(packed);
+        return PersianYearTable.toEpochDay(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    /**
+     * Returns the packed date of an epoch day.
+     *
+     * @param epochDay the epoch day
+     * @return the packed date
+     * @throws DateTimeException if the epoch day exceeds the supported date range
+     */
+    public static int ofEpochDay(long epochDay) {
+        if (!PersianYearTable.isSupportedEpochDay(epochDay)) {
+            throw new DateTimeException("Invalid value for EpochDay: " + epochDay + ", valid values: [" +
+                    PersianYearTable.MIN_EPOCH_DAY + ", " + PersianYearTable.MAX_EPOCH_DAY + "]");
+        }
+        return ofEpochDayUnchecked(epochDay);
+    }
+
+    /**
+     * Returns a packed date with the specified number of days added. This is the
+     * equivalent of {@link PersianDate#plusDays(long)}.
+     *
+     * @param packed    the packed date
+     * @param daysToAdd the days to add, may be negative
+     * @return the packed date with the days added
+     * @throws DateTimeException if {@code packed} is not a valid packed date, or if the
+     *                           result exceeds the supported date range
+     */
+    public static int plusDays(int packed, long daysToAdd) {
+        if (daysToAdd == 0) {
+            return check(packed);
+        }
+        return ofEpochDay(Math.addExact(toEpochDay(packed), daysToAdd));
+    }
+
+    /**
+     * Returns a packed date with the specified number of months added. This is the
+     * equivalent of {@link PersianDate#plusMonths(long)}, that is, the day-of-month is
+     * adjusted to the last valid day of month if necessary.
+     *
+     * @param packed      the packed date
+     * @param monthsToAdd the months to add, may be negative
+     * @return the packed date with the months added
+     * @throws DateTimeException if {@code packed} is not a valid packed date, or if the
+     *                           result exceeds the supported date range
+     */
+    public static int plusMonths(int packed, long monthsToAdd) {
+        check(packed);
+        if (monthsToAdd == 0) {
+            return packed;
+        }
+        long calcMonths = (packed >>> 9) * 12L + ((packed >>> 5) & 0xF) - 1 + monthsToAdd;
+        long newYear = Math.floorDiv(calcMonths, 12L);
+        PersianChronology.INSTANCE.checkValidYear(newYear);
+        int year = (int) newYear;
+        int month = (int) Math.floorMod(calcMonths, 12L) + 1;
+        int day = Math.min(packed & 0x1F, PersianMonth.of(month).length(PersianYearTable.isLeapYear(year)));
+        return packUnchecked(year, month, day);
+    }
+
+    /**
+     * Compares two packed dates chronologically. This is the same as comparing them
+     * by {@link Integer#compare(int, int)}.
+     *
+     * @param packed1 the first packed date
+     * @param packed2 the second packed date
+     * @return negative if {@code packed1} is before {@code packed2}, positive if it is after
+     * and zero if they are the same date
+     */
+    public static int compare(int packed1, int packed2) {
+        return Integer.compare(packed1, packed2);
+    }
+
+    /**
+     * Returns the string representation of a packed date, which is the same as
+     * {@link PersianDate#toString()}.
+     *
+     * @param packed the packed date
+     * @return a suitable representation of the packed date
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    public static String toString(int packed) {
+        return toPersianDate(packed).toString();
+    }
+
+    /**
+     * Parses a date from a text such as {@code 1396-08-07} or {@code 1396/08/07}. The text
+     * must consist of four digits of year, two digits of month-of-year and two digits of
+     * day-of-month, separated by either {@code '-'} or {@code '/'}. This is the same format
+     * as {@link PersianDate#parse(CharSequence)}, but errors are reported by returning
+     * {@link #INVALID} instead of throwing an exception.
+     *
+     * @param text the text to parse, not null
+     * @return the packed date, or {@link #INVALID} if the text is not a valid date
+     */
+    public static int parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        return ofYyyymmdd(scan(text, 0, text.length()));
+    }
+
+    /**
+     * Parses a date from {@code length} characters of {@code buf} starting at {@code offset}.
+     * The format is the same as {@link #parse(CharSequence)}.
+     *
+     * @param buf    the characters to parse, not null
+     * @param offset index of the first character to parse
+     * @param length number of characters to parse
+     * @return the packed date, or {@link #INVALID} if the text is not a valid date
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of
+     *                                   bounds of {@code buf}
+     */
+    public static int parse(char[] buf, int offset, int length) {
+        Objects.requireNonNull(buf, "buf");
+        MyUtils.checkOffsetLength(buf.length, offset, length);
+        return ofYyyymmdd(scan(buf, offset, length));
+    }
+
+    /**
+     * Parses a date from {@code length} bytes of {@code buf} starting at {@code offset}, which
+     * are ASCII (or UTF-8) characters. The format is the same as {@link #parse(CharSequence)}.
+     * This allows parsing dates directly from the bytes of a file or a network buffer.
+     *
+     * @param buf    the bytes to parse, not null
+     * @param offset index of the first byte to parse
+     * @param length number of bytes to parse
+     * @return the packed date, or {@link #INVALID} if the text is not a valid date
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of
+     *                                   bounds of {@code buf}
+     */
+    public static int parse(byte[] buf, int offset, int length) {
+        Objects.requireNonNull(buf, "buf");
+        MyUtils.checkOffsetLength(buf.length, offset, length);
+        return ofYyyymmdd(scan(buf, offset, length));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Packs year, month and day-of-month, which are already known to form a valid date.
+     */
+    static int packUnchecked(int year, int month, int dayOfMonth) {
+        return year << 9 | month << 5 | dayOfMonth;
+    }
+
+    /**
+     * Returns the packed date of an epoch day, which is already known to be supported.
+     */
+    static int ofEpochDayUnchecked(long epochDay) {
+        int year = PersianYearTable.yearOfEpochDay(epochDay);
+        int dayOfYear = (int) epochDay - PersianYearTable.firstEpochDay(year) + 1;
+        int month = PersianYearTable.monthOfDayOfYear(dayOfYear);
+        return packUnchecked(year, month, dayOfYear - PersianYearTable.daysBeforeMonth(month));
+    }
+
+    /**
+     * Scans a text in the format of {@link #parse(CharSequence)}, without validating the
+     * date. A digit is valid if {@code d | (9 - d)} is not negative, so all of the digits
+     * are checked by a single comparison.
+     *
+     * @return the fields as a decimal {@code yyyymmdd} number, or {@link #INVALID}
+     */
+    static int scan(CharSequence text, int offset, int length) {
+        if (length != 10) {
+            return INVALID;
+        }
+        char separator = text.charAt(offset + 4);
+        if ((separator != '-' && separator != '/') || text.charAt(offset + 7) != separator) {
+            return INVALID;
+        }
+        int d0 = text.charAt(offset) - '0';
+        int d1 = text.charAt(offset + 1) - '0';
+        int d2 = text.charAt(offset + 2) - '0';
+        int d3 = text.charAt(offset + 3) - '0';
+        int d5 = text.charAt(offset + 5) - '0';
+        int d6 = text.charAt(offset + 6) - '0';
+        int d8 = text.charAt(offset + 8) - '0';
+        int d9 = text.charAt(offset + 9) - '0';
+        return toYyyymmdd(d0, d1, d2, d3, d5, d6, d8, d9);
+    }
+
+    /**
+     * Does the same as {@link #scan(CharSequence, int, int)} for an array of characters.
+     */
+    static int scan(char[] buf, int offset, int length) {
+        if (length != 10) {
+            return INVALID;
+        }
+        char separator = buf[offset + 4];
+        if ((separator != '-' && separator != '/') || buf[offset + 7] != separator) {
+            return INVALID;
+        }
+        return toYyyymmdd(buf[offset] - '0', buf[offset + 1] - '0', buf[offset + 2] - '0', buf[offset + 3] - '0',
+                buf[offset + 5] - '0', buf[offset + 6] - '0', buf[offset + 8] - '0', buf[offset + 9] - '0');
+    }
+
+    /**
+     * Does the same as {@link #scan(CharSequence, int, int)} for an array of ASCII bytes.
+     */
+    static int scan(byte[] buf, int offset, int length) {
+        if (length != 10) {
+            return INVALID;
+        }
+        byte separator = buf[offset + 4];
+        if ((separator != '-' && separator != '/') || buf[offset + 7] != separator) {
+            return INVALID;
+        }
+        return toYyyymmdd(buf[offset] - '0', buf[offset + 1] - '0', buf[offset + 2] - '0', buf[offset + 3] - '0',
+                buf[offset + 5] - '0', buf[offset + 6] - '0', buf[offset + 8] - '0', buf[offset + 9] - '0');
+    }
+
+    private static int toYyyymmdd(int d0, int d1, int d2, int d3, int d5, int d6, int d8, int d9) {
+        int bad = d0 | (9 - d0) | d1 | (9 - d1) | d2 | (9 - d2) | d3 | (9 - d3) |
+                d5 | (9 - d5) | d6 | (9 - d6) | d8 | (9 - d8) | d9 | (9 - d9);
+        if (bad < 0) {
+            return INVALID;
+        }
+        return d0 * 10000000 + d1 * 1000000 + d2 * 100000 + d3 * 10000 + d5 * 1000 + d6 * 100 + d8 * 10 + d9;
+    }
+
+    /**
+     * Returns the packed date of a decimal {@code yyyymmdd} number, or {@link #INVALID} if
+     * it is not a valid date.
+     */
+    private static int ofYyyymmdd(int yyyymmdd) {
+        if (yyyymmdd == INVALID) {
+            return INVALID;
+        }
+        int month = yyyymmdd / 100 % 100;
+        int day = yyyymmdd % 100;
+        if (month > 12 || day > 31) {
+            return INVALID;
+        }
+        int packed = packUnchecked(yyyymmdd / 10000, month, day);
+        return isValid(packed) ? packed : INVALID;
+    }
+
+    private static int check(int packed) {
+        if (!isValid(packed)) {
+            throw new DateTimeException("Invalid packed Persian date: " + packed);
+        }
+        return packed;
+    }
+}
@@ -0,0 +1,314 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A calendar of working days in Persian calendar, which consists of weekend days and
+ * holidays.
+ * <p>
+ * The {@link #official() official} calendar has Friday as weekend, and the official
+ * holidays of Iran that fall on a fixed Persian date:
+ * <ul>
+ * <li>Farvardin 1 to 4, Nowruz</li>
+ * <li>Farvardin 12, Islamic Republic Day</li>
+ * <li>Farvardin 13, Nature Day</li>
+ * <li>Khordad 14 and 15, death of Imam Khomeini and the uprising of 15 Khordad</li>
+ * <li>Bahman 22, anniversary of the Islamic Revolution</li>
+ * <li>Esfand 29, nationalization of the oil industry</li>
+ * </ul>
+ * The religious holidays follow the lunar Hijri calendar, so they move by about eleven days
+ * every Persian year and are announced every year; they are not included, and must be
+ * added by {@link #withHolidays(PersianDateRangeSet)} as custom holidays.
+ * <p>
+ * The working days of all of the supported years are computed when a calendar is
+ * created, as a bitmap that has 384 bits for every year, indexed by day-of-year, along
+ * with the number of working days before every 64 days. So {@link #isWorkingDay(PersianDate)}
+ * is a single bit test, {@link #workingDaysBetween(PersianDate, PersianDate)} takes constant
+ * time and {@link #plusWorkingDays(PersianDate, long)} is a binary search, none of which
+ * goes through the days one by one or creates objects except the returned date. Every
+ * calendar takes about 150 kilobytes of memory.
+ * <p>
+ * This class is immutable and can be used in multi-threaded programs.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianBusinessCalendar {
+
+    /**
+     * The official holidays that fall on a fixed Persian date, as {@code month << 5 | day}.
+     */
+    private static final int[] OFFICIAL_HOLIDAYS = {
+            1 << 5 | 1, 1 << 5 | 2, 1 << 5 | 3, 1 << 5 | 4, 1 << 5 | 12, 1 << 5 | 13,
+            3 << 5 | 14, 3 << 5 | 15,
+            11 << 5 | 22,
+            12 << 5 | 29
+    };
+
+    /**
+     * Number of bits of every year, which is more than the days of a leap year and is a
+     * multiple of 64, so that every year starts at the start of a word.
+     */
+    private static final int BITS_PER_YEAR = 384;
+
+    private static final int WORDS_PER_YEAR = BITS_PER_YEAR / 64;
+
+    private static final int WORDS = (PersianYearTable.MAX_YEAR - PersianYearTable.MIN_YEAR + 1) * WORDS_PER_YEAR;
+
+    /**
+     * The official calendar, which is created on first use.
+     */
+    private static final class OfficialHolder {
+        static final PersianBusinessCalendar OFFICIAL = of(EnumSet.of(DayOfWeek.FRIDAY)).withOfficialHolidays();
+    }
+
+    private final Set<DayOfWeek> weekend;
+
+    /**
+     * A set bit for every working day, at {@code (year - MIN_YEAR) * 384 + dayOfYear - 1}.
+     * The bits after the last day of every year are clear.
+     */
+    private final long[] workingDays;
+
+    /**
+     * The number of working days before every word of {@link #workingDays}, with an extra
+     * element for the number of all of the working days.
+     */
+    private final int[] workingDaysBefore;
+
+    private PersianBusinessCalendar(Set<DayOfWeek> weekend, long[] workingDays) {
+        this.weekend = weekend;
+        this.workingDays = workingDays;
+        this.workingDaysBefore = new int[WORDS + 1];
+        for (int i = 0; i < WORDS; i++) {
+            workingDaysBefore[i + 1] = workingDaysBefore[i] + Long.bitCount(workingDays[i]);
+        }
+    }
+
+    /**
+     * Returns the official calendar of Iran, which has Friday as weekend and the official
+     * holidays that fall on a fixed Persian date. See the class documentation for the
+     * list of holidays.
+     *
+     * @return the official calendar, not null
+     */
+    public static PersianBusinessCalendar official() {
+        return OfficialHolder.OFFICIAL;
+    }
+
+    /**
+     * Obtains a calendar with the specified weekend days, and no holidays.
+     *
+     * @param weekend the days of week that are not working days, not null
+     * @return a calendar, not null
+     */
+    public static PersianBusinessCalendar of(Set<DayOfWeek> weekend) {
+        Objects.requireNonNull(weekend, "weekend");
+        Set<DayOfWeek> weekendCopy = weekend.isEmpty() ? EnumSet.noneOf(DayOfWeek.class) : EnumSet.copyOf(weekend);
+        // 64 days of working days that start on every day-of-week, from Monday
+        long[] patterns = new long[7];
+        for (int first = 0; first < 7; first++) {
+            for (int i = 0; i < 64; i++) {
+                if (!weekendCopy.contains(DayOfWeek.of((first + i) % 7 + 1))) {
+                    patterns[first] |= 1L << i;
+                }
+            }
+        }
+        long[] workingDays = new long[WORDS];
+        for (int year = PersianYearTable.MIN_YEAR; year <= PersianYearTable.MAX_YEAR; year++) {
+            int word = (year - PersianYearTable.MIN_YEAR) * WORDS_PER_YEAR;
+            int lengthOfYear = PersianYearTable.isLeapYear(year) ? 366 : 365;
+            // 1970-01-01 (epoch day 0) is a Thursday
+            int dayOfWeek = (int) Math.floorMod(PersianYearTable.firstEpochDay(year) + 3, 7L);
+            for (int i = 0; i < WORDS_PER_YEAR; i++) {
+                workingDays[word + i] = patterns[(dayOfWeek + i * 64) % 7];
+            }
+            int lastWord = word + lengthOfYear / 64;
+            workingDays[lastWord] &= (1L << (lengthOfYear & 63)) - 1;
+            for (int i = lastWord + 1; i < word + WORDS_PER_YEAR; i++) {
+                workingDays[i] = 0;
+            }
+        }
+        return new PersianBusinessCalendar(Collections.unmodifiableSet(weekendCopy), workingDays);
+    }
+
+    private PersianBusinessCalendar withOfficialHolidays() {
+        long[] bits = workingDays.clone();
+        for (int year = PersianYearTable.MIN_YEAR; year <= PersianYearTable.MAX_YEAR; year++) {
+            for (int holiday : OFFICIAL_HOLIDAYS) {
+                int dayOfYear = PersianYearTable.daysBeforeMonth(holiday >>> 5) + (holiday & 0x1F);
+                clear(bits, index(year, dayOfYear), index(year, dayOfYear) + 1);
+            }
+        }
+        return new PersianBusinessCalendar(weekend, bits);
+    }
+
+    /**
+     * Returns a copy of this calendar with the dates of {@code holidays} as additional
+     * holidays, such as the religious holidays of the year or the holidays of a company.
+     *
+     * @param holidays the additional holidays, not null
+     * @return a calendar based on this calendar with the additional holidays, not null
+     */
+    public PersianBusinessCalendar withHolidays(PersianDateRangeSet holidays) {
+        Objects.requireNonNull(holidays, "holidays");
+        long[] bits = workingDays.clone();
+        for (int i = 0; i < holidays.rangeCount(); i++) {
+            // the bits after the last day of a year are clear, so they can be cleared too
+            clear(bits, index(holidays.getStart(i)), index(holidays.getLast(i)) + 1);
+        }
+        return new PersianBusinessCalendar(weekend, bits);
+    }
+
+    /**
+     * Returns a copy of this calendar with {@code holiday} as an additional holiday.
+     *
+     * @param holiday the additional holiday, not null
+     * @return a calendar based on this calendar with the additional holiday, not null
+     */
+    public PersianBusinessCalendar withHoliday(PersianDate holiday) {
+        PersianDateRangeSet holidays = new PersianDateRangeSet();
+        holidays.add(holiday);
+        return withHolidays(holidays);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the days of week that are not working days, not null
+     */
+    public Set<DayOfWeek> getWeekend() {
+        return weekend;
+    }
+
+    /**
+     * Checks if a date is a working day, that is, it is neither a weekend day nor a
+     * holiday.
+     *
+     * @param date the date to check, not null
+     * @return true if {@code date} is a working day
+     */
+    public boolean isWorkingDay(PersianDate date) {
+        int index = index(date);
+        return (workingDays[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Checks if a date is a holiday, that is, it is not a working day although it is not
+     * a weekend day.
+     *
+     * @param date the date to check, not null
+     * @return true if {@code date} is a holiday
+     */
+    public boolean isHoliday(PersianDate date) {
+        return !isWorkingDay(date) && !weekend.contains(date.getDayOfWeek());
+    }
+
+    /**
+     * Returns the number of working days from {@code startInclusive} to
+     * {@code endExclusive}. The result is negative if the end is before the start.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @return the number of working days
+     */
+    public long workingDaysBetween(PersianDate startInclusive, PersianDate endExclusive) {
+        return rank(index(endExclusive)) - rank(index(startInclusive));
+    }
+
+    /**
+     * Returns the date that is {@code workingDays} working days after {@code date}. If
+     * {@code workingDays} is positive, the result is the working day, after {@code date},
+     * that has {@code workingDays - 1} working days between {@code date} and itself. If it
+     * is negative, the result is the working day before {@code date} that has
+     * {@code -workingDays - 1} working days between itself and {@code date}. If it is zero,
+     * {@code date} is returned, even if it is not a working day.
+     *
+     * @param date        the date to start from, not null
+     * @param workingDays the working days to add, may be negative
+     * @return the resulting working day, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDate plusWorkingDays(PersianDate date, long workingDays) {
+        int index = index(date);
+        if (workingDays == 0) {
+            return date;
+        }
+        // the rank of the result among all of the working days
+        long rank = workingDays > 0 ? rank(index + 1) + workingDays - 1 : rank(index) + workingDays;
+        if (rank < 0 || rank >= workingDaysBefore[WORDS]) {
+            throw new DateTimeException("Exceeds the supported date range: " + date + " plus " +
+                    workingDays + " working days");
+        }
+        return dateAt(select((int) rank));
+    }
+
+    //-----------------------------------------------------------------------
+
+    private static int index(PersianDate date) {
+        Objects.requireNonNull(date, "date");
+        return index(date.getYear(), date.getDayOfYear());
+    }
+
+    private static int index(int year, int dayOfYear) {
+        return (year - PersianYearTable.MIN_YEAR) * BITS_PER_YEAR + dayOfYear - 1;
+    }
+
+    private static PersianDate dateAt(int index) {
+        return PersianDate.ofYearDayUnchecked(index / BITS_PER_YEAR + PersianYearTable.MIN_YEAR,
+                index % BITS_PER_YEAR + 1);
+    }
+
+    /**
+     * Returns the number of working days before the bit at {@code index}.
+     */
+    private long rank(int index) {
+        int word = index >>> 6;
+        if (word == WORDS) {
+            return workingDaysBefore[WORDS];
+        }
+        return workingDaysBefore[word] + Long.bitCount(workingDays[word] & ((1L << index) - 1));
+    }
+
+    /**
+     * Returns the index of the working day that has {@code rank} working days before it.
+     */
+    private int select(int rank) {
+        // the last word that has at most rank working days before it
+        int lo = 0;
+        int hi = WORDS - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (workingDaysBefore[mid] <= rank) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        long bits = workingDays[lo];
+        for (int i = rank - workingDaysBefore[lo]; i > 0; i--) {
+            bits &= bits - 1;
+        }
+        return lo * 64 + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Clears the bits from {@code from}, inclusive, to {@code to}, exclusive.
+     */
+    private static void clear(long[] bits, int from, int to) {
+        for (int i = from; i < to; ) {
+            int word = i >>> 6;
+            int end = Math.min(to, (word + 1) * 64);
+            long mask = end - i == 64 ? -1L : ((1L << (end - i)) - 1) << i;
+            bits[word] &= ~mask;
+            i = end;
+        }
+    }
+}
@@ -3,16 +3,28 @@ package com.github.mfathi91.time;
 import net.jcip.annotations.Immutable;
 
 import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.chrono.AbstractChronology;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.Era;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
 import java.time.temporal.*;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 import static java.time.temporal.ChronoField.EPOCH_DAY;
+import static java.time.temporal.ChronoField.ERA;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.PROLEPTIC_MONTH;
 import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoField.YEAR_OF_ERA;
 
 /**
  * The Persian calendar (also known as Jalali calendar or Iranian calendar) is a solar calendar.
@@ -34,6 +46,60 @@ public final class PersianChronology extends AbstractChronology {
      */
     public static final PersianChronology INSTANCE = new PersianChronology();
 
+    /**
+     * Range of day-of-month.
+     */
+    private static final ValueRange DAY_OF_MONTH_RANGE = ValueRange.of(1, 1, 29, 31);
+
+    /**
+     * Range of day-of-year.
+     */
+    private static final ValueRange DAY_OF_YEAR_RANGE = ValueRange.of(1, 1, 365, 366);
+
+    /**
+     * Range of aligned-week-of-month.
+     */
+    private static final ValueRange ALIGNED_WEEK_OF_MONTH_RANGE = ValueRange.of(1, 5);
+
+    /**
+     * Range of year and year-of-era.
+     */
+    private static final ValueRange YEAR_RANGE = ValueRange.of(PersianYearTable.MIN_YEAR, PersianYearTable.MAX_YEAR);
+
+    /**
+     * Range of era, which only contains the current era.
+     */
+    static final ValueRange ERA_RANGE = ValueRange.of(1, 1);
+
+    /**
+     * Persian names of days-of-week, from Monday to Sunday.
+     */
+    static final String[] DAY_OF_WEEK_NAMES = {
+            "دوشنبه", "سه\u200Cشنبه", "چهارشنبه", "پنجشنبه", "جمعه", "شنبه", "یکشنبه"};
+
+    /**
+     * Persian names of months-of-year, keyed by {@link ChronoField#MONTH_OF_YEAR} value.
+     */
+    private static final Map<Long, String> MONTH_NAMES;
+
+    /**
+     * Persian names of days-of-week, keyed by {@link ChronoField#DAY_OF_WEEK} value.
+     */
+    private static final Map<Long, String> DAY_OF_WEEK_NAMES_MAP;
+
+    static {
+        Map<Long, String> monthNames = new LinkedHashMap<>();
+        for (PersianMonth month : PersianMonth.values()) {
+            monthNames.put((long) month.getValue(), month.getPersianName());
+        }
+        MONTH_NAMES = Collections.unmodifiableMap(monthNames);
+        Map<Long, String> dayOfWeekNames = new LinkedHashMap<>();
+        for (int i = 0; i < DAY_OF_WEEK_NAMES.length; i++) {
+            dayOfWeekNames.put((long) i + 1, DAY_OF_WEEK_NAMES[i]);
+        }
+        DAY_OF_WEEK_NAMES_MAP = Collections.unmodifiableMap(dayOfWeekNames);
+    }
+
     //-----------------------------------------------------------------------
 
     /**
@@ -55,9 +121,48 @@ public final class PersianChronology extends AbstractChronology {
         if(!(field instanceof ChronoField)){
             throw new DateTimeException("Parameter 'field' is not supported");
         }
-        ChronoField cf = (ChronoField) field;
-        if(!MyUtils.isBetween(value, range(cf).getMinimum(), range(cf).getMaximum())){
-            throw new DateTimeException("Invalid value for " + field + ", valid values: " + range(cf));
+        ValueRange range = range((ChronoField) field);
+        if(!range.isValidValue(value)){
+            throw new DateTimeException("Invalid value for " + field + ", valid values: " + range);
+        }
+    }
+
+    /**
+     * Checks whether parameter {@code year} is a valid year. This is a faster
+     * equivalent of {@code checkValidValue(year, YEAR)}, that does not need to
+     * look up the range of the field.
+     *
+     * @param year the year to check
+     */
+    void checkValidYear(long year) {
+        if (year < PersianYearTable.MIN_YEAR || year > PersianYearTable.MAX_YEAR) {
+            throw new DateTimeException("Invalid value for " + YEAR + ", valid values: " + YEAR_RANGE);
+        }
+    }
+
+    /**
+     * Checks whether parameter {@code month} is a valid month-of-year. This is a faster
+     * equivalent of {@code checkValidValue(month, MONTH_OF_YEAR)}.
+     *
+     * @param month the month-of-year to check
+     */
+    void checkValidMonth(long month) {
+        if (month < 1 || month > 12) {
+            throw new DateTimeException("Invalid value for " + MONTH_OF_YEAR + ", valid values: " +
+                    MONTH_OF_YEAR.range());
+        }
+    }
+
+    /**
+     * Checks whether parameter {@code dayOfMonth} is a valid day-of-month in any month.
+     * This is a faster equivalent of {@code checkValidValue(dayOfMonth, DAY_OF_MONTH)}.
+     *
+     * @param dayOfMonth the day-of-month to check
+     */
+    void checkValidDayOfMonth(long dayOfMonth) {
+        if (dayOfMonth < 1 || dayOfMonth > 31) {
+            throw new DateTimeException("Invalid value for " + DAY_OF_MONTH + ", valid values: " +
+                    DAY_OF_MONTH_RANGE);
         }
     }
 
@@ -71,7 +176,7 @@ public final class PersianChronology extends AbstractChronology {
      * @param dayOfYear the day-of-year to be checked, from 1 to 365 or 366 in a leap year
      */
     void checkDayOfYear(int year, int dayOfYear) {
-        checkValidValue(year, YEAR);
+        checkValidYear(year);
         int maxDayOfYear = isLeapYear(year) ? 366 : 365;
         if(!MyUtils.isBetween(dayOfYear, 1, maxDayOfYear)){
             throw new DateTimeException("Invalid value for dayOfYear: " + dayOfYear + " ");
@@ -80,6 +185,43 @@ public final class PersianChronology extends AbstractChronology {
 
     //-----------------------------------------------------------------------
 
+    /**
+     * Returns Persian names of months-of-year, such as {@code فروردین}, keyed by the value
+     * of {@link ChronoField#MONTH_OF_YEAR}.
+     * <p>
+     * {@link java.time.format.DateTimeFormatter} looks up names of months in the locale
+     * data of the ISO calendar, even for Persian dates. In order to print and parse
+     * Persian names, pass this map to
+     * {@link DateTimeFormatterBuilder#appendText(TemporalField, Map)}:
+     * <pre>
+     *   DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+     *           .appendValue(DAY_OF_MONTH).appendLiteral(' ')
+     *           .appendText(MONTH_OF_YEAR, PersianChronology.monthNames()).appendLiteral(' ')
+     *           .appendValue(YEAR_OF_ERA)
+     *           .toFormatter().withChronology(PersianChronology.INSTANCE);
+     * </pre>
+     *
+     * @return unmodifiable map of names of months, not null
+     * @see PersianMonth#getPersianName()
+     */
+    public static Map<Long, String> monthNames() {
+        return MONTH_NAMES;
+    }
+
+    /**
+     * Returns Persian names of days-of-week, such as {@code شنبه}, keyed by the value of
+     * {@link ChronoField#DAY_OF_WEEK}, which is from 1 (Monday) to 7 (Sunday). The map can
+     * be passed to {@link DateTimeFormatterBuilder#appendText(TemporalField, Map)}, as
+     * described in {@link #monthNames()}.
+     *
+     * @return unmodifiable map of names of days-of-week, not null
+     */
+    public static Map<Long, String> dayOfWeekNames() {
+        return DAY_OF_WEEK_NAMES_MAP;
+    }
+
+    //-----------------------------------------------------------------------
+
     /**
      * Gets the ID of the chronology.
      * <p>
@@ -137,7 +279,7 @@ public final class PersianChronology extends AbstractChronology {
     @Override
     public PersianDate dateYearDay(int prolepticYear, int dayOfYear) {
         checkDayOfYear(prolepticYear, dayOfYear);
-        return PersianDate.of(prolepticYear, 1, 1).plusDays(dayOfYear - 1);
+        return PersianDate.ofYearDayUnchecked(prolepticYear, dayOfYear);
     }
 
     /**
@@ -181,6 +323,106 @@ public final class PersianChronology extends AbstractChronology {
         return PersianDate.ofEpochDay(temporal.getLong(EPOCH_DAY));
     }
 
+    /**
+     * Obtains a Persian local date-time from another temporal object.
+     *
+     * @param temporal the temporal object to convert, not null
+     * @return the local date-time in this chronology, not null
+     * @throws DateTimeException if unable to create the date-time
+     * @see PersianDateTime#from(TemporalAccessor)
+     */
+    @Override
+    public PersianDateTime localDateTime(TemporalAccessor temporal) {
+        return PersianDateTime.from(temporal);
+    }
+
+    /**
+     * Obtains a Persian zoned date-time from another temporal object.
+     *
+     * @param temporal the temporal object to convert, not null
+     * @return the zoned date-time in this chronology, not null
+     * @throws DateTimeException if unable to create the date-time
+     * @see PersianZonedDateTime#from(TemporalAccessor)
+     */
+    @Override
+    public PersianZonedDateTime zonedDateTime(TemporalAccessor temporal) {
+        return PersianZonedDateTime.from(temporal);
+    }
+
+    /**
+     * Obtains a Persian zoned date-time from an instant.
+     *
+     * @param instant the instant to create the date-time from, not null
+     * @param zone    the time-zone, not null
+     * @return the zoned date-time in this chronology, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    @Override
+    public PersianZonedDateTime zonedDateTime(Instant instant, ZoneId zone) {
+        return PersianZonedDateTime.ofInstant(instant, zone);
+    }
+
+    /**
+     * Resolves parsed {@code ChronoField} values into a date during parsing.
+     * <p>
+     * The most common combination of fields, which is year (or year-of-era without era,
+     * unless the resolver style is strict), month-of-year and day-of-month, is resolved
+     * directly, without creating intermediate dates. Other combinations are resolved by
+     * {@link AbstractChronology#resolveDate(Map, ResolverStyle)}.
+     * <p>
+     * In the {@link ResolverStyle#SMART smart} style, a day-of-month from 1 to 31 that is
+     * after the end of the month resolves to the last day of the month, as in
+     * {@link java.time.chrono.IsoChronology}. For example, Esfand 30 of a common year,
+     * such as 1398/12/30, resolves to 1398-12-29. Such dates used to be rejected with a
+     * {@link DateTimeException}. The strict style still rejects them, and the lenient
+     * style rolls them over to the next month.
+     *
+     * @param fieldValues   the map of fields to values, which can be updated, not null
+     * @param resolverStyle the requested type of resolve, not null
+     * @return the resolved date, null if insufficient information to create a date
+     * @throws DateTimeException if the date cannot be resolved, typically
+     *                           because of a conflict in the input data
+     */
+    @Override
+    public PersianDate resolveDate(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+        Long month = fieldValues.get(MONTH_OF_YEAR);
+        Long dayOfMonth = fieldValues.get(DAY_OF_MONTH);
+        if (month == null || dayOfMonth == null || fieldValues.containsKey(EPOCH_DAY) ||
+                fieldValues.containsKey(PROLEPTIC_MONTH) || fieldValues.containsKey(ERA)) {
+            return (PersianDate) super.resolveDate(fieldValues, resolverStyle);
+        }
+        Long year = fieldValues.get(YEAR);
+        Long yearOfEra = fieldValues.get(YEAR_OF_ERA);
+        TemporalField yearField = YEAR;
+        if (year == null && yearOfEra != null && resolverStyle != ResolverStyle.STRICT) {
+            // There is a single era, so year-of-era is the same as year
+            year = yearOfEra;
+            yearField = YEAR_OF_ERA;
+        } else if (yearOfEra != null) {
+            // Both of them need to be cross-checked, or year-of-era is left unresolved in strict mode
+            year = null;
+        }
+        if (year == null) {
+            return (PersianDate) super.resolveDate(fieldValues, resolverStyle);
+        }
+        int y = YEAR_RANGE.checkValidIntValue(year, yearField);
+        fieldValues.remove(yearField);
+        fieldValues.remove(MONTH_OF_YEAR);
+        fieldValues.remove(DAY_OF_MONTH);
+        if (resolverStyle == ResolverStyle.LENIENT) {
+            return PersianDate.of(y, 1, 1)
+                    .plusMonths(Math.subtractExact(month, 1))
+                    .plusDays(Math.subtractExact(dayOfMonth, 1));
+        }
+        int moy = MONTH_OF_YEAR.range().checkValidIntValue(month, MONTH_OF_YEAR);
+        int dom = DAY_OF_MONTH_RANGE.checkValidIntValue(dayOfMonth, DAY_OF_MONTH);
+        if (resolverStyle == ResolverStyle.SMART) {
+            // Day-of-month after the end of month resolves to the last day of month
+            dom = Math.min(dom, PersianMonth.of(moy).length(PersianYearTable.isLeapYear(y)));
+        }
+        return PersianDate.of(y, moy, dom);
+    }
+
     /**
      * Returns true if {@code year} is a leap year in Persian calendar.
      *
@@ -190,9 +432,8 @@ public final class PersianChronology extends AbstractChronology {
      */
     @Override
     public boolean isLeapYear(long year) {
-        checkValidValue(year, YEAR);
-        return PersianDate.toJulianDay((int) (year + 1), 1, 1) -
-                PersianDate.toJulianDay((int) year, 1, 1) > 365;
+        checkValidYear(year);
+        return PersianYearTable.isLeapYear((int) year);
     }
 
     /**
@@ -267,16 +508,16 @@ public final class PersianChronology extends AbstractChronology {
     public ValueRange range(ChronoField field) {
         switch (field) {
             case DAY_OF_MONTH:
-                return ValueRange.of(1, 1, 29, 31);
+                return DAY_OF_MONTH_RANGE;
             case DAY_OF_YEAR:
-                return ValueRange.of(1, 1, 365, 366);
+                return DAY_OF_YEAR_RANGE;
             case ALIGNED_WEEK_OF_MONTH:
-                return ValueRange.of(1, 5);
+                return ALIGNED_WEEK_OF_MONTH_RANGE;
             case YEAR:
             case YEAR_OF_ERA:
-                return ValueRange.of(1, 1999);
+                return YEAR_RANGE;
             case ERA:
-                return ValueRange.of(1, 1);
+                return ERA_RANGE;
             default:
                 return field.range();
         }
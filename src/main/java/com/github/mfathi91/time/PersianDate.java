@@ -2,12 +2,19 @@ package com.github.mfathi91.time;
 
 import net.jcip.annotations.Immutable;
 
+import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.time.*;
 import java.time.chrono.ChronoLocalDate;
 import java.time.chrono.ChronoPeriod;
 import java.time.chrono.Chronology;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.*;
 import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.time.temporal.ChronoField.*;
 
@@ -29,7 +36,14 @@ import static java.time.temporal.ChronoField.*;
  * @author Mahmoud Fathi
  */
 @Immutable
-public final class PersianDate implements ChronoLocalDate {
+public final class PersianDate implements ChronoLocalDate, Serializable {
+
+    private static final long serialVersionUID = 3916447151925765032L;
+
+    /**
+     * The number of bytes that {@link #writeTo(ByteBuffer)} writes.
+     */
+    public static final int BYTES = 3;
 
     /**
      * The minimum supported persian date {@code 0001-01-01}.
@@ -43,11 +57,6 @@ public final class PersianDate implements ChronoLocalDate {
     public static final PersianDate MAX =
             PersianDate.of((int) PersianChronology.INSTANCE.range(YEAR).getMaximum(), 12, 29);
 
-    /**
-     * 1970-01-01 to julidan day.
-     */
-    private static final long JULIAN_DAY_TO_1970 = 2440587L;
-
     /**
      * The year.
      */
@@ -133,7 +142,7 @@ public final class PersianDate implements ChronoLocalDate {
      * @throws DateTimeException if the passed parameters do not form a valid date or time.
      */
     public static PersianDate of(int year, int month, int dayOfMonth) {
-        return new PersianDate(year, month, dayOfMonth);
+        return create(year, month, dayOfMonth);
     }
 
     /**
@@ -147,7 +156,7 @@ public final class PersianDate implements ChronoLocalDate {
      */
     public static PersianDate of(int year, PersianMonth month, int dayOfMonth) {
         Objects.requireNonNull(month, "month");
-        return new PersianDate(year, month.getValue(), dayOfMonth);
+        return create(year, month.getValue(), dayOfMonth);
     }
 
     /**
@@ -162,6 +171,87 @@ public final class PersianDate implements ChronoLocalDate {
         return ofEpochDay(localDate.toEpochDay());
     }
 
+    /**
+     * Obtains an instance of {@code PersianDate} from a text such as {@code 1396-08-07}
+     * or {@code 1396/08/07}.
+     * <p>
+     * The text must consist of four digits of year, two digits of month-of-year and two
+     * digits of day-of-month, separated by either {@code '-'} or {@code '/'}. The output
+     * of {@link #toString()} is in this format. Digits are read directly from the text,
+     * so no intermediate object is created. In order to parse without exceptions, see
+     * {@link PackedPersianDate#parse(CharSequence)}.
+     *
+     * @param text the text to parse, not null
+     * @return the parsed Persian date, not null
+     * @throws DateTimeParseException if the text cannot be parsed, or is not a valid date
+     */
+    public static PersianDate parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        int yyyymmdd = PackedPersianDate.scan(text, 0, text.length());
+        PersianDate date = ofScanned(yyyymmdd);
+        if (date == null) {
+            throw parseError(text, yyyymmdd);
+        }
+        return date;
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDate} from {@code length} characters of
+     * {@code buf} starting at {@code offset}. The format is the same as
+     * {@link #parse(CharSequence)}.
+     *
+     * @param buf    the characters to parse, not null
+     * @param offset index of the first character to parse
+     * @param length number of characters to parse
+     * @return the parsed Persian date, not null
+     * @throws DateTimeParseException    if the text cannot be parsed, or is not a valid date
+     * @throws IndexOutOfBoundsException if {@code offset} and {@code length} are out of
+     *                                   bounds of {@code buf}
+     */
+    public static PersianDate parse(char[] buf, int offset, int length) {
+        Objects.requireNonNull(buf, "buf");
+        MyUtils.checkOffsetLength(buf.length, offset, length);
+        int yyyymmdd = PackedPersianDate.scan(buf, offset, length);
+        PersianDate date = ofScanned(yyyymmdd);
+        if (date == null) {
+            throw parseError(new String(buf, offset, length), yyyymmdd);
+        }
+        return date;
+    }
+
+    /**
+     * Returns the date of a scanned {@code yyyymmdd} number, or null if it was not scanned
+     * or is not a valid date.
+     */
+    static PersianDate ofScanned(int yyyymmdd) {
+        if (yyyymmdd == PackedPersianDate.INVALID) {
+            return null;
+        }
+        int year = yyyymmdd / 10000;
+        int month = yyyymmdd / 100 % 100;
+        int day = yyyymmdd % 100;
+        if (month > 12 || day > 31 || !PackedPersianDate.isValid(PackedPersianDate.packUnchecked(year, month, day))) {
+            return null;
+        }
+        return ofUnchecked(year, month, day);
+    }
+
+    /**
+     * Creates the exception of a text that could not be parsed, which tells why the date
+     * is not valid, if the text was scanned to {@code yyyymmdd}.
+     */
+    static DateTimeParseException parseError(CharSequence text, int yyyymmdd) {
+        if (yyyymmdd != PackedPersianDate.INVALID) {
+            try {
+                create(yyyymmdd / 10000, yyyymmdd / 100 % 100, yyyymmdd % 100);
+            } catch (DateTimeException ex) {
+                return new DateTimeParseException("Text '" + text + "' could not be parsed: " + ex.getMessage(),
+                        text, 0, ex);
+            }
+        }
+        return new DateTimeParseException("Text '" + text + "' could not be parsed as a Persian date", text, 0);
+    }
+
     /**
      * Returns an instance of {@link PersianDate}, based on number of epoch days,
      * which is from 1970-01-01. For example passing {@code 17468} as the parameter
@@ -169,9 +259,20 @@ public final class PersianDate implements ChronoLocalDate {
      *
      * @param epochDays epoch days
      * @return an instance of {@link PersianDate}
+     * @throws DateTimeException if the epoch day exceeds the supported date range
      */
     public static PersianDate ofEpochDay(long epochDays) {
-        return ofJulianDays(epochDays + JULIAN_DAY_TO_1970);
+        if (!PersianYearTable.isSupportedEpochDay(epochDays)) {
+            throw new DateTimeException("Invalid value for EpochDay: " + epochDays + ", valid values: [" +
+                    PersianYearTable.MIN_EPOCH_DAY + ", " + PersianYearTable.MAX_EPOCH_DAY + "]");
+        }
+        PersianDate cached = PersianDateCache.get(epochDays);
+        if (cached != null) {
+            return cached;
+        }
+        int year = PersianYearTable.yearOfEpochDay(epochDays);
+        int dayOfYear = (int) (epochDays - PersianYearTable.firstEpochDay(year)) + 1;
+        return ofYearDayUnchecked(year, dayOfYear);
     }
 
     /**
@@ -185,39 +286,36 @@ public final class PersianDate implements ChronoLocalDate {
      */
     public static PersianDate ofJulianDays(long julianDays) {
         MyUtils.longRequirePositive(julianDays, "julianDays");
-        long depoch = julianDays - 2121445L;
-        long cycle = depoch / 1029983L;
-        long cyear = depoch % 1029983L;
-        long ycycle, aux1, aux2;
-        if (cyear == 1029982L) {
-            ycycle = 2820L;
-        } else {
-            aux1 = cyear / 366L;
-            aux2 = cyear % 366L;
-            ycycle = (((2134L * aux1) + (2816L * aux2) + 2815L) / (1028522L)) + aux1;
-            ycycle = (ycycle >= 0) ? ycycle + 1L : ycycle;
-        }
-        // Check year '474'
-        ycycle = !MyUtils.isBetween(julianDays, 2121079, 2121444) ? ycycle : 0;
-        long pYear = ycycle + (2820L * cycle) + 474L;
-        int yday = (int) (julianDays - PersianDate.of((int) pYear, 1, 1).toJulianDay() + 1);
-        int pMonth = (int) Math.ceil((yday <= 186) ? yday / 31.0 : (yday - 6) / 30.0);
-        int pDay = (int) (julianDays - PersianDate.of((int) pYear, pMonth, 1).toJulianDay() + 1);
-        return PersianDate.of((int) pYear, pMonth, pDay);
+        return ofEpochDay(julianDays - PersianYearTable.JULIAN_DAY_TO_1970);
     }
 
     /**
-     * Constructor.
+     * Obtains an instance of {@code PersianDate} from a year and day-of-year, which are
+     * already known to be valid.
+     *
+     * @param year      the year to represent, validated from 1 to MAX_YEAR
+     * @param dayOfYear the day-of-year to represent, validated from 1 to 365 or 366 in a leap year
+     * @return an instance of {@code PersianDate}
+     */
+    static PersianDate ofYearDayUnchecked(int year, int dayOfYear) {
+        int month = PersianYearTable.monthOfDayOfYear(dayOfYear);
+        return new PersianDate(year, month, dayOfYear - PersianYearTable.daysBeforeMonth(month));
+    }
+
+    /**
+     * Creates a {@code PersianDate} after validating year, month and day-of-month.
      *
      * @param year       the year to represent, from 1 to MAX_YEAR
-     * @param month      the month-of-year to represent, not null, from {@link PersianMonth} enum
+     * @param month      the month-of-year to represent, from 1 to 12
      * @param dayOfMonth the dayOfMonth-of-month to represent, from 1 to 31
+     * @return an instance of {@code PersianDate}
      * @throws DateTimeException if the passed parameters do not form a valid date or time.
      */
-    private PersianDate(int year, int month, int dayOfMonth) {
-        PersianChronology.INSTANCE.checkValidValue(year, YEAR);
-        PersianChronology.INSTANCE.checkValidValue(month, MONTH_OF_YEAR);
-        boolean leapYear = PersianChronology.INSTANCE.isLeapYear(year);
+    private static PersianDate create(int year, int month, int dayOfMonth) {
+        PersianChronology.INSTANCE.checkValidYear(year);
+        PersianChronology.INSTANCE.checkValidMonth(month);
+        PersianChronology.INSTANCE.checkValidDayOfMonth(dayOfMonth);
+        boolean leapYear = PersianYearTable.isLeapYear(year);
         int maxDaysOfMonth = PersianMonth.of(month).length(leapYear);
         if (dayOfMonth > maxDaysOfMonth) {
             if (month == 12 && dayOfMonth == 30 && !leapYear) {
@@ -225,6 +323,31 @@ public final class PersianDate implements ChronoLocalDate {
             }
             throw new DateTimeException("Invalid date " + PersianMonth.of(month).name() + " " + dayOfMonth);
         }
+        return ofUnchecked(year, month, dayOfMonth);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDate} from year, month and day-of-month, which
+     * are already known to form a valid date.
+     *
+     * @param year       the year to represent, validated from 1 to MAX_YEAR
+     * @param month      the month-of-year to represent, validated from 1 to 12
+     * @param dayOfMonth the day-of-month to represent, validated for year-month
+     * @return an instance of {@code PersianDate}
+     */
+    static PersianDate ofUnchecked(int year, int month, int dayOfMonth) {
+        PersianDate cached = PersianDateCache.get(year, month, dayOfMonth);
+        return cached != null ? cached : new PersianDate(year, month, dayOfMonth);
+    }
+
+    /**
+     * Constructor, previously validated.
+     *
+     * @param year       the year to represent, from 1 to MAX_YEAR
+     * @param month      the month-of-year to represent, from 1 to 12
+     * @param dayOfMonth the dayOfMonth-of-month to represent, valid for year-month, from 1 to 31
+     */
+    private PersianDate(int year, int month, int dayOfMonth) {
         this.year = year;
         this.month = month;
         this.day = dayOfMonth;
@@ -255,7 +378,7 @@ public final class PersianDate implements ChronoLocalDate {
     @Override
     public int lengthOfMonth() {
         PersianMonth pm = PersianMonth.of(month);
-        return PersianChronology.INSTANCE.isLeapYear(year) ? pm.maxLength() : pm.minLength();
+        return PersianYearTable.isLeapYear(year) ? pm.maxLength() : pm.minLength();
     }
 
     /**
@@ -506,7 +629,58 @@ public final class PersianDate implements ChronoLocalDate {
         if (daysToAdd == 0) {
             return this;
         }
-        return ofJulianDays(toJulianDay() + daysToAdd);
+        return ofEpochDay(Math.addExact(toEpochDay(), daysToAdd));
+    }
+
+    /**
+     * Returns a sequential ordered stream of dates, starting from this date (inclusive)
+     * and going to {@code endExclusive} (exclusive) by an incremental step of one day.
+     * <p>
+     * The stream is backed by a spliterator that splits the range of days at its middle,
+     * so a parallel stream divides the days evenly between its threads. Traversing the
+     * stream increments the day-of-month, and does not convert every day from its
+     * epoch day as {@link #plusDays(long)} does.
+     *
+     * @param endExclusive the end date, exclusive, not null
+     * @return a sequential {@code Stream} for the range of {@code PersianDate} values
+     * @throws IllegalArgumentException if end date is before this date
+     */
+    public Stream<PersianDate> datesUntil(PersianDate endExclusive) {
+        return StreamSupport.stream(PersianDateSpliterator.of(this, endExclusive, 0, 1), false);
+    }
+
+    /**
+     * Returns a sequential ordered stream of dates by given incremental step. The first
+     * date is this date, and the date at index {@code n} is
+     * {@code plusMonths(n * stepMonths).plusDays(n * stepDays)}, where {@code stepMonths}
+     * is the total months and {@code stepDays} is the days of {@code step}. The stream
+     * stops before the date that is not before {@code endExclusive}, or not after it if
+     * the step is negative.
+     * <p>
+     * The years, months and days of the step are taken as Persian years, months and
+     * days. Every date is calculated from its index by table lookups, so stepping month
+     * by month does not go through julian days either.
+     *
+     * @param endExclusive the end date, exclusive, not null
+     * @param step         the non-zero period that represents the step, in the Persian or
+     *                     the ISO calendar system, not null
+     * @return a sequential {@code Stream} for the range of {@code PersianDate} values
+     * @throws IllegalArgumentException         if step is zero, or if the months and days of
+     *                                          the step have opposite signs, or if the step
+     *                                          goes away from the end date
+     * @throws UnsupportedTemporalTypeException if the step has units other than years,
+     *                                          months and days
+     */
+    public Stream<PersianDate> datesUntil(PersianDate endExclusive, ChronoPeriod step) {
+        Objects.requireNonNull(step, "step");
+        for (TemporalUnit unit : step.getUnits()) {
+            if (unit != ChronoUnit.YEARS && unit != ChronoUnit.MONTHS && unit != ChronoUnit.DAYS) {
+                throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+            }
+        }
+        long stepMonths = Math.addExact(Math.multiplyExact(step.get(ChronoUnit.YEARS), 12L), step.get(ChronoUnit.MONTHS));
+        long stepDays = step.get(ChronoUnit.DAYS);
+        return StreamSupport.stream(PersianDateSpliterator.of(this, endExclusive, stepMonths, stepDays), false);
     }
 
     /**
@@ -516,7 +690,7 @@ public final class PersianDate implements ChronoLocalDate {
      */
     @Override
     public boolean isLeapYear() {
-        return PersianChronology.INSTANCE.isLeapYear(year);
+        return PersianYearTable.isLeapYear(year);
     }
 
     /**
@@ -548,7 +722,31 @@ public final class PersianDate implements ChronoLocalDate {
 
     @Override
     public long toEpochDay() {
-        return toJulianDay() - JULIAN_DAY_TO_1970;
+        return PersianYearTable.toEpochDay(year, month, day);
+    }
+
+    /**
+     * Combines this date with a time to create a {@code PersianDateTime}.
+     *
+     * @param localTime the local time to use, not null
+     * @return the Persian date-time formed from this date and the specified time, not null
+     */
+    @Override
+    public PersianDateTime atTime(LocalTime localTime) {
+        return PersianDateTime.of(this, localTime);
+    }
+
+    /**
+     * Returns the earliest valid time of this date in the specified time-zone, in the
+     * same way as {@link LocalDate#atStartOfDay(ZoneId)}. This is midnight, unless
+     * midnight is in a gap of the zone, such as the start of daylight saving time in
+     * Asia/Tehran until 1401, in which case it is the end of the gap.
+     *
+     * @param zone the time-zone to use, not null
+     * @return the zoned date-time formed from this date and the earliest valid time for the zone, not null
+     */
+    public PersianZonedDateTime atStartOfDay(ZoneId zone) {
+        return PersianZonedDateTime.ofStartOfDay(this, zone);
     }
 
     /**
@@ -574,16 +772,99 @@ public final class PersianDate implements ChronoLocalDate {
      * @see <a href="http://www.fourmilab.ch/documents/calendar/">calendar convertor</a>
      */
     static long toJulianDay(int year, int month, int dayOfMonth) {
-        int epbase = year - 474;
-        int epyear = 474 + (epbase % 2820);
-        return dayOfMonth + PersianMonth.of(month).daysToFirstOfMonth() +
-                (epyear * 682 - 110) / 2816 +
-                (epyear - 1) * 365 +
-                (epbase / 2820 * 1029983) +
-                (1948320 - 1);
+        return PersianYearTable.toEpochDay(year, month, dayOfMonth) + PersianYearTable.JULIAN_DAY_TO_1970;
     }
     //-----------------------------------------------------------------------
 
+    /**
+     * Writes this date to {@code buffer} in {@link #BYTES three} bytes, at the current
+     * position of the buffer. The bytes are the {@link PackedPersianDate packed date}
+     * {@code year << 9 | month << 5 | dayOfMonth}, most significant byte first, whatever
+     * the byte order of the buffer is. So the format does not change from version to
+     * version, and comparing written dates byte by byte gives the same result as comparing
+     * them chronologically. Java serialization writes the same bytes.
+     * <p>
+     * Calling this method has no effect on this instance.
+     *
+     * @param buffer the buffer to write to, not null
+     * @throws BufferOverflowException if there are fewer than three bytes remaining in
+     *                                 {@code buffer}, in which case nothing is written
+     */
+    public void writeTo(ByteBuffer buffer) {
+        if (buffer.remaining() < BYTES) {
+            throw new BufferOverflowException();
+        }
+        int packed = PackedPersianDate.packUnchecked(year, month, day);
+        buffer.put((byte) (packed >>> 16));
+        buffer.put((byte) (packed >>> 8));
+        buffer.put((byte) packed);
+    }
+
+    /**
+     * Reads a date that is written by {@link #writeTo(ByteBuffer)} from {@code buffer},
+     * at the current position of the buffer.
+     *
+     * @param buffer the buffer to read from, not null
+     * @return the date, not null
+     * @throws BufferUnderflowException if there are fewer than three bytes remaining in
+     *                                  {@code buffer}, in which case nothing is read
+     * @throws DateTimeException        if the bytes are not a valid date
+     */
+    public static PersianDate readFrom(ByteBuffer buffer) {
+        if (buffer.remaining() < BYTES) {
+            throw new BufferUnderflowException();
+        }
+        int packed = (buffer.get() & 0xFF) << 16 | (buffer.get() & 0xFF) << 8 | buffer.get() & 0xFF;
+        return ofPacked(packed);
+    }
+
+    /**
+     * Writes the object using a dedicated serialized form, which is a byte that identifies
+     * {@code PersianDate} followed by the three bytes of {@link #writeTo(ByteBuffer)}.
+     *
+     * @return the instance of {@code Ser}, not null
+     */
+    private Object writeReplace() {
+        return new Ser(Ser.PERSIAN_DATE_TYPE, this);
+    }
+
+    /**
+     * Defends against malicious streams.
+     *
+     * @param s the stream to read
+     * @throws InvalidObjectException always
+     */
+    private void readObject(ObjectInputStream s) throws InvalidObjectException {
+        throw new InvalidObjectException("Deserialization via serialization delegate");
+    }
+
+    void writeExternal(DataOutput out) throws IOException {
+        int packed = PackedPersianDate.packUnchecked(year, month, day);
+        out.writeByte(packed >>> 16);
+        out.writeShort(packed);
+    }
+
+    static PersianDate readExternal(DataInput in) throws IOException {
+        return ofPacked(in.readUnsignedByte() << 16 | in.readUnsignedShort());
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDate} from a {@link PackedPersianDate packed date}
+     * that is read from outside, such as a buffer or a file.
+     *
+     * @param packed the packed date
+     * @return an instance of {@code PersianDate}
+     * @throws DateTimeException if {@code packed} is not a valid packed date
+     */
+    static PersianDate ofPacked(int packed) {
+        if (!PackedPersianDate.isValid(packed)) {
+            throw new DateTimeException("Invalid packed Persian date: " + packed);
+        }
+        return ofUnchecked(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    //-----------------------------------------------------------------------
+
     /**
      * Checks if this date is equal to another date.
      * <p>
@@ -627,6 +908,76 @@ public final class PersianDate implements ChronoLocalDate {
      * @return a suitable representation of this persian date
      */
     public String toString() {
-        return String.format("%04d-%02d-%02d", year, month, day);
+        char[] buf = new char[10];
+        formatTo(buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * Writes the string representation of this persian date, which is the same as
+     * {@link #toString()}, to {@code appendable}. Writing to a {@link StringBuilder}
+     * does not create any object, unless the builder needs to grow.
+     * <p>
+     * Calling this method has no effect on this instance.
+     *
+     * @param appendable the appendable to write to, not null
+     * @throws DateTimeException if an IO error occurs while writing to {@code appendable}
+     */
+    public void formatTo(Appendable appendable) {
+        Objects.requireNonNull(appendable, "appendable");
+        if (appendable instanceof StringBuilder) {
+            StringBuilder sb = (StringBuilder) appendable;
+            sb.append((char) ('0' + year / 1000))
+                    .append((char) ('0' + year / 100 % 10))
+                    .append((char) ('0' + year / 10 % 10))
+                    .append((char) ('0' + year % 10))
+                    .append('-')
+                    .append((char) ('0' + month / 10))
+                    .append((char) ('0' + month % 10))
+                    .append('-')
+                    .append((char) ('0' + day / 10))
+                    .append((char) ('0' + day % 10));
+            return;
+        }
+        char[] buf = new char[10];
+        formatTo(buf, 0);
+        try {
+            for (char c : buf) {
+                appendable.append(c);
+            }
+        } catch (IOException ex) {
+            throw new DateTimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Writes the string representation of this persian date, which is the same as
+     * {@link #toString()}, to {@code buf} starting at index {@code offset}. Exactly ten
+     * characters are written.
+     * <p>
+     * Calling this method has no effect on this instance.
+     *
+     * @param buf    the array to write to, not null
+     * @param offset index of {@code buf} to write the first character to
+     * @return index of {@code buf} after the last written character, which is {@code offset + 10}
+     * @throws IndexOutOfBoundsException if there is not enough room in {@code buf}
+     */
+    public int formatTo(char[] buf, int offset) {
+        Objects.requireNonNull(buf, "buf");
+        if (offset < 0 || offset > buf.length - 10) {
+            throw new IndexOutOfBoundsException("Not enough room in buf from offset " + offset +
+                    ", length: " + buf.length);
+        }
+        buf[offset] = (char) ('0' + year / 1000);
+        buf[offset + 1] = (char) ('0' + year / 100 % 10);
+        buf[offset + 2] = (char) ('0' + year / 10 % 10);
+        buf[offset + 3] = (char) ('0' + year % 10);
+        buf[offset + 4] = '-';
+        buf[offset + 5] = (char) ('0' + month / 10);
+        buf[offset + 6] = (char) ('0' + month % 10);
+        buf[offset + 7] = '-';
+        buf[offset + 8] = (char) ('0' + day / 10);
+        buf[offset + 9] = (char) ('0' + day % 10);
+        return offset + 10;
     }
 }
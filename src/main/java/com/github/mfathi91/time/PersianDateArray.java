@@ -0,0 +1,465 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A growable array of Persian dates that is stored outside of the heap, in a direct
+ * {@link ByteBuffer}, as {@link PackedPersianDate packed} dates of four bytes each.
+ * <p>
+ * An array of {@link PersianDate}s takes a reference and an object for every date, which
+ * the garbage collector has to trace. An array of this class is a single object however
+ * many dates it holds, and {@link #sort()}, {@link #binarySearch(PersianDate)} and the
+ * range filters {@link #count(PersianDate, PersianDate)},
+ * {@link #filter(PersianDate, PersianDate)} and
+ * {@link #forEachIndex(PersianDate, PersianDate, IntConsumer)} compare the packed dates
+ * as {@code int}s, without creating any {@code PersianDate}. The range filters find the
+ * range by binary search if the array is sorted, and go through all of the dates
+ * otherwise.
+ * <p>
+ * The capacity of an array is limited to {@link #MAX_CAPACITY} dates, as the capacity
+ * of a {@code ByteBuffer} is an {@code int}. The direct memory of an array is released
+ * when the array is garbage collected.
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+public final class PersianDateArray {
+
+    /**
+     * The maximum number of dates of an array.
+     */
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Arrays that are not longer than this are sorted by {@link Arrays#sort(int[])} on
+     * the heap, as it is faster than counting the dates for short arrays.
+     */
+    private static final int COUNTING_SORT_THRESHOLD = 1 << 12;
+
+    private IntBuffer dates;
+
+    private int size;
+
+    /**
+     * True if the dates are known to be in ascending order.
+     */
+    private boolean sorted = true;
+
+    private PersianDateArray(int capacity) {
+        this.dates = allocateDirect(capacity);
+    }
+
+    /**
+     * Obtains an empty array with a default capacity.
+     *
+     * @return a new array, not null
+     */
+    public static PersianDateArray create() {
+        return new PersianDateArray(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Obtains an empty array with room for {@code capacity} dates. The array grows if
+     * more dates are added.
+     *
+     * @param capacity the initial capacity, from 0 to {@link #MAX_CAPACITY}
+     * @return a new array, not null
+     * @throws IllegalArgumentException if {@code capacity} is out of range
+     */
+    public static PersianDateArray withCapacity(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity + ", valid values: [0, " +
+                    MAX_CAPACITY + "]");
+        }
+        return new PersianDateArray(capacity);
+    }
+
+    /**
+     * Obtains an array of the dates of {@code dates}, in the same order.
+     *
+     * @param dates the dates of the array, not null
+     * @return a new array, not null
+     * @throws NullPointerException if one of the dates is null
+     */
+    public static PersianDateArray of(PersianDate... dates) {
+        Objects.requireNonNull(dates, "dates");
+        PersianDateArray array = withCapacity(dates.length);
+        for (PersianDate date : dates) {
+            array.add(date);
+        }
+        return array;
+    }
+
+    private static IntBuffer allocateDirect(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Appends a date to the end of this array.
+     *
+     * @param date the date to append, not null
+     * @throws IllegalStateException if this array holds {@link #MAX_CAPACITY} dates
+     */
+    public void add(PersianDate date) {
+        addUnchecked(PackedPersianDate.pack(date));
+    }
+
+    /**
+     * Appends a packed date to the end of this array.
+     *
+     * @param packed the packed date to append
+     * @throws DateTimeException     if {@code packed} is not a valid packed date
+     * @throws IllegalStateException if this array holds {@link #MAX_CAPACITY} dates
+     */
+    public void addPacked(int packed) {
+        addUnchecked(checkPacked(packed));
+    }
+
+    private void addUnchecked(int packed) {
+        if (size == dates.capacity()) {
+            grow();
+        }
+        if (sorted && size > 0 && dates.get(size - 1) > packed) {
+            sorted = false;
+        }
+        dates.put(size++, packed);
+    }
+
+    private void grow() {
+        if (size == MAX_CAPACITY) {
+            throw new IllegalStateException("Array is full: " + size + " dates");
+        }
+        int capacity = Math.min(MAX_CAPACITY, Math.max(DEFAULT_CAPACITY, size + (size >> 1)));
+        IntBuffer grown = allocateDirect(capacity);
+        dates.clear();
+        dates.limit(size);
+        grown.put(dates);
+        dates = grown;
+    }
+
+    /**
+     * Replaces the date at an index.
+     *
+     * @param index the index of the date, from 0 to {@code size() - 1}
+     * @param date  the new date, not null
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public void set(int index, PersianDate date) {
+        setUnchecked(index, PackedPersianDate.pack(date));
+    }
+
+    /**
+     * Replaces the date at an index with a packed date.
+     *
+     * @param index  the index of the date, from 0 to {@code size() - 1}
+     * @param packed the new packed date
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws DateTimeException         if {@code packed} is not a valid packed date
+     */
+    public void setPacked(int index, int packed) {
+        setUnchecked(index, checkPacked(packed));
+    }
+
+    private void setUnchecked(int index, int packed) {
+        checkIndex(index);
+        dates.put(index, packed);
+        sorted = false;
+    }
+
+    /**
+     * Removes all of the dates of this array. The capacity is not changed.
+     */
+    public void clear() {
+        size = 0;
+        sorted = true;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the number of dates of this array
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if this array has no dates
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the packed date at an index.
+     *
+     * @param index the index of the date, from 0 to {@code size() - 1}
+     * @return the packed date
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int getPacked(int index) {
+        checkIndex(index);
+        return dates.get(index);
+    }
+
+    /**
+     * Returns the epoch day of the date at an index.
+     *
+     * @param index the index of the date, from 0 to {@code size() - 1}
+     * @return the epoch day
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public long getEpochDay(int index) {
+        return PackedPersianDate.toEpochDay(getPacked(index));
+    }
+
+    /**
+     * Returns the date at an index.
+     *
+     * @param index the index of the date, from 0 to {@code size() - 1}
+     * @return the date, not null
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public PersianDate get(int index) {
+        return PersianDate.ofPacked(getPacked(index));
+    }
+
+    /**
+     * Checks if the dates of this array are known to be in chronological order, which is
+     * the case after {@link #sort()}, or if the dates are appended in chronological order.
+     * {@link #set(int, PersianDate)} makes an array unsorted until it is sorted again.
+     *
+     * @return true if the dates of this array are known to be in chronological order
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts the dates of this array in chronological order.
+     * <p>
+     * Long arrays are sorted by a counting sort on the packed dates, that is, a radix sort
+     * with a single digit: the dates of every packed value, from the earliest date of the
+     * array to the latest one, are counted in a single pass, and the array is rewritten in
+     * order in a second pass. It takes linear time and sorts in place, with a temporary
+     * table of four bytes for every packed value between the earliest and latest dates,
+     * which is at most 4 megabytes.
+     */
+    public void sort() {
+        if (sorted) {
+            return;
+        }
+        if (size <= COUNTING_SORT_THRESHOLD) {
+            int[] heap = new int[size];
+            dates.clear();
+            dates.get(heap);
+            Arrays.sort(heap);
+            dates.clear();
+            dates.put(heap);
+        } else {
+            countingSort();
+        }
+        sorted = true;
+    }
+
+    private void countingSort() {
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int packed = dates.get(i);
+            min = Math.min(min, packed);
+            max = Math.max(max, packed);
+        }
+        int[] counts = new int[max - min + 1];
+        for (int i = 0; i < size; i++) {
+            counts[dates.get(i) - min]++;
+        }
+        int index = 0;
+        for (int key = 0; key < counts.length; key++) {
+            int packed = key + min;
+            for (int end = index + counts[key]; index < end; index++) {
+                dates.put(index, packed);
+            }
+        }
+    }
+
+    /**
+     * Searches the sorted dates of this array for a date by binary search. The result is
+     * defined as {@link Arrays#binarySearch(int[], int)}.
+     *
+     * @param date the date to search for, not null
+     * @return index of the date if it is in this array; otherwise
+     * {@code (-(insertion point) - 1)}
+     * @throws IllegalStateException if this array is not {@link #isSorted() sorted}
+     */
+    public int binarySearch(PersianDate date) {
+        return binarySearchPacked(PackedPersianDate.pack(date));
+    }
+
+    /**
+     * Searches the sorted dates of this array for a packed date by binary search. The
+     * result is defined as {@link Arrays#binarySearch(int[], int)}.
+     *
+     * @param packed the packed date to search for
+     * @return index of the date if it is in this array; otherwise
+     * {@code (-(insertion point) - 1)}
+     * @throws IllegalStateException if this array is not {@link #isSorted() sorted}
+     */
+    public int binarySearchPacked(int packed) {
+        if (!sorted) {
+            throw new IllegalStateException("Array is not sorted");
+        }
+        int index = lowerBound(packed);
+        return index < size && dates.get(index) == packed ? index : -index - 1;
+    }
+
+    /**
+     * Returns the index of the first date that is not before {@code packed}, in a
+     * sorted array.
+     */
+    private int lowerBound(int packed) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (dates.get(mid) < packed) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Counts the dates from {@code startInclusive} to {@code endExclusive}.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @return the number of dates in the range
+     */
+    public int count(PersianDate startInclusive, PersianDate endExclusive) {
+        int start = PackedPersianDate.pack(startInclusive);
+        int end = PackedPersianDate.pack(endExclusive);
+        if (sorted) {
+            return start < end ? lowerBound(end) - lowerBound(start) : 0;
+        }
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int packed = dates.get(i);
+            if (packed >= start && packed < end) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Passes the index of every date from {@code startInclusive} to {@code endExclusive}
+     * to {@code action}, in ascending order of the indexes.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @param action         the action to perform on the indexes, not null
+     */
+    public void forEachIndex(PersianDate startInclusive, PersianDate endExclusive, IntConsumer action) {
+        int start = PackedPersianDate.pack(startInclusive);
+        int end = PackedPersianDate.pack(endExclusive);
+        Objects.requireNonNull(action, "action");
+        if (sorted) {
+            if (start < end) {
+                for (int i = lowerBound(start), to = lowerBound(end); i < to; i++) {
+                    action.accept(i);
+                }
+            }
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            int packed = dates.get(i);
+            if (packed >= start && packed < end) {
+                action.accept(i);
+            }
+        }
+    }
+
+    /**
+     * Returns a new array of the dates from {@code startInclusive} to
+     * {@code endExclusive}, in the same order as in this array.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @return a new array of the dates in the range, not null
+     */
+    public PersianDateArray filter(PersianDate startInclusive, PersianDate endExclusive) {
+        PersianDateArray result = new PersianDateArray(count(startInclusive, endExclusive));
+        if (sorted) {
+            if (result.dates.capacity() > 0) {
+                int from = lowerBound(PackedPersianDate.pack(startInclusive));
+                IntBuffer range = dates.duplicate();
+                range.limit(from + result.dates.capacity()).position(from);
+                result.dates.put(range);
+                result.size = result.dates.capacity();
+            }
+        } else {
+            int start = PackedPersianDate.pack(startInclusive);
+            int end = PackedPersianDate.pack(endExclusive);
+            for (int i = 0; i < size; i++) {
+                int packed = dates.get(i);
+                if (packed >= start && packed < end) {
+                    result.addUnchecked(packed);
+                }
+            }
+        }
+        return result;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the dates of this array in the format of {@link Arrays#toString(Object[])}.
+     *
+     * @return the dates of this array as a string, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(get(i));
+        }
+        return sb.append(']').toString();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+    }
+
+    private static int checkPacked(int packed) {
+        if (!PackedPersianDate.isValid(packed)) {
+            throw new DateTimeException("Invalid packed Persian date: " + packed);
+        }
+        return packed;
+    }
+}
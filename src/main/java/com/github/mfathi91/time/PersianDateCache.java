@@ -0,0 +1,181 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+
+import java.time.DateTimeException;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An optional, process-wide cache of {@link PersianDate} instances for a window of dates.
+ * <p>
+ * When the cache is enabled, {@link PersianDate#of(int, int, int)},
+ * {@link PersianDate#ofEpochDay(long)}, {@link PersianDate#fromGregorian(java.time.LocalDate)}
+ * and the methods that are based on them return a shared instance for every date in the
+ * window, instead of creating a new one. Since {@code PersianDate} is immutable, sharing
+ * the instances is safe; however, applications must not rely on identity of dates, as
+ * dates out of the window are still created on each call.
+ * <p>
+ * The cache is disabled by default. It can be enabled for a number of years around today:
+ * <pre>
+ *   PersianDateCache.enable(50);    // 50 years before and after today
+ * </pre>
+ * or for an arbitrary window, by {@link #enable(PersianDate, PersianDate)}. All of the
+ * dates of the window are created when the cache is enabled. The number of hits and
+ * misses of the cache can be used to size the window.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+public final class PersianDateCache {
+
+    /**
+     * The current window, null if the cache is disabled.
+     */
+    private static volatile Window window;
+
+    private static final LongAdder HITS = new LongAdder();
+
+    private static final LongAdder MISSES = new LongAdder();
+
+    // Ensure non-instantiability
+    private PersianDateCache() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Enables the cache for the dates from {@code yearsAround} years before today to
+     * {@code yearsAround} years after today, in the default time zone. The window is
+     * truncated to the supported range of dates. This replaces the previous window,
+     * if any.
+     *
+     * @param yearsAround number of years before and after today, not negative
+     * @throws IllegalArgumentException if {@code yearsAround} is negative
+     */
+    public static void enable(int yearsAround) {
+        if (yearsAround < 0) {
+            throw new IllegalArgumentException("yearsAround is negative: " + yearsAround);
+        }
+        int year = PersianDate.now().getYear();
+        // in long, as year + yearsAround may overflow
+        int firstYear = (int) Math.max((long) year - yearsAround, PersianYearTable.MIN_YEAR);
+        int lastYear = (int) Math.min((long) year + yearsAround, PersianYearTable.MAX_YEAR);
+        window = new Window(PersianYearTable.firstEpochDay(firstYear), PersianYearTable.firstEpochDay(lastYear + 1) - 1);
+    }
+
+    /**
+     * Enables the cache for the dates from {@code first} to {@code last}, inclusive.
+     * This replaces the previous window, if any.
+     *
+     * @param first the first date of the window, not null
+     * @param last  the last date of the window, not null, not before {@code first}
+     * @throws DateTimeException if {@code last} is before {@code first}
+     */
+    public static void enable(PersianDate first, PersianDate last) {
+        Objects.requireNonNull(first, "first");
+        Objects.requireNonNull(last, "last");
+        if (last.isBefore(first)) {
+            throw new DateTimeException("Last date " + last + " is before first date " + first);
+        }
+        window = new Window((int) first.toEpochDay(), (int) last.toEpochDay());
+    }
+
+    /**
+     * Disables the cache and releases the cached dates.
+     */
+    public static void disable() {
+        window = null;
+    }
+
+    /**
+     * @return true if the cache is enabled
+     */
+    public static boolean isEnabled() {
+        return window != null;
+    }
+
+    /**
+     * @return number of the dates that were found in the cache, since the counters
+     * were last reset
+     */
+    public static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * @return number of the dates that were created while the cache was enabled,
+     * because they were out of the window, since the counters were last reset
+     */
+    public static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Resets the counters of hits and misses to zero.
+     */
+    public static void resetCounters() {
+        HITS.reset();
+        MISSES.reset();
+    }
+
+    /**
+     * Returns the cached date of {@code epochDay}, or null if the cache is disabled or
+     * the date is out of the window.
+     *
+     * @param epochDay the epoch day
+     * @return the cached date, or null
+     */
+    static PersianDate get(long epochDay) {
+        Window w = window;
+        if (w == null) {
+            return null;
+        }
+        long index = epochDay - w.firstEpochDay;
+        if (index >= 0 && index < w.dates.length) {
+            HITS.increment();
+            return w.dates[(int) index];
+        }
+        MISSES.increment();
+        return null;
+    }
+
+    /**
+     * Returns the cached date of year, month and day-of-month, which form a valid date,
+     * or null if the cache is disabled or the date is out of the window.
+     *
+     * @param year       the year, validated
+     * @param month      the month-of-year, validated
+     * @param dayOfMonth the day-of-month, validated
+     * @return the cached date, or null
+     */
+    static PersianDate get(int year, int month, int dayOfMonth) {
+        if (window == null) {
+            return null;
+        }
+        return get(PersianYearTable.toEpochDay(year, month, dayOfMonth));
+    }
+
+    /**
+     * Dates of an inclusive range of epoch days, all of which are created eagerly.
+     */
+    @Immutable
+    private static final class Window {
+
+        private final int firstEpochDay;
+
+        private final PersianDate[] dates;
+
+        Window(int firstEpochDay, int lastEpochDay) {
+            this.firstEpochDay = firstEpochDay;
+            this.dates = new PersianDate[lastEpochDay - firstEpochDay + 1];
+            for (int i = 0; i < dates.length; i++) {
+                int epochDay = firstEpochDay + i;
+                int year = PersianYearTable.yearOfEpochDay(epochDay);
+                dates[i] = PersianDate.ofYearDayUnchecked(year, epochDay - PersianYearTable.firstEpochDay(year) + 1);
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.Objects;
+import java.util.function.IntConsumer;
+
+/**
+ * A read-only column of Persian dates that is stored in a file and mapped into memory,
+ * so that columns larger than the heap can be read without copying them to the heap.
+ * <p>
+ * A column file consists of a header of 16 bytes, which are the four ASCII characters
+ * {@code PDC1} and four zero bytes followed by the number of dates as a {@code long},
+ * and then the {@link PackedPersianDate packed} dates as 4-byte {@code int}s. The
+ * {@code long} and the {@code int}s are in little-endian byte order. A column file is
+ * written by {@link #write(Path, int[], int, int)} or
+ * {@link #write(Path, PersianDate[], int, int)}.
+ * <p>
+ * {@link #open(Path)} maps the file by {@link FileChannel#map}, in segments of one
+ * gigabyte as a single mapping cannot be larger than two gigabytes, and closes the file.
+ * The dates are not read when the file is opened; they are read from the page cache of
+ * the operating system as they are accessed, and the primitive accessors such as
+ * {@link #getPacked(long)} and {@link #forEachPacked(long, long, IntConsumer)} do not
+ * create any object. The mapping remains valid until the column is garbage collected,
+ * as it is not possible to unmap a file in Java 8.
+ * <p>
+ * This class is immutable and can be used in multi-threaded programs, as long as the
+ * file is not modified while it is mapped.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianDateColumnFile {
+
+    private static final int MAGIC = 'P' | 'D' << 8 | 'C' << 16 | '1' << 24;
+
+    private static final int HEADER_BYTES = 16;
+
+    /**
+     * Log2 of the number of dates in a mapped segment, which makes segments of one gigabyte.
+     */
+    private static final int SEGMENT_SHIFT = 28;
+
+    /**
+     * Number of bytes that are written at once by the {@code write} methods.
+     */
+    private static final int WRITE_BUFFER_BYTES = 1 << 16;
+
+    /**
+     * Views of the mapped segments as {@code int}s, which keep the mappings alive.
+     */
+    private final IntBuffer[] segments;
+
+    private final int segmentShift;
+
+    private final long size;
+
+    private PersianDateColumnFile(IntBuffer[] segments, int segmentShift, long size) {
+        this.segments = segments;
+        this.segmentShift = segmentShift;
+        this.size = size;
+    }
+
+    /**
+     * Opens a column file that is written by one of the {@code write} methods, and maps it
+     * into memory.
+     *
+     * @param path the path of the file, not null
+     * @return the column of dates of the file, not null
+     * @throws IOException if an IO error occurs, or if the file is not a column file
+     */
+    public static PersianDateColumnFile open(Path path) throws IOException {
+        return open(path, SEGMENT_SHIFT);
+    }
+
+    static PersianDateColumnFile open(Path path, int segmentShift) throws IOException {
+        Objects.requireNonNull(path, "path");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            int read;
+            do {
+                read = channel.read(header, header.position());
+            } while (read >= 0 && header.hasRemaining());
+            long fileSize = channel.size();
+            long size = header.getLong(8);
+            if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != 0) {
+                throw new IOException("Not a Persian date column file: " + path);
+            }
+            if (size < 0 || size != (fileSize - HEADER_BYTES) / Integer.BYTES ||
+                    (fileSize - HEADER_BYTES) % Integer.BYTES != 0) {
+                throw new IOException("Size of Persian date column file " + path + " is " + fileSize +
+                        " bytes, which does not match its " + size + " dates");
+            }
+            long datesPerSegment = 1L << segmentShift;
+            IntBuffer[] segments = new IntBuffer[(int) ((size + datesPerSegment - 1) >>> segmentShift)];
+            for (int i = 0; i < segments.length; i++) {
+                long first = (long) i << segmentShift;
+                long dates = Math.min(datesPerSegment, size - first);
+                MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY,
+                        HEADER_BYTES + first * Integer.BYTES, dates * Integer.BYTES);
+                segments[i] = segment.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+            }
+            return new PersianDateColumnFile(segments, segmentShift, size);
+        }
+    }
+
+    /**
+     * Writes the packed dates of {@code packed} from {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive, to a column file. The file is created, or replaced if it
+     * exists.
+     *
+     * @param path      the path of the file, not null
+     * @param packed    the packed dates to write, not null
+     * @param fromIndex index of the first date to write
+     * @param toIndex   index after the last date to write
+     * @throws IOException               if an IO error occurs
+     * @throws DateTimeException         if one of the packed dates is not valid, in which
+     *                                   case the file is not created
+     * @throws IndexOutOfBoundsException if {@code fromIndex} and {@code toIndex} are out of
+     *                                   bounds of {@code packed}
+     */
+    public static void write(Path path, int[] packed, int fromIndex, int toIndex) throws IOException {
+        Objects.requireNonNull(packed, "packed");
+        MyUtils.checkFromToIndex(packed.length, fromIndex, toIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (!PackedPersianDate.isValid(packed[i])) {
+                throw new DateTimeException("Invalid packed Persian date at index " + i + ": " + packed[i]);
+            }
+        }
+        write(path, fromIndex, toIndex, packed, null);
+    }
+
+    /**
+     * Writes the dates of {@code dates} from {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive, to a column file. The file is created, or replaced if it
+     * exists.
+     *
+     * @param path      the path of the file, not null
+     * @param dates     the dates to write, not null
+     * @param fromIndex index of the first date to write
+     * @param toIndex   index after the last date to write
+     * @throws IOException               if an IO error occurs
+     * @throws NullPointerException      if one of the dates is null, in which case the file
+     *                                   is not created
+     * @throws IndexOutOfBoundsException if {@code fromIndex} and {@code toIndex} are out of
+     *                                   bounds of {@code dates}
+     */
+    public static void write(Path path, PersianDate[] dates, int fromIndex, int toIndex) throws IOException {
+        Objects.requireNonNull(dates, "dates");
+        MyUtils.checkFromToIndex(dates.length, fromIndex, toIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            Objects.requireNonNull(dates[i], "dates[" + i + "]");
+        }
+        write(path, fromIndex, toIndex, null, dates);
+    }
+
+    /**
+     * Writes either {@code packed} or {@code dates}, which are validated.
+     */
+    private static void write(Path path, int fromIndex, int toIndex, int[] packed, PersianDate[] dates)
+            throws IOException {
+        Objects.requireNonNull(path, "path");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(0).putLong(toIndex - fromIndex);
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (!buffer.hasRemaining()) {
+                    writeFully(channel, buffer);
+                }
+                buffer.putInt(packed != null ? packed[i] : PackedPersianDate.pack(dates[i]));
+            }
+            writeFully(channel, buffer);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the number of dates of this column
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the packed date at an index, as it is stored in the file.
+     *
+     * @param index the index of the date, from 0 to {@code size() - 1}
+     * @return the packed date
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int getPacked(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+        }
+        return segments[(int) (index >>> segmentShift)].get((int) index & ((1 << segmentShift) - 1));
+    }
+
+    /**
+     * Passes the packed dates from {@code fromIndex}, inclusive, to {@code toIndex},
+     * exclusive, to {@code action} in order. This is the fastest way to scan the column,
+     * as the dates of every mapped segment are read in a single loop.
+     *
+     * @param fromIndex index of the first date
+     * @param toIndex   index after the last date
+     * @param action    the action to perform on every packed date, not null
+     * @throws IndexOutOfBoundsException if {@code fromIndex} and {@code toIndex} are out of
+     *                                   range
+     */
+    public void forEachPacked(long fromIndex, long toIndex, IntConsumer action) {
+        Objects.requireNonNull(action, "action");
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex " + fromIndex + ", toIndex " + toIndex + ", size " + size);
+        }
+        int mask = (1 << segmentShift) - 1;
+        for (long index = fromIndex; index < toIndex; ) {
+            IntBuffer segment = segments[(int) (index >>> segmentShift)];
+            int from = (int) index & mask;
+            int to = (int) Math.min(segment.limit(), from + (toIndex - index));
+            for (int i = from; i < to; i++) {
+                action.accept(segment.get(i));
+            }
+            index += to - from;
+        }
+    }
+
+    /**
+     * Returns the epoch day of the date at an index.
+     *
+     * @param index the index of the date, from 0 to {@code size() - 1}
+     * @return the epoch day
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws DateTimeException         if the stored date is not valid
+     */
+    public long getEpochDay(long index) {
+        return PackedPersianDate.toEpochDay(getPacked(index));
+    }
+
+    /**
+     * Returns the date at an index.
+     *
+     * @param index the index of the date, from 0 to {@code size() - 1}
+     * @return the date, not null
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws DateTimeException         if the stored date is not valid
+     */
+    public PersianDate get(long index) {
+        return PersianDate.ofPacked(getPacked(index));
+    }
+}
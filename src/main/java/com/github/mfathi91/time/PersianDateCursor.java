@@ -0,0 +1,364 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.Objects;
+
+/**
+ * A mutable cursor over Persian dates, which is moved day by day or month by month.
+ * <p>
+ * Unlike {@link PersianDate#plusDays(long)}, which converts the date to an epoch day and
+ * back, moving a cursor by a day only increments its day-of-month, and moves to the
+ * next month at the end of the month. The length of month is taken from
+ * {@link PersianMonth#length(boolean)}, and the leap year is looked up only when the
+ * year changes. So a loop such as
+ * <pre>
+ *  for (PersianDateCursor cursor = PersianDateCursor.of(start); cursor.isBefore(end); cursor.nextDay()) {
+ *      int day = cursor.getDayOfMonth();
+ *      ...
+ *  }
+ * </pre>
+ * does not create any object. A cursor can be reused by {@link #set(PersianDate)}.
+ * <p>
+ * The methods that move the cursor throw a {@link DateTimeException} if the result
+ * exceeds the supported date range, in which case the cursor is not moved.
+ * <p>
+ * This class is mutable and not thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+public final class PersianDateCursor {
+
+    private int year;
+
+    private int month;
+
+    private int day;
+
+    private boolean leapYear;
+
+    private int lengthOfMonth;
+
+    private long epochDay;
+
+    private PersianDateCursor() {
+    }
+
+    /**
+     * Obtains a cursor at a Persian date.
+     *
+     * @param date the date to start from, not null
+     * @return a new cursor, not null
+     */
+    public static PersianDateCursor of(PersianDate date) {
+        return new PersianDateCursor().set(date);
+    }
+
+    /**
+     * Obtains a cursor at a Persian date with year, month and day of month.
+     *
+     * @param year       the year to represent, from 1 to MAX_YEAR
+     * @param month      the value of month, from 1 to 12
+     * @param dayOfMonth the dayOfMonth to represent, from 1 to 31
+     * @return a new cursor, not null
+     * @throws DateTimeException if the passed parameters do not form a valid date
+     */
+    public static PersianDateCursor of(int year, int month, int dayOfMonth) {
+        return new PersianDateCursor().set(year, month, dayOfMonth);
+    }
+
+    /**
+     * Moves this cursor to a Persian date.
+     *
+     * @param date the date to move to, not null
+     * @return this cursor
+     */
+    public PersianDateCursor set(PersianDate date) {
+        Objects.requireNonNull(date, "date");
+        setUnchecked(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+        return this;
+    }
+
+    /**
+     * Moves this cursor to a Persian date with year, month and day of month.
+     *
+     * @param year       the year to represent, from 1 to MAX_YEAR
+     * @param month      the value of month, from 1 to 12
+     * @param dayOfMonth the dayOfMonth to represent, from 1 to 31
+     * @return this cursor
+     * @throws DateTimeException if the passed parameters do not form a valid date
+     */
+    public PersianDateCursor set(int year, int month, int dayOfMonth) {
+        PackedPersianDate.of(year, month, dayOfMonth);
+        setUnchecked(year, month, dayOfMonth);
+        return this;
+    }
+
+    private void setUnchecked(int year, int month, int dayOfMonth) {
+        this.year = year;
+        this.month = month;
+        this.day = dayOfMonth;
+        this.leapYear = PersianYearTable.isLeapYear(year);
+        this.lengthOfMonth = PersianMonth.of(month).length(leapYear);
+        this.epochDay = PersianYearTable.toEpochDay(year, month, dayOfMonth);
+    }
+
+    private void setEpochDay(long epochDay) {
+        int packed = PackedPersianDate.ofEpochDay(epochDay);
+        setUnchecked(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the year
+     */
+    public int getYear() {
+        return year;
+    }
+
+    /**
+     * @return the month-of-year field using the {@code PersianMonth} enum
+     * @see #getMonthValue()
+     */
+    public PersianMonth getMonth() {
+        return PersianMonth.of(month);
+    }
+
+    /**
+     * @return the month-of-year, from 1 to 12
+     * @see #getMonth()
+     */
+    public int getMonthValue() {
+        return month;
+    }
+
+    /**
+     * @return day-of-month, from 1 to 31
+     */
+    public int getDayOfMonth() {
+        return day;
+    }
+
+    /**
+     * @return day-of-year, from 1 to 365 or 366 in a leap year
+     */
+    public int getDayOfYear() {
+        return PersianYearTable.daysBeforeMonth(month) + day;
+    }
+
+    /**
+     * @return day-of-week, not null
+     */
+    public DayOfWeek getDayOfWeek() {
+        // 1970-01-01 (epoch day 0) is a Thursday
+        return DayOfWeek.of((int) Math.floorMod(epochDay + 3, 7L) + 1);
+    }
+
+    /**
+     * @return true if the year of this cursor is a leap year
+     */
+    public boolean isLeapYear() {
+        return leapYear;
+    }
+
+    /**
+     * @return length of the month of this cursor, from 29 to 31
+     */
+    public int lengthOfMonth() {
+        return lengthOfMonth;
+    }
+
+    /**
+     * @return the epoch day of this cursor, which is kept up to date as the cursor moves
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * @return the date of this cursor, not null
+     */
+    public PersianDate toPersianDate() {
+        return PersianDate.ofUnchecked(year, month, day);
+    }
+
+    /**
+     * @return the date of this cursor as a {@link PackedPersianDate packed date}
+     */
+    public int toPacked() {
+        return PackedPersianDate.packUnchecked(year, month, day);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Moves this cursor to the next day.
+     *
+     * @return this cursor
+     * @throws DateTimeException if this cursor is at {@link PersianDate#MAX}
+     */
+    public PersianDateCursor nextDay() {
+        if (day < lengthOfMonth) {
+            day++;
+        } else if (month < 12) {
+            month++;
+            day = 1;
+            lengthOfMonth = PersianMonth.of(month).length(leapYear);
+        } else {
+            if (year == PersianYearTable.MAX_YEAR) {
+                throw new DateTimeException("Exceeds maximum supported date " + PersianDate.MAX);
+            }
+            year++;
+            month = 1;
+            day = 1;
+            leapYear = PersianYearTable.isLeapYear(year);
+            lengthOfMonth = 31;
+        }
+        epochDay++;
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the previous day.
+     *
+     * @return this cursor
+     * @throws DateTimeException if this cursor is at {@link PersianDate#MIN}
+     */
+    public PersianDateCursor previousDay() {
+        if (day > 1) {
+            day--;
+        } else if (month > 1) {
+            month--;
+            lengthOfMonth = PersianMonth.of(month).length(leapYear);
+            day = lengthOfMonth;
+        } else {
+            if (year == PersianYearTable.MIN_YEAR) {
+                throw new DateTimeException("Exceeds minimum supported date " + PersianDate.MIN);
+            }
+            year--;
+            month = 12;
+            leapYear = PersianYearTable.isLeapYear(year);
+            lengthOfMonth = PersianMonth.ESFAND.length(leapYear);
+            day = lengthOfMonth;
+        }
+        epochDay--;
+        return this;
+    }
+
+    /**
+     * Moves this cursor by the specified number of days. Moves within the current month
+     * only change the day-of-month.
+     *
+     * @param daysToAdd the days to add, may be negative
+     * @return this cursor
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateCursor plusDays(long daysToAdd) {
+        if (daysToAdd >= 1 - day && daysToAdd <= lengthOfMonth - day) {
+            day += (int) daysToAdd;
+            epochDay += daysToAdd;
+        } else {
+            setEpochDay(Math.addExact(epochDay, daysToAdd));
+        }
+        return this;
+    }
+
+    /**
+     * Moves this cursor to the next month. This is the same as {@code plusMonths(1)}, that
+     * is, the day-of-month is adjusted to the last valid day of the month if necessary.
+     *
+     * @return this cursor
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateCursor nextMonth() {
+        return plusMonths(1);
+    }
+
+    /**
+     * Moves this cursor to the previous month. This is the same as {@code plusMonths(-1)},
+     * that is, the day-of-month is adjusted to the last valid day of the month if necessary.
+     *
+     * @return this cursor
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateCursor previousMonth() {
+        return plusMonths(-1);
+    }
+
+    /**
+     * Moves this cursor by the specified number of months. This is the equivalent of
+     * {@link PersianDate#plusMonths(long)}, that is, the day-of-month is adjusted to the
+     * last valid day of the month if necessary.
+     *
+     * @param monthsToAdd the months to add, may be negative
+     * @return this cursor
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateCursor plusMonths(long monthsToAdd) {
+        if (monthsToAdd == 0) {
+            return this;
+        }
+        long calcMonths = year * 12L + month - 1 + monthsToAdd;
+        long newYear = Math.floorDiv(calcMonths, 12L);
+        PersianChronology.INSTANCE.checkValidYear(newYear);
+        if (newYear != year) {
+            year = (int) newYear;
+            leapYear = PersianYearTable.isLeapYear(year);
+        }
+        month = (int) Math.floorMod(calcMonths, 12L) + 1;
+        lengthOfMonth = PersianMonth.of(month).length(leapYear);
+        day = Math.min(day, lengthOfMonth);
+        epochDay = PersianYearTable.toEpochDay(year, month, day);
+        return this;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Compares the date of this cursor to a Persian date.
+     *
+     * @param date the date to compare to, not null
+     * @return negative if the cursor is before {@code date}, positive if it is after and
+     * zero if it is at {@code date}
+     */
+    public int compareTo(PersianDate date) {
+        int cmp = year - date.getYear();
+        if (cmp == 0) {
+            cmp = month - date.getMonthValue();
+            if (cmp == 0) {
+                cmp = day - date.getDayOfMonth();
+            }
+        }
+        return cmp;
+    }
+
+    /**
+     * @param date the date to compare to, not null
+     * @return true if the date of this cursor is before {@code date}
+     */
+    public boolean isBefore(PersianDate date) {
+        return compareTo(date) < 0;
+    }
+
+    /**
+     * @param date the date to compare to, not null
+     * @return true if the date of this cursor is after {@code date}
+     */
+    public boolean isAfter(PersianDate date) {
+        return compareTo(date) > 0;
+    }
+
+    /**
+     * Returns the date of this cursor in the format of {@link PersianDate#toString()}.
+     *
+     * @return the date of this cursor as a string, not null
+     */
+    @Override
+    public String toString() {
+        return toPersianDate().toString();
+    }
+}
@@ -0,0 +1,287 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+import net.jcip.annotations.ThreadSafe;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.IntToLongFunction;
+
+/**
+ * This class provides static methods to write sorted Persian dates to a
+ * {@link ByteBuffer} as deltas of their epoch days, and to read them back lazily.
+ * <p>
+ * A sequence of dates is written as
+ * <ul>
+ * <li>the number of dates, as an unsigned variable-length integer</li>
+ * <li>the epoch day of the first date, as a zig-zag encoded variable-length integer</li>
+ * <li>for every following date, the number of days after the previous date, as an
+ * unsigned variable-length integer</li>
+ * </ul>
+ * Variable-length integers are written seven bits per byte, least significant group
+ * first, with the high bit of every byte but the last one set. So a date that is on the
+ * same day as the previous date, or up to 127 days after it, takes a single byte, and a
+ * column of consecutive dates takes about a byte per date, compared with three bytes of
+ * {@link PersianDate#writeTo(ByteBuffer)} and ten characters of
+ * {@link PersianDate#toString()}. The dates are read back as
+ * {@link PersianDate#ofEpochDay(long)} of the epoch days of the written dates.
+ * <p>
+ * It is not possible to get an instance of this class.
+ * <p>
+ * This class is stateless and thread-safe, as long as the arrays and buffers that are
+ * passed to its methods are not modified concurrently.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+public final class PersianDateDeltaCodec {
+
+    // Ensure non-instantiability
+    private PersianDateDeltaCodec() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Writes the dates of {@code dates} from {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive, to {@code out} at its current position.
+     *
+     * @param dates     the dates to write, in chronological order, not null
+     * @param fromIndex index of the first date to write
+     * @param toIndex   index after the last date to write
+     * @param out       the buffer to write to, not null
+     * @return the number of written bytes
+     * @throws IllegalArgumentException  if the dates are not in chronological order
+     * @throws IndexOutOfBoundsException if {@code fromIndex} and {@code toIndex} are out of
+     *                                   bounds of {@code dates}
+     * @throws BufferOverflowException   if there is not enough room in {@code out}
+     * @throws NullPointerException      if one of the dates is null
+     */
+    public static int encode(PersianDate[] dates, int fromIndex, int toIndex, ByteBuffer out) {
+        Objects.requireNonNull(dates, "dates");
+        MyUtils.checkFromToIndex(dates.length, fromIndex, toIndex);
+        return encode(i -> dates[i].toEpochDay(), fromIndex, toIndex, out);
+    }
+
+    /**
+     * Writes the dates of the epoch days of {@code epochDays} from {@code fromIndex},
+     * inclusive, to {@code toIndex}, exclusive, to {@code out} at its current position.
+     * If there is not enough room in {@code out}, the position of {@code out} is not
+     * changed, although some of its bytes may be overwritten.
+     *
+     * @param epochDays the epoch days to write, in ascending order, not null
+     * @param fromIndex index of the first epoch day to write
+     * @param toIndex   index after the last epoch day to write
+     * @param out       the buffer to write to, not null
+     * @return the number of written bytes
+     * @throws IllegalArgumentException  if the epoch days are not in ascending order
+     * @throws DateTimeException         if an epoch day exceeds the supported date range
+     * @throws IndexOutOfBoundsException if {@code fromIndex} and {@code toIndex} are out of
+     *                                   bounds of {@code epochDays}
+     * @throws BufferOverflowException   if there is not enough room in {@code out}
+     */
+    public static int encode(long[] epochDays, int fromIndex, int toIndex, ByteBuffer out) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        MyUtils.checkFromToIndex(epochDays.length, fromIndex, toIndex);
+        return encode(i -> epochDays[i], fromIndex, toIndex, out);
+    }
+
+    private static int encode(IntToLongFunction epochDays, int fromIndex, int toIndex, ByteBuffer out) {
+        Objects.requireNonNull(out, "out");
+        // validate first, so that nothing is written if an epoch day is invalid
+        long previous = Long.MIN_VALUE;
+        for (int i = fromIndex; i < toIndex; i++) {
+            long epochDay = epochDays.applyAsLong(i);
+            checkEpochDay(epochDay);
+            if (epochDay < previous) {
+                throw new IllegalArgumentException("Dates are not in chronological order at index " + i);
+            }
+            previous = epochDay;
+        }
+        int start = out.position();
+        try {
+            writeVarint(out, toIndex - fromIndex);
+            if (fromIndex < toIndex) {
+                previous = epochDays.applyAsLong(fromIndex);
+                writeVarint(out, (previous << 1) ^ (previous >> 63));
+            }
+            for (int i = fromIndex + 1; i < toIndex; i++) {
+                long epochDay = epochDays.applyAsLong(i);
+                writeVarint(out, epochDay - previous);
+                previous = epochDay;
+            }
+        } catch (BufferOverflowException ex) {
+            out.position(start);
+            throw ex;
+        }
+        return out.position() - start;
+    }
+
+    /**
+     * Returns a decoder that reads dates, that are written by one of the {@code encode}
+     * methods, from {@code in} at its current position. Dates are read as they are
+     * requested, and the position of {@code in} is advanced past the bytes of every
+     * read date.
+     *
+     * @param in the buffer to read from, not null
+     * @return a decoder, not null
+     * @throws BufferUnderflowException if {@code in} ends before the number of dates
+     * @throws IllegalArgumentException if the number of dates is malformed
+     */
+    public static Decoder decoder(ByteBuffer in) {
+        Objects.requireNonNull(in, "in");
+        long count = readVarint(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Malformed number of dates: " + count);
+        }
+        return new Decoder(in, (int) count);
+    }
+
+    /**
+     * Reads all of the dates that are written by one of the {@code encode} methods from
+     * {@code in} at its current position.
+     *
+     * @param in the buffer to read from, not null
+     * @return the read dates, not null
+     * @throws BufferUnderflowException if {@code in} ends before the last date
+     * @throws IllegalArgumentException if the bytes are malformed
+     * @throws DateTimeException        if a date exceeds the supported date range
+     */
+    public static PersianDate[] decode(ByteBuffer in) {
+        Decoder decoder = decoder(in);
+        // every date takes at least a byte
+        if (decoder.remaining() > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        PersianDate[] dates = new PersianDate[decoder.remaining()];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = decoder.next();
+        }
+        return dates;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A lazy reader of the dates that are written by one of the {@code encode} methods of
+     * {@link PersianDateDeltaCodec}, which is obtained by
+     * {@link PersianDateDeltaCodec#decoder(ByteBuffer)}. Epoch days can be read by
+     * {@link #nextEpochDay()} without creating any object.
+     * <p>
+     * This class is mutable and not thread-safe.
+     */
+    @NotThreadSafe
+    public static final class Decoder implements Iterator<PersianDate> {
+
+        private final ByteBuffer in;
+
+        private final int count;
+
+        private int index;
+
+        private long epochDay;
+
+        /**
+         * The last date that is returned by {@link #next()}, and its epoch day.
+         */
+        private PersianDate date;
+
+        private long dateEpochDay;
+
+        private Decoder(ByteBuffer in, int count) {
+            this.in = in;
+            this.count = count;
+        }
+
+        /**
+         * @return true if there are dates that are not read yet
+         */
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        /**
+         * @return the number of dates that are not read yet
+         */
+        public int remaining() {
+            return count - index;
+        }
+
+        /**
+         * Reads the epoch day of the next date.
+         *
+         * @return the epoch day of the next date
+         * @throws NoSuchElementException   if all of the dates are read
+         * @throws BufferUnderflowException if the buffer ends before the date
+         * @throws IllegalArgumentException if the bytes of the date are malformed
+         * @throws DateTimeException        if the date exceeds the supported date range
+         */
+        public long nextEpochDay() {
+            if (index >= count) {
+                throw new NoSuchElementException();
+            }
+            long value = readVarint(in);
+            long next = index == 0 ? (value >>> 1) ^ -(value & 1) : epochDay + value;
+            // a negative delta is more than 2^63 days, which may overflow to a valid day
+            if ((index > 0 && value < 0) || !PersianYearTable.isSupportedEpochDay(next)) {
+                throw new DateTimeException("Invalid epoch day of date " + index);
+            }
+            index++;
+            return epochDay = next;
+        }
+
+        /**
+         * Reads the next date.
+         *
+         * @return the next date, not null
+         * @throws NoSuchElementException   if all of the dates are read
+         * @throws BufferUnderflowException if the buffer ends before the date
+         * @throws IllegalArgumentException if the bytes of the date are malformed
+         * @throws DateTimeException        if the date exceeds the supported date range
+         */
+        @Override
+        public PersianDate next() {
+            long next = nextEpochDay();
+            // dates on the same day as the previous date are common in sorted columns
+            if (date == null || dateEpochDay != next) {
+                date = PersianDate.ofEpochDay(next);
+                dateEpochDay = next;
+            }
+            return date;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    private static void writeVarint(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+
+    private static void checkEpochDay(long epochDay) {
+        if (!PersianYearTable.isSupportedEpochDay(epochDay)) {
+            throw new DateTimeException("Invalid value for EpochDay: " + epochDay + ", valid values: [" +
+                    PersianYearTable.MIN_EPOCH_DAY + ", " + PersianYearTable.MAX_EPOCH_DAY + "]");
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Formatter for printing and parsing Persian dates, which is compiled once from a
+ * pattern such as {@code "yyyy/MM/dd EEEE"}.
+ * <p>
+ * The pattern is compiled into an array of printing and parsing steps when the formatter is
+ * created, so that formatting a date only runs the steps on the fields of the date. Unlike
+ * {@link java.time.format.DateTimeFormatter}, fields are not looked up through
+ * {@link java.time.temporal.TemporalAccessor} and names of months and days-of-week are not
+ * looked up in locale data. Formatting to a {@link StringBuilder} does not create any object.
+ * <p>
+ * The following pattern letters are supported:
+ * <pre>
+ *  Symbol  Meaning            Examples
+ *  ------  -------            --------
+ *   y       year               1396; 96
+ *   M       month-of-year      8; 08; آبان
+ *   d       day-of-month       7; 07
+ *   D       day-of-year        223
+ *   E       day-of-week        دوشنبه
+ * </pre>
+ * The count of pattern letters determines the format:
+ * <ul>
+ * <li>Year: one letter prints the year without padding. Two letters print the last two
+ * digits of the year, and parse them as a year from 1400 to 1499, in the same way as
+ * {@code DateTimeFormatter} parses them based on year 2000. Three or four letters pad the
+ * year with zeros to that width.</li>
+ * <li>Month: one letter prints the month without padding, two letters pad it to two digits.
+ * Three or four letters print the Persian name of the month, as in
+ * {@link PersianMonth#getPersianName()}.</li>
+ * <li>Day-of-month and day-of-year: one letter prints the value without padding, more
+ * letters pad it with zeros to that width.</li>
+ * <li>Day-of-week: one to four letters print the Persian name of the day-of-week, such as
+ * {@code شنبه}.</li>
+ * </ul>
+ * Any non-letter character, other than {@code '}, is printed and parsed as is. Letters
+ * are reserved, and have to be enclosed in single quotes to be used as literals, such as
+ * {@code 'T'}. Two single quotes represent a single quote.
+ * <p>
+ * Numbers are printed in the digits of {@link #getDigits()}, which are Latin by default,
+ * and parsed in any of the systems of {@link PersianDigits}. A text is parsed only if it
+ * is completely matched by the pattern and the parsed fields form a single valid date.
+ * <p>
+ * This class is immutable and thread-safe, so a single instance can be shared by all
+ * threads.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianDateFormatter {
+
+    private static final String[] MONTH_NAMES = new String[12];
+
+    static {
+        for (PersianMonth month : PersianMonth.values()) {
+            MONTH_NAMES[month.ordinal()] = month.getPersianName();
+        }
+    }
+
+    /**
+     * The base of two-digit years, which are parsed as years from {@code BASE_YEAR} to
+     * {@code BASE_YEAR + 99}.
+     */
+    private static final int BASE_YEAR = 1400;
+
+    private final String pattern;
+
+    private final PrinterParser[] steps;
+
+    private final PersianDigits digits;
+
+    private PersianDateFormatter(String pattern, PrinterParser[] steps, PersianDigits digits) {
+        this.pattern = pattern;
+        this.steps = steps;
+        this.digits = digits;
+    }
+
+    /**
+     * Creates a formatter using the specified pattern. Numbers are printed in Latin digits.
+     *
+     * @param pattern the pattern to use, not null
+     * @return the formatter based on the pattern, not null
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static PersianDateFormatter ofPattern(String pattern) {
+        Objects.requireNonNull(pattern, "pattern");
+        return new PersianDateFormatter(pattern, compile(pattern), PersianDigits.LATIN);
+    }
+
+    /**
+     * Returns a copy of this formatter, which prints numbers in {@code digits}.
+     * Parsing is not affected, as numbers are parsed in any digits.
+     *
+     * @param digits the digits to print numbers in, not null
+     * @return a formatter based on this formatter with the requested digits, not null
+     */
+    public PersianDateFormatter withDigits(PersianDigits digits) {
+        Objects.requireNonNull(digits, "digits");
+        return this.digits == digits ? this : new PersianDateFormatter(pattern, steps, digits);
+    }
+
+    /**
+     * @return the digits that numbers are printed in, not null
+     */
+    public PersianDigits getDigits() {
+        return digits;
+    }
+
+    /**
+     * @return the pattern of this formatter, not null
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Formats a date using this formatter.
+     *
+     * @param date the date to format, not null
+     * @return the formatted string, not null
+     */
+    public String format(PersianDate date) {
+        StringBuilder sb = new StringBuilder(32);
+        formatTo(date, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Formats a date using this formatter to {@code sb}. This does not create any object,
+     * unless the builder needs to grow.
+     *
+     * @param date the date to format, not null
+     * @param sb   the builder to format to, not null
+     */
+    public void formatTo(PersianDate date, StringBuilder sb) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(sb, "sb");
+        char zero = digits.getZeroDigit();
+        for (PrinterParser step : steps) {
+            step.format(date, zero, sb);
+        }
+    }
+
+    /**
+     * Parses a text into a date using this formatter. The whole text must be matched by
+     * the pattern.
+     *
+     * @param text the text to parse, not null
+     * @return the parsed date, not null
+     * @throws DateTimeParseException if the text cannot be parsed, or the parsed fields do
+     *                                not form a valid date
+     */
+    public PersianDate parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        Parsed parsed = new Parsed();
+        int position = 0;
+        for (PrinterParser step : steps) {
+            position = step.parse(text, position, parsed);
+            if (position < 0) {
+                int errorIndex = ~position;
+                throw new DateTimeParseException("Text '" + text + "' could not be parsed at index " + errorIndex,
+                        text, errorIndex);
+            }
+        }
+        if (position != text.length()) {
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed, unparsed text found at index " +
+                    position, text, position);
+        }
+        try {
+            return parsed.toDate();
+        } catch (DateTimeException ex) {
+            throw new DateTimeParseException("Text '" + text + "' could not be parsed: " + ex.getMessage(), text, 0, ex);
+        }
+    }
+
+    /**
+     * Returns the pattern of this formatter.
+     *
+     * @return the pattern, not null
+     */
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    //-----------------------------------------------------------------------
+
+    private static PrinterParser[] compile(String pattern) {
+        List<PrinterParser> steps = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                int count = 1;
+                while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                    count++;
+                }
+                if (literal.length() > 0) {
+                    steps.add(new LiteralPrinterParser(literal.toString()));
+                    literal.setLength(0);
+                }
+                steps.add(fieldStep(c, count, pattern));
+                i += count;
+            } else if (c == '\'') {
+                int end = i + 1;
+                while (true) {
+                    if (end == pattern.length()) {
+                        throw new IllegalArgumentException("Pattern ends with an incomplete string literal: " + pattern);
+                    }
+                    if (pattern.charAt(end) == '\'') {
+                        if (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'') {
+                            // Two single quotes in a quoted literal represent a single quote
+                            literal.append('\'');
+                            end += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    literal.append(pattern.charAt(end++));
+                }
+                if (end == i + 1) {
+                    // Two single quotes outside of a literal represent a single quote
+                    literal.append('\'');
+                }
+                i = end + 1;
+            } else {
+                literal.append(c);
+                i++;
+            }
+        }
+        if (literal.length() > 0) {
+            steps.add(new LiteralPrinterParser(literal.toString()));
+        }
+        return steps.toArray(new PrinterParser[0]);
+    }
+
+    private static PrinterParser fieldStep(char letter, int count, String pattern) {
+        switch (letter) {
+            case 'y':
+                if (count == 2) {
+                    return new ReducedYearPrinterParser();
+                }
+                if (count <= 4) {
+                    return new NumberPrinterParser(Parsed.YEAR, count == 1 ? 1 : count, 4);
+                }
+                break;
+            case 'M':
+                if (count <= 2) {
+                    return new NumberPrinterParser(Parsed.MONTH, count, 2);
+                }
+                if (count <= 4) {
+                    return new TextPrinterParser(Parsed.MONTH, MONTH_NAMES);
+                }
+                break;
+            case 'd':
+                if (count <= 2) {
+                    return new NumberPrinterParser(Parsed.DAY_OF_MONTH, count, 2);
+                }
+                break;
+            case 'D':
+                if (count <= 3) {
+                    return new NumberPrinterParser(Parsed.DAY_OF_YEAR, count, 3);
+                }
+                break;
+            case 'E':
+                if (count <= 4) {
+                    return new TextPrinterParser(Parsed.DAY_OF_WEEK, PersianChronology.DAY_OF_WEEK_NAMES);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown pattern letter: " + letter + " in " + pattern);
+        }
+        throw new IllegalArgumentException("Too many pattern letters: " + letter + " in " + pattern);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * A compiled step of a pattern, which prints a field or a literal, and parses it back.
+     */
+    private interface PrinterParser {
+
+        /**
+         * Prints the step for {@code date} to {@code sb}, with numbers in the digits of
+         * {@code zero}.
+         */
+        void format(PersianDate date, char zero, StringBuilder sb);
+
+        /**
+         * Parses the step from {@code text} at {@code position}, and stores the parsed field
+         * in {@code parsed}.
+         *
+         * @return the position after the parsed text, or the complement of the error position
+         */
+        int parse(CharSequence text, int position, Parsed parsed);
+    }
+
+    private static final class LiteralPrinterParser implements PrinterParser {
+
+        private final String literal;
+
+        LiteralPrinterParser(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public void format(PersianDate date, char zero, StringBuilder sb) {
+            if (literal.length() == 1) {
+                // Appending a char is cheaper than copying a string of one char
+                sb.append(literal.charAt(0));
+            } else {
+                sb.append(literal);
+            }
+        }
+
+        @Override
+        public int parse(CharSequence text, int position, Parsed parsed) {
+            if (text.length() - position < literal.length()) {
+                return ~position;
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                if (text.charAt(position + i) != literal.charAt(i)) {
+                    return ~position;
+                }
+            }
+            return position + literal.length();
+        }
+    }
+
+    private static final class NumberPrinterParser implements PrinterParser {
+
+        private final int field;
+
+        private final int minWidth;
+
+        private final int maxWidth;
+
+        NumberPrinterParser(int field, int minWidth, int maxWidth) {
+            this.field = field;
+            this.minWidth = minWidth;
+            this.maxWidth = maxWidth;
+        }
+
+        @Override
+        public void format(PersianDate date, char zero, StringBuilder sb) {
+            int value = Parsed.get(date, field);
+            int width = 1;
+            int divisor = 1;
+            while (divisor <= value / 10) {
+                divisor *= 10;
+                width++;
+            }
+            for (int i = width; i < minWidth; i++) {
+                sb.append(zero);
+            }
+            for (; divisor != 0; divisor /= 10) {
+                sb.append((char) (zero + value / divisor % 10));
+            }
+        }
+
+        @Override
+        public int parse(CharSequence text, int position, Parsed parsed) {
+            int end = Math.min(text.length(), position + maxWidth);
+            int value = 0;
+            int i = position;
+            for (; i < end; i++) {
+                int digit = PersianDigits.digitValue(text.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                value = value * 10 + digit;
+            }
+            if (i - position < minWidth) {
+                return ~position;
+            }
+            return parsed.set(field, value) ? i : ~position;
+        }
+    }
+
+    /**
+     * Prints the last two digits of year, and parses them based on {@link #BASE_YEAR}.
+     */
+    private static final class ReducedYearPrinterParser implements PrinterParser {
+
+        @Override
+        public void format(PersianDate date, char zero, StringBuilder sb) {
+            int value = date.getYear() % 100;
+            sb.append((char) (zero + value / 10)).append((char) (zero + value % 10));
+        }
+
+        @Override
+        public int parse(CharSequence text, int position, Parsed parsed) {
+            if (text.length() - position < 2) {
+                return ~position;
+            }
+            int d0 = PersianDigits.digitValue(text.charAt(position));
+            int d1 = PersianDigits.digitValue(text.charAt(position + 1));
+            if ((d0 | d1) < 0) {
+                return ~position;
+            }
+            return parsed.set(Parsed.YEAR, BASE_YEAR + d0 * 10 + d1) ? position + 2 : ~position;
+        }
+    }
+
+    /**
+     * Prints a field as one of the names, and parses the longest matching name.
+     */
+    private static final class TextPrinterParser implements PrinterParser {
+
+        private final int field;
+
+        /**
+         * Names of the values from 1, in order.
+         */
+        private final String[] names;
+
+        TextPrinterParser(int field, String[] names) {
+            this.field = field;
+            this.names = names;
+        }
+
+        @Override
+        public void format(PersianDate date, char zero, StringBuilder sb) {
+            sb.append(names[Parsed.get(date, field) - 1]);
+        }
+
+        @Override
+        public int parse(CharSequence text, int position, Parsed parsed) {
+            int match = -1;
+            int matchLength = 0;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.length() > matchLength && regionMatches(text, position, name)) {
+                    match = i;
+                    matchLength = name.length();
+                }
+            }
+            if (match < 0 || !parsed.set(field, match + 1)) {
+                return ~position;
+            }
+            return position + matchLength;
+        }
+
+        private static boolean regionMatches(CharSequence text, int position, String name) {
+            if (text.length() - position < name.length()) {
+                return false;
+            }
+            for (int i = 0; i < name.length(); i++) {
+                if (text.charAt(position + i) != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The fields of a text that is being parsed. A field that is not parsed is zero.
+     */
+    private static final class Parsed {
+
+        static final int YEAR = 0;
+        static final int MONTH = 1;
+        static final int DAY_OF_MONTH = 2;
+        static final int DAY_OF_YEAR = 3;
+        static final int DAY_OF_WEEK = 4;
+
+        private final int[] values = new int[5];
+
+        /**
+         * Returns value of {@code field} in {@code date}. Day-of-week is from 1 (Monday)
+         * to 7 (Sunday).
+         */
+        static int get(PersianDate date, int field) {
+            switch (field) {
+                case YEAR:
+                    return date.getYear();
+                case MONTH:
+                    return date.getMonthValue();
+                case DAY_OF_MONTH:
+                    return date.getDayOfMonth();
+                case DAY_OF_YEAR:
+                    return date.getDayOfYear();
+                default:
+                    return date.getDayOfWeek().getValue();
+            }
+        }
+
+        /**
+         * Stores a parsed field.
+         *
+         * @return false if the value is zero, which is not valid for any field, or the
+         * field was already parsed with another value
+         */
+        boolean set(int field, int value) {
+            if (value == 0 || (values[field] != 0 && values[field] != value)) {
+                return false;
+            }
+            values[field] = value;
+            return true;
+        }
+
+        PersianDate toDate() {
+            int year = values[YEAR];
+            int month = values[MONTH];
+            int day = values[DAY_OF_MONTH];
+            int dayOfYear = values[DAY_OF_YEAR];
+            PersianDate date;
+            if (year != 0 && month != 0 && day != 0) {
+                date = PersianDate.of(year, month, day);
+                if (dayOfYear != 0 && date.getDayOfYear() != dayOfYear) {
+                    throw new DateTimeException("Conflict found: day-of-year " + dayOfYear + " differs from " + date);
+                }
+            } else if (year != 0 && dayOfYear != 0) {
+                date = PersianChronology.INSTANCE.dateYearDay(year, dayOfYear);
+                if ((month != 0 && month != date.getMonthValue()) || (day != 0 && day != date.getDayOfMonth())) {
+                    throw new DateTimeException("Conflict found: day-of-year " + dayOfYear + " differs from " +
+                            "month and day-of-month");
+                }
+            } else {
+                throw new DateTimeException("Unable to obtain PersianDate from the parsed fields, " +
+                        "year and month and day-of-month, or year and day-of-year are required");
+            }
+            if (values[DAY_OF_WEEK] != 0 && values[DAY_OF_WEEK] != date.getDayOfWeek().getValue()) {
+                throw new DateTimeException("Conflict found: " + date + " is " + date.getDayOfWeek() +
+                        ", not " + DayOfWeek.of(values[DAY_OF_WEEK]));
+            }
+            return date;
+        }
+    }
+}
@@ -0,0 +1,431 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A set of Persian dates that is kept as disjoint ranges of days, such as holidays,
+ * validity periods or blackout windows.
+ * <p>
+ * A range is from a start date, inclusive, to an end date, exclusive, the same as
+ * {@link PersianDate#datesUntil(PersianDate)}. Ranges are kept as epoch days in two
+ * sorted {@code int} arrays, and overlapping or adjacent ranges are merged as they are
+ * added. So the set is the same whichever order ranges are added in, and
+ * {@link #contains(PersianDate)}, {@link #overlaps(PersianDate, PersianDate)} and
+ * {@link #encloses(PersianDate, PersianDate)} are binary searches on the arrays that
+ * neither create nor compare {@code PersianDate} objects. Adding and removing ranges
+ * takes linear time in the number of ranges.
+ * <p>
+ * This class is mutable and not thread-safe. A set that is filled once and then only
+ * queried can be shared by threads, if it is safely published.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+public final class PersianDateRangeSet {
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    /**
+     * The epoch days of the starts of the ranges, inclusive, in ascending order.
+     */
+    private int[] starts;
+
+    /**
+     * The epoch days of the ends of the ranges, exclusive, in ascending order. Every end
+     * is less than the start of the next range, as adjacent ranges are merged.
+     */
+    private int[] ends;
+
+    /**
+     * The number of ranges.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty set.
+     */
+    public PersianDateRangeSet() {
+        this.starts = new int[DEFAULT_CAPACITY];
+        this.ends = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Constructs a set with the same ranges as {@code other}.
+     *
+     * @param other the set to copy, not null
+     */
+    public PersianDateRangeSet(PersianDateRangeSet other) {
+        Objects.requireNonNull(other, "other");
+        int capacity = Math.max(other.size, DEFAULT_CAPACITY);
+        this.starts = Arrays.copyOf(other.starts, capacity);
+        this.ends = Arrays.copyOf(other.ends, capacity);
+        this.size = other.size;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Adds a single date to this set.
+     *
+     * @param date the date to add, not null
+     * @return true if this set changed
+     */
+    public boolean add(PersianDate date) {
+        int epochDay = epochDay(date, "date");
+        return add(epochDay, epochDay + 1);
+    }
+
+    /**
+     * Adds the dates from {@code startInclusive} to {@code endExclusive} to this set. The
+     * range is merged with the ranges of this set that overlap or are adjacent to it.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @return true if this set changed
+     * @throws IllegalArgumentException if the end date is before the start date
+     */
+    public boolean add(PersianDate startInclusive, PersianDate endExclusive) {
+        int start = epochDay(startInclusive, "startInclusive");
+        int end = epochDay(endExclusive, "endExclusive");
+        checkRange(start, end, startInclusive, endExclusive);
+        return start != end && add(start, end);
+    }
+
+    private boolean add(int start, int end) {
+        // ranges from 'from' to 'to' overlap or touch [start, end)
+        int from = firstEndAtLeast(start);
+        int to = firstStartAbove(end);
+        if (to - from == 1 && starts[from] <= start && ends[from] >= end) {
+            return false;
+        }
+        if (from < to) {
+            start = Math.min(start, starts[from]);
+            end = Math.max(end, ends[to - 1]);
+        }
+        replace(from, to, 1);
+        starts[from] = start;
+        ends[from] = end;
+        return true;
+    }
+
+    /**
+     * Removes a single date from this set.
+     *
+     * @param date the date to remove, not null
+     * @return true if this set changed
+     */
+    public boolean remove(PersianDate date) {
+        int epochDay = epochDay(date, "date");
+        return remove(epochDay, epochDay + 1);
+    }
+
+    /**
+     * Removes the dates from {@code startInclusive} to {@code endExclusive} from this
+     * set. The ranges of this set that partly overlap the range are cut.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @return true if this set changed
+     * @throws IllegalArgumentException if the end date is before the start date
+     */
+    public boolean remove(PersianDate startInclusive, PersianDate endExclusive) {
+        int start = epochDay(startInclusive, "startInclusive");
+        int end = epochDay(endExclusive, "endExclusive");
+        checkRange(start, end, startInclusive, endExclusive);
+        return start != end && remove(start, end);
+    }
+
+    private boolean remove(int start, int end) {
+        // ranges from 'from' to 'to' overlap [start, end)
+        int from = firstEndAtLeast(start + 1);
+        int to = firstStartAbove(end - 1);
+        if (from >= to) {
+            return false;
+        }
+        int firstStart = starts[from];
+        int lastEnd = ends[to - 1];
+        int count = (firstStart < start ? 1 : 0) + (lastEnd > end ? 1 : 0);
+        replace(from, to, count);
+        if (firstStart < start) {
+            ends[from++] = start;
+        }
+        if (lastEnd > end) {
+            starts[from] = end;
+            ends[from] = lastEnd;
+        }
+        return true;
+    }
+
+    /**
+     * Removes all of the ranges of this set.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks if this set contains a date.
+     *
+     * @param date the date to check, not null
+     * @return true if {@code date} is in one of the ranges of this set
+     */
+    public boolean contains(PersianDate date) {
+        return containsEpochDay(epochDay(date, "date"));
+    }
+
+    /**
+     * Checks if this set contains the date of an epoch day.
+     *
+     * @param epochDay the epoch day to check
+     * @return true if {@code epochDay} is in one of the ranges of this set
+     */
+    public boolean containsEpochDay(long epochDay) {
+        if (epochDay < Integer.MIN_VALUE || epochDay >= Integer.MAX_VALUE) {
+            return false;
+        }
+        int index = firstStartAbove((int) epochDay) - 1;
+        return index >= 0 && epochDay < ends[index];
+    }
+
+    /**
+     * Checks if any of the dates from {@code startInclusive} to {@code endExclusive} is
+     * in this set.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @return true if the range and this set have a date in common, false if the range
+     * is empty
+     * @throws IllegalArgumentException if the end date is before the start date
+     */
+    public boolean overlaps(PersianDate startInclusive, PersianDate endExclusive) {
+        int start = epochDay(startInclusive, "startInclusive");
+        int end = epochDay(endExclusive, "endExclusive");
+        checkRange(start, end, startInclusive, endExclusive);
+        return start != end && firstEndAtLeast(start + 1) < firstStartAbove(end - 1);
+    }
+
+    /**
+     * Checks if all of the dates from {@code startInclusive} to {@code endExclusive} are
+     * in this set, that is, if a single range of this set encloses the range.
+     *
+     * @param startInclusive the start date, inclusive, not null
+     * @param endExclusive   the end date, exclusive, not null
+     * @return true if this set contains all of the dates of the range, true if the range
+     * is empty
+     * @throws IllegalArgumentException if the end date is before the start date
+     */
+    public boolean encloses(PersianDate startInclusive, PersianDate endExclusive) {
+        int start = epochDay(startInclusive, "startInclusive");
+        int end = epochDay(endExclusive, "endExclusive");
+        checkRange(start, end, startInclusive, endExclusive);
+        if (start == end) {
+            return true;
+        }
+        int index = firstStartAbove(start) - 1;
+        return index >= 0 && end <= ends[index];
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return true if this set has no dates
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of disjoint ranges of this set. Adjacent ranges are merged, so
+     * it may be less than the number of added ranges.
+     *
+     * @return the number of ranges
+     */
+    public int rangeCount() {
+        return size;
+    }
+
+    /**
+     * Returns the number of dates in this set.
+     *
+     * @return the number of dates in all of the ranges
+     */
+    public long dayCount() {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            count += ends[i] - starts[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the start date of a range of this set. Ranges are ordered chronologically.
+     *
+     * @param index the index of the range, from 0 to {@code rangeCount() - 1}
+     * @return the start date of the range, inclusive, not null
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public PersianDate getStart(int index) {
+        return PersianDate.ofEpochDay(starts[checkIndex(index)]);
+    }
+
+    /**
+     * Returns the last date of a range of this set. Ranges are ordered chronologically.
+     *
+     * @param index the index of the range, from 0 to {@code rangeCount() - 1}
+     * @return the last date of the range, inclusive, not null
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public PersianDate getLast(int index) {
+        return PersianDate.ofEpochDay(ends[checkIndex(index)] - 1);
+    }
+
+    /**
+     * Returns the end date of a range of this set. Ranges are ordered chronologically.
+     *
+     * @param index the index of the range, from 0 to {@code rangeCount() - 1}
+     * @return the end date of the range, exclusive, not null
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     * @throws DateTimeException         if the range ends at {@link PersianDate#MAX}, so
+     *                                   that its end date is not supported
+     */
+    public PersianDate getEndExclusive(int index) {
+        return PersianDate.ofEpochDay(ends[checkIndex(index)]);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns the index of the first range whose end is at least {@code epochDay}, or
+     * {@code size} if there is none.
+     */
+    private int firstEndAtLeast(int epochDay) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ends[mid] < epochDay) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Returns the index of the first range whose start is greater than {@code epochDay},
+     * or {@code size} if there is none.
+     */
+    private int firstStartAbove(int epochDay) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= epochDay) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Replaces the ranges from {@code from}, inclusive, to {@code to}, exclusive, by
+     * {@code count} slots, which are filled by the caller.
+     */
+    private void replace(int from, int to, int count) {
+        int newSize = size - (to - from) + count;
+        if (newSize > starts.length) {
+            int capacity = Math.max(newSize, starts.length + (starts.length >> 1));
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+        System.arraycopy(starts, to, starts, from + count, size - to);
+        System.arraycopy(ends, to, ends, from + count, size - to);
+        size = newSize;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + ", range count " + size);
+        }
+        return index;
+    }
+
+    private static int epochDay(PersianDate date, String name) {
+        Objects.requireNonNull(date, name);
+        return (int) date.toEpochDay();
+    }
+
+    private static void checkRange(int start, int end, PersianDate startInclusive, PersianDate endExclusive) {
+        if (end < start) {
+            throw new IllegalArgumentException(endExclusive + " < " + startInclusive);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks if this set has the same dates as another set.
+     *
+     * @param obj the object to check, null returns false
+     * @return true if {@code obj} is a {@code PersianDateRangeSet} with the same dates
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PersianDateRangeSet)) {
+            return false;
+        }
+        PersianDateRangeSet other = (PersianDateRangeSet) obj;
+        if (size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (starts[i] != other.starts[i] || ends[i] != other.ends[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a hash code for this set
+     */
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * (31 * hash + starts[i]) + ends[i];
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the ranges of this set by their first and last dates, such as
+     * {@code [1398-01-01..1398-01-04, 1398-01-12..1398-01-13]}.
+     *
+     * @return a string representation of this set, not null
+     */
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(2 + size * 24);
+        buf.append('[');
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            buf.append(getStart(i)).append("..").append(getLast(i));
+        }
+        return buf.append(']').toString();
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the dates from a start date, stepping by a number of months
+ * and a number of days, which is used by {@link PersianDate#datesUntil(PersianDate)} and
+ * {@link PersianDate#datesUntil(PersianDate, java.time.chrono.ChronoPeriod)}.
+ * <p>
+ * The element at index {@code n} is the start date plus {@code n * stepMonths} months
+ * and then {@code n * stepDays} days, the same as
+ * {@code start.plusMonths(n * stepMonths).plusDays(n * stepDays)}. A spliterator covers a
+ * range of indexes and is split at the middle of the range, so parallel streams divide
+ * the work evenly. Every element is computed from its index by table lookups, and a
+ * range of days is traversed by incrementing the day-of-month, without converting epoch
+ * days to dates.
+ * <p>
+ * This class is not thread-safe, as required by the {@code Spliterator} contract.
+ *
+ * @author Mahmoud Fathi
+ */
+@NotThreadSafe
+final class PersianDateSpliterator implements Spliterator<PersianDate> {
+
+    private final int startYear;
+
+    private final int startMonth;
+
+    private final int startDay;
+
+    private final long startEpochDay;
+
+    private final long stepMonths;
+
+    private final long stepDays;
+
+    /**
+     * The index of the next element.
+     */
+    private long index;
+
+    /**
+     * One past the index of the last element.
+     */
+    private final long fence;
+
+    private PersianDateSpliterator(PersianDate start, long stepMonths, long stepDays, long index, long fence) {
+        this.startYear = start.getYear();
+        this.startMonth = start.getMonthValue();
+        this.startDay = start.getDayOfMonth();
+        this.startEpochDay = start.toEpochDay();
+        this.stepMonths = stepMonths;
+        this.stepDays = stepDays;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Constructor of a spliterator that is split from {@code parent}.
+     */
+    private PersianDateSpliterator(long index, long fence, PersianDateSpliterator parent) {
+        this.startYear = parent.startYear;
+        this.startMonth = parent.startMonth;
+        this.startDay = parent.startDay;
+        this.startEpochDay = parent.startEpochDay;
+        this.stepMonths = parent.stepMonths;
+        this.stepDays = parent.stepDays;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    /**
+     * Creates a spliterator over the dates from {@code start}, inclusive, to
+     * {@code endExclusive}, exclusive, stepping by the specified months and days.
+     *
+     * @param start        the start date, inclusive, not null
+     * @param endExclusive the end date, exclusive, not null
+     * @param stepMonths   the months of the step
+     * @param stepDays     the days of the step
+     * @return the spliterator, not null
+     * @throws IllegalArgumentException if the step is zero, if the months and days of the
+     *                                  step have opposite signs, or if the step goes away
+     *                                  from the end date
+     */
+    static PersianDateSpliterator of(PersianDate start, PersianDate endExclusive, long stepMonths, long stepDays) {
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(endExclusive, "endExclusive");
+        if (stepMonths == 0 && stepDays == 0) {
+            throw new IllegalArgumentException("step is zero");
+        }
+        if ((stepMonths < 0 && stepDays > 0) || (stepMonths > 0 && stepDays < 0)) {
+            throw new IllegalArgumentException("step months and days are of opposite sign");
+        }
+        long endEpochDay = endExclusive.toEpochDay();
+        long until = endEpochDay - start.toEpochDay();
+        int sign = stepMonths > 0 || stepDays > 0 ? 1 : -1;
+        if (until != 0 && (sign < 0 ^ until < 0)) {
+            throw new IllegalArgumentException(endExclusive + (sign < 0 ? " > " : " < ") + start);
+        }
+        PersianDateSpliterator spliterator = new PersianDateSpliterator(start, stepMonths, stepDays, 0, 0);
+        if (until == 0) {
+            return spliterator;
+        }
+        if (stepMonths == 0) {
+            return new PersianDateSpliterator(start, 0, stepDays, 0, (until - sign) / stepDays + 1);
+        }
+        // n steps are at least n * (stepMonths * 29 + stepDays) days, less two days of
+        // clamping to the end of the month, so the element at index hi is not before the end
+        long lo = 1;
+        long hi = (Math.abs(until) + 2) / (Math.abs(stepMonths) * 29 + Math.abs(stepDays)) + 1;
+        while (lo < hi) {
+            long mid = (lo + hi) >>> 1;
+            long epochDay = spliterator.epochDayAt(mid);
+            if (sign > 0 ? epochDay < endEpochDay : epochDay > endEpochDay) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return new PersianDateSpliterator(start, stepMonths, stepDays, 0, lo);
+    }
+
+    /**
+     * Returns the epoch day of the element at an index, or the maximum (or the minimum,
+     * if stepping backwards) long value if it is out of the supported range.
+     */
+    private long epochDayAt(long n) {
+        if (stepMonths == 0) {
+            return startEpochDay + n * stepDays;
+        }
+        long monthCount = startYear * 12L + startMonth - 1 + n * stepMonths;
+        long year = Math.floorDiv(monthCount, 12L);
+        if (year < PersianYearTable.MIN_YEAR || year > PersianYearTable.MAX_YEAR) {
+            return stepMonths > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        int month = (int) Math.floorMod(monthCount, 12L) + 1;
+        int day = Math.min(startDay, PersianMonth.of(month).length(PersianYearTable.isLeapYear((int) year)));
+        return PersianYearTable.toEpochDay((int) year, month, day) + n * stepDays;
+    }
+
+    private PersianDate dateAt(long n) {
+        int packed = PackedPersianDate.ofEpochDayUnchecked(epochDayAt(n));
+        return PersianDate.ofUnchecked(packed >>> 9, (packed >>> 5) & 0xF, packed & 0x1F);
+    }
+
+    //-----------------------------------------------------------------------
+
+    @Override
+    public boolean tryAdvance(Consumer<? super PersianDate> action) {
+        Objects.requireNonNull(action, "action");
+        if (index < fence) {
+            action.accept(dateAt(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super PersianDate> action) {
+        Objects.requireNonNull(action, "action");
+        long i = index;
+        long hi = fence;
+        if (i >= hi) {
+            return;
+        }
+        index = hi;
+        if (stepMonths != 0 || stepDays <= 0 || stepDays > 28) {
+            for (; i < hi; i++) {
+                action.accept(dateAt(i));
+            }
+            return;
+        }
+        int packed = PackedPersianDate.ofEpochDayUnchecked(epochDayAt(i));
+        int year = packed >>> 9;
+        int month = (packed >>> 5) & 0xF;
+        int day = packed & 0x1F;
+        int lengthOfMonth = PersianMonth.of(month).length(PersianYearTable.isLeapYear(year));
+        for (; i < hi; i++) {
+            action.accept(PersianDate.ofUnchecked(year, month, day));
+            day += stepDays;
+            while (day > lengthOfMonth) {
+                day -= lengthOfMonth;
+                if (++month > 12) {
+                    month = 1;
+                    year++;
+                }
+                lengthOfMonth = PersianMonth.of(month).length(PersianYearTable.isLeapYear(year));
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<PersianDate> trySplit() {
+        long lo = index;
+        long mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        }
+        index = mid;
+        return new PersianDateSpliterator(lo, mid, this);
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        int characteristics = ORDERED | DISTINCT | NONNULL | IMMUTABLE | SIZED | SUBSIZED;
+        return stepMonths > 0 || stepDays > 0 ? characteristics | SORTED : characteristics;
+    }
+
+    /**
+     * Returns {@code null}, as the dates are in their natural order if they are sorted.
+     *
+     * @return null
+     */
+    @Override
+    public Comparator<? super PersianDate> getComparator() {
+        if (hasCharacteristics(SORTED)) {
+            return null;
+        }
+        throw new IllegalStateException();
+    }
+}
@@ -0,0 +1,1090 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.*;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.*;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.*;
+
+/**
+ * A date-time without a time-zone in the Persian calendar system, such as
+ * {@code 1396-08-07T10:15:30}.
+ * <p>
+ * {@code PersianDateTime} is the Persian equivalent of {@link LocalDateTime}. It stores
+ * the date as a {@link PackedPersianDate packed} {@code int} and the time as
+ * nanosecond-of-day in a {@code long}, rather than referencing a {@link PersianDate} and
+ * a {@link LocalTime}. Getting the fields, comparing, adding time-based and day-based
+ * amounts and measuring the amount of time between two date-times are done on these
+ * two primitives, so they do not create any {@code PersianDate}. The date and time are
+ * only created on demand, by {@link #toLocalDate()} and {@link #toLocalTime()}.
+ * <p>
+ * The supported range is from {@link #MIN} to {@link #MAX}.
+ * <p>
+ * This class is immutable and can be used in concurrent programs.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianDateTime implements ChronoLocalDateTime<PersianDate> {
+
+    private static final long SECONDS_PER_DAY = 86400L;
+
+    private static final long MINUTES_PER_DAY = 1440L;
+
+    private static final long NANOS_PER_SECOND = 1000_000_000L;
+
+    private static final long NANOS_PER_MINUTE = NANOS_PER_SECOND * 60;
+
+    private static final long NANOS_PER_HOUR = NANOS_PER_MINUTE * 60;
+
+    private static final long NANOS_PER_DAY = NANOS_PER_HOUR * 24;
+
+    /**
+     * The minimum supported {@code PersianDateTime}, which is midnight at the start of
+     * {@link PersianDate#MIN}.
+     */
+    public static final PersianDateTime MIN = new PersianDateTime(PackedPersianDate.MIN, 0);
+
+    /**
+     * The maximum supported {@code PersianDateTime}, which is the last nanosecond of
+     * {@link PersianDate#MAX}.
+     */
+    public static final PersianDateTime MAX = new PersianDateTime(PackedPersianDate.MAX, NANOS_PER_DAY - 1);
+
+    /**
+     * The date, as a valid packed date.
+     */
+    private final int date;
+
+    /**
+     * The time, as nanosecond-of-day, from 0 to {@code NANOS_PER_DAY - 1}.
+     */
+    private final long nanoOfDay;
+
+    /**
+     * Constructor, previously validated.
+     *
+     * @param date      the packed date, validated
+     * @param nanoOfDay the nanosecond-of-day, validated
+     */
+    private PersianDateTime(int date, long nanoOfDay) {
+        this.date = date;
+        this.nanoOfDay = nanoOfDay;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Obtains the current date-time from the system clock in the default time-zone.
+     *
+     * @return the current date-time using the system clock and default time-zone, not null
+     */
+    public static PersianDateTime now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Obtains the current date-time from the system clock in the specified time-zone.
+     *
+     * @param zone the zone ID to use, not null
+     * @return the current date-time using the system clock, not null
+     */
+    public static PersianDateTime now(ZoneId zone) {
+        return now(Clock.system(zone));
+    }
+
+    /**
+     * Obtains the current date-time from the specified clock.
+     *
+     * @param clock the clock to use, not null
+     * @return the current date-time, not null
+     */
+    public static PersianDateTime now(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return ofInstant(clock.instant(), clock.getZone());
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from year, month, day, hour and
+     * minute, setting the second and nanosecond to zero.
+     *
+     * @param year       the year to represent, from 1 to MAX_YEAR
+     * @param month      the month-of-year to represent, from 1 to 12
+     * @param dayOfMonth the day-of-month to represent, from 1 to 31
+     * @param hour       the hour-of-day to represent, from 0 to 23
+     * @param minute     the minute-of-hour to represent, from 0 to 59
+     * @return the Persian date-time, not null
+     * @throws DateTimeException if the value of any field is out of range, or
+     *                           if the day-of-month is invalid for the month-year
+     */
+    public static PersianDateTime of(int year, int month, int dayOfMonth, int hour, int minute) {
+        return of(year, month, dayOfMonth, hour, minute, 0, 0);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from year, month, day, hour, minute
+     * and second, setting the nanosecond to zero.
+     *
+     * @param year       the year to represent, from 1 to MAX_YEAR
+     * @param month      the month-of-year to represent, from 1 to 12
+     * @param dayOfMonth the day-of-month to represent, from 1 to 31
+     * @param hour       the hour-of-day to represent, from 0 to 23
+     * @param minute     the minute-of-hour to represent, from 0 to 59
+     * @param second     the second-of-minute to represent, from 0 to 59
+     * @return the Persian date-time, not null
+     * @throws DateTimeException if the value of any field is out of range, or
+     *                           if the day-of-month is invalid for the month-year
+     */
+    public static PersianDateTime of(int year, int month, int dayOfMonth, int hour, int minute, int second) {
+        return of(year, month, dayOfMonth, hour, minute, second, 0);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from year, month, day, hour, minute,
+     * second and nanosecond.
+     *
+     * @param year         the year to represent, from 1 to MAX_YEAR
+     * @param month        the month-of-year to represent, from 1 to 12
+     * @param dayOfMonth   the day-of-month to represent, from 1 to 31
+     * @param hour         the hour-of-day to represent, from 0 to 23
+     * @param minute       the minute-of-hour to represent, from 0 to 59
+     * @param second       the second-of-minute to represent, from 0 to 59
+     * @param nanoOfSecond the nano-of-second to represent, from 0 to 999,999,999
+     * @return the Persian date-time, not null
+     * @throws DateTimeException if the value of any field is out of range, or
+     *                           if the day-of-month is invalid for the month-year
+     */
+    public static PersianDateTime of(int year, int month, int dayOfMonth,
+                                     int hour, int minute, int second, int nanoOfSecond) {
+        int date = PackedPersianDate.of(year, month, dayOfMonth);
+        HOUR_OF_DAY.checkValidValue(hour);
+        MINUTE_OF_HOUR.checkValidValue(minute);
+        SECOND_OF_MINUTE.checkValidValue(second);
+        NANO_OF_SECOND.checkValidValue(nanoOfSecond);
+        return new PersianDateTime(date,
+                hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE + second * NANOS_PER_SECOND + nanoOfSecond);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from a date and time.
+     *
+     * @param date the Persian date, not null
+     * @param time the local time, not null
+     * @return the Persian date-time, not null
+     */
+    public static PersianDateTime of(PersianDate date, LocalTime time) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(time, "time");
+        return new PersianDateTime(PackedPersianDate.pack(date), time.toNanoOfDay());
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} using seconds from the epoch of
+     * 1970-01-01T00:00:00Z, in the specified offset.
+     *
+     * @param epochSecond  the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     * @param nanoOfSecond the nanosecond within the second, from 0 to 999,999,999
+     * @param offset       the zone offset, not null
+     * @return the Persian date-time, not null
+     * @throws DateTimeException if the result exceeds the supported range,
+     *                           or if the nano-of-second is invalid
+     */
+    public static PersianDateTime ofEpochSecond(long epochSecond, int nanoOfSecond, ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+        NANO_OF_SECOND.checkValidValue(nanoOfSecond);
+        return ofLocalSecond(Math.addExact(epochSecond, offset.getTotalSeconds()), nanoOfSecond);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from an instant and a time-zone.
+     * <p>
+     * The offsets of the zone from 1900 to 2100 are cached on first use of the zone,
+     * so this method does not look up the {@link java.time.zone.ZoneRules ZoneRules}
+     * of the zone on every call.
+     *
+     * @param instant the instant to convert, not null
+     * @param zone    the time-zone, which may be an offset, not null
+     * @return the Persian date-time, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public static PersianDateTime ofInstant(Instant instant, ZoneId zone) {
+        Objects.requireNonNull(instant, "instant");
+        long epochSecond = instant.getEpochSecond();
+        return ofLocalSecond(Math.addExact(epochSecond, offsetSeconds(epochSecond, zone)), instant.getNano());
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from milliseconds from the epoch of
+     * 1970-01-01T00:00:00Z and a time-zone, such as the timestamp of a message or a
+     * value of {@link System#currentTimeMillis()}.
+     * <p>
+     * The offsets of the zone from 1900 to 2100 are cached on first use of the zone,
+     * so this method does not look up the {@link java.time.zone.ZoneRules ZoneRules}
+     * of the zone on every call, and does not create an {@code Instant}.
+     *
+     * @param epochMilli the number of milliseconds from 1970-01-01T00:00:00Z
+     * @param zone       the time-zone, which may be an offset, not null
+     * @return the Persian date-time, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public static PersianDateTime ofEpochMilli(long epochMilli, ZoneId zone) {
+        long epochSecond = Math.floorDiv(epochMilli, 1000L);
+        int nanoOfSecond = (int) Math.floorMod(epochMilli, 1000L) * 1000_000;
+        return ofLocalSecond(epochSecond + offsetSeconds(epochSecond, zone), nanoOfSecond);
+    }
+
+    /**
+     * Returns the offset of a zone at an instant in seconds, using the cached offsets
+     * of the zone.
+     */
+    static int offsetSeconds(long epochSecond, ZoneId zone) {
+        if (zone instanceof ZoneOffset) {
+            return ((ZoneOffset) zone).getTotalSeconds();
+        }
+        return ZoneOffsetTable.of(zone).getOffsetSeconds(epochSecond);
+    }
+
+    /**
+     * Obtains a date-time from local seconds from 1970-01-01T00:00:00, and a valid
+     * nano-of-second.
+     */
+    static PersianDateTime ofLocalSecond(long localSecond, int nanoOfSecond) {
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+        return new PersianDateTime(PackedPersianDate.ofEpochDay(epochDay),
+                secondOfDay * NANOS_PER_SECOND + nanoOfSecond);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from a Gregorian date-time.
+     *
+     * @param localDateTime the Gregorian date-time, not null
+     * @return the equivalent Persian date-time, not null
+     * @throws DateTimeException if the date exceeds the supported range
+     */
+    public static PersianDateTime fromGregorian(LocalDateTime localDateTime) {
+        Objects.requireNonNull(localDateTime, "localDateTime");
+        return new PersianDateTime(PackedPersianDate.ofEpochDay(localDateTime.toLocalDate().toEpochDay()),
+                localDateTime.toLocalTime().toNanoOfDay());
+    }
+
+    /**
+     * Obtains an instance of {@code PersianDateTime} from a temporal object, which has
+     * both date and time, such as a {@link LocalDateTime} or a
+     * {@link ChronoZonedDateTime} of any chronology.
+     *
+     * @param temporal the temporal object to convert, not null
+     * @return the Persian date-time, not null
+     * @throws DateTimeException if unable to convert to a {@code PersianDateTime}
+     */
+    public static PersianDateTime from(TemporalAccessor temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianDateTime) {
+            return (PersianDateTime) temporal;
+        }
+        if (temporal instanceof ChronoZonedDateTime) {
+            return from(((ChronoZonedDateTime<?>) temporal).toLocalDateTime());
+        }
+        try {
+            return new PersianDateTime(PackedPersianDate.ofEpochDay(temporal.getLong(EPOCH_DAY)),
+                    LocalTime.from(temporal).toNanoOfDay());
+        } catch (DateTimeException ex) {
+            throw new DateTimeException("Unable to obtain PersianDateTime from TemporalAccessor: " +
+                    temporal + " of type " + temporal.getClass().getName(), ex);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * @return the year, from 1 to MAX_YEAR
+     */
+    public int getYear() {
+        return date >>> 9;
+    }
+
+    /**
+     * @return the month-of-year, from 1 to 12
+     */
+    public int getMonthValue() {
+        return (date >>> 5) & 0xF;
+    }
+
+    /**
+     * @return the month-of-year, not null
+     */
+    public PersianMonth getMonth() {
+        return PersianMonth.of(getMonthValue());
+    }
+
+    /**
+     * @return the day-of-month, from 1 to 31
+     */
+    public int getDayOfMonth() {
+        return date & 0x1F;
+    }
+
+    /**
+     * @return the day-of-year, from 1 to 365, or 366 in a leap year
+     */
+    public int getDayOfYear() {
+        return PersianYearTable.daysBeforeMonth(getMonthValue()) + getDayOfMonth();
+    }
+
+    /**
+     * @return the day-of-week, not null
+     */
+    public DayOfWeek getDayOfWeek() {
+        // 1970-01-01 (epoch day 0) is a Thursday
+        return DayOfWeek.of((int) Math.floorMod(toEpochDay() + 3, 7L) + 1);
+    }
+
+    /**
+     * @return the hour-of-day, from 0 to 23
+     */
+    public int getHour() {
+        return (int) (nanoOfDay / NANOS_PER_HOUR);
+    }
+
+    /**
+     * @return the minute-of-hour, from 0 to 59
+     */
+    public int getMinute() {
+        return (int) (nanoOfDay / NANOS_PER_MINUTE % 60);
+    }
+
+    /**
+     * @return the second-of-minute, from 0 to 59
+     */
+    public int getSecond() {
+        return (int) (nanoOfDay / NANOS_PER_SECOND % 60);
+    }
+
+    /**
+     * @return the nano-of-second, from 0 to 999,999,999
+     */
+    public int getNano() {
+        return (int) (nanoOfDay % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Gets the Persian date part of this date-time.
+     *
+     * @return the date part of this date-time, not null
+     */
+    @Override
+    public PersianDate toLocalDate() {
+        return PersianDate.ofUnchecked(getYear(), getMonthValue(), getDayOfMonth());
+    }
+
+    /**
+     * Gets the local time part of this date-time.
+     *
+     * @return the time part of this date-time, not null
+     */
+    @Override
+    public LocalTime toLocalTime() {
+        return LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    /**
+     * Returns the equivalent Gregorian date-time.
+     *
+     * @return the equivalent Gregorian date-time, not null
+     */
+    public LocalDateTime toGregorian() {
+        return LocalDateTime.of(LocalDate.ofEpochDay(toEpochDay()), toLocalTime());
+    }
+
+    /**
+     * Gets the chronology of this date-time, which is the Persian calendar system.
+     *
+     * @return the Persian chronology, not null
+     */
+    @Override
+    public PersianChronology getChronology() {
+        return PersianChronology.INSTANCE;
+    }
+
+    private long toEpochDay() {
+        return PersianYearTable.toEpochDay(getYear(), getMonthValue(), getDayOfMonth());
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks if the specified field is supported. All of the date-based and time-based
+     * {@link ChronoField}s are supported.
+     *
+     * @param field the field to check, null returns false
+     * @return true if the field is supported on this date-time, false if not
+     */
+    @Override
+    public boolean isSupported(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field.isDateBased() || field.isTimeBased();
+        }
+        return field != null && field.isSupportedBy(this);
+    }
+
+    /**
+     * Gets the range of valid values for the specified field.
+     *
+     * @param field the field to query the range for, not null
+     * @return the range of valid values for the field, not null
+     * @throws DateTimeException                if the range for the field cannot be obtained
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    @Override
+    public ValueRange range(TemporalField field) {
+        if (field instanceof ChronoField) {
+            return field.isTimeBased() ? field.range() : toLocalDate().range(field);
+        }
+        return field.rangeRefinedBy(this);
+    }
+
+    /**
+     * Gets the value of the specified field from this date-time as a {@code long}.
+     *
+     * @param field the field to get, not null
+     * @return the value for the field
+     * @throws DateTimeException                if a value for the field cannot be obtained
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     * @throws ArithmeticException              if numeric overflow occurs
+     */
+    @Override
+    public long getLong(TemporalField field) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case DAY_OF_MONTH: return getDayOfMonth();
+                case MONTH_OF_YEAR: return getMonthValue();
+                case YEAR: return getYear();
+                case EPOCH_DAY: return toEpochDay();
+                case NANO_OF_DAY: return nanoOfDay;
+            }
+            return field.isTimeBased() ? toLocalTime().getLong(field) : toLocalDate().getLong(field);
+        }
+        return field.getFrom(this);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns an adjusted copy of this date-time. A {@link PersianDate} replaces the date
+     * and a {@link LocalTime} replaces the time; other adjusters are invoked on this
+     * date-time.
+     *
+     * @param adjuster the adjuster to use, not null
+     * @return a {@code PersianDateTime} based on {@code this} with the adjustment made, not null
+     * @throws DateTimeException   if the adjustment cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianDateTime with(TemporalAdjuster adjuster) {
+        Objects.requireNonNull(adjuster, "adjuster");
+        if (adjuster instanceof PersianDate) {
+            return new PersianDateTime(PackedPersianDate.pack((PersianDate) adjuster), nanoOfDay);
+        } else if (adjuster instanceof LocalTime) {
+            return new PersianDateTime(date, ((LocalTime) adjuster).toNanoOfDay());
+        } else if (adjuster instanceof PersianDateTime) {
+            return (PersianDateTime) adjuster;
+        }
+        return from(adjuster.adjustInto(this));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified field set to a new value.
+     * <p>
+     * All of the time-based and date-based {@link ChronoField}s are supported. The
+     * time-based fields behave as in {@link LocalTime}, and the aligned fields move the
+     * date by days or weeks as in {@link LocalDate}. {@code ERA} can only be set to 1, as
+     * there is a single era. If the day-of-month becomes invalid by changing month or
+     * year, it is changed to the last valid day of the month.
+     *
+     * @param field    the field to set in the result, not null
+     * @param newValue the new value of the field in the result
+     * @return a {@code PersianDateTime} based on {@code this} with the specified field set, not null
+     * @throws DateTimeException                if the field cannot be set
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    @Override
+    public PersianDateTime with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            ChronoField f = (ChronoField) field;
+            if (f.isTimeBased()) {
+                f.checkValidValue(newValue);
+                long newNanoOfDay = f == NANO_OF_DAY ? newValue : toLocalTime().with(f, newValue).toNanoOfDay();
+                return newNanoOfDay == nanoOfDay ? this : new PersianDateTime(date, newNanoOfDay);
+            }
+            // the ranges of these fields do not fit in an int
+            if (f == EPOCH_DAY) {
+                EPOCH_DAY.checkValidValue(newValue);
+                return withDate(PackedPersianDate.ofEpochDay(newValue));
+            }
+            if (f == PROLEPTIC_MONTH) {
+                PROLEPTIC_MONTH.checkValidValue(newValue);
+                return plusMonths(newValue - getLong(PROLEPTIC_MONTH));
+            }
+            int value = PersianChronology.INSTANCE.range(f).checkValidIntValue(newValue, f);
+            switch (f) {
+                case DAY_OF_WEEK: return plusDays(value - getDayOfWeek().getValue());
+                case ALIGNED_DAY_OF_WEEK_IN_MONTH: return plusDays(value - getLong(ALIGNED_DAY_OF_WEEK_IN_MONTH));
+                case ALIGNED_DAY_OF_WEEK_IN_YEAR: return plusDays(value - getLong(ALIGNED_DAY_OF_WEEK_IN_YEAR));
+                case DAY_OF_MONTH: return withDate(PackedPersianDate.of(getYear(), getMonthValue(), value));
+                case DAY_OF_YEAR: return withDate(PackedPersianDate.pack(
+                        PersianChronology.INSTANCE.dateYearDay(getYear(), value)));
+                case ALIGNED_WEEK_OF_MONTH: return plusWeeks(value - getLong(ALIGNED_WEEK_OF_MONTH));
+                case ALIGNED_WEEK_OF_YEAR: return plusWeeks(value - getLong(ALIGNED_WEEK_OF_YEAR));
+                case MONTH_OF_YEAR: return withDate(PackedPersianDate.plusMonths(date, value - getMonthValue()));
+                case YEAR_OF_ERA:
+                case YEAR: return withDate(PackedPersianDate.plusMonths(date, (value - getYear()) * 12L));
+                case ERA: return this;
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+        }
+        return from(field.adjustInto(this, newValue));
+    }
+
+    /**
+     * Returns a copy of this date-time with the hour-of-day altered.
+     *
+     * @param hour the hour-of-day to set in the result, from 0 to 23
+     * @return a {@code PersianDateTime} based on this date-time with the requested hour, not null
+     * @throws DateTimeException if the hour value is invalid
+     */
+    public PersianDateTime withHour(int hour) {
+        return with(HOUR_OF_DAY, hour);
+    }
+
+    /**
+     * Returns a copy of this date-time with the minute-of-hour altered.
+     *
+     * @param minute the minute-of-hour to set in the result, from 0 to 59
+     * @return a {@code PersianDateTime} based on this date-time with the requested minute, not null
+     * @throws DateTimeException if the minute value is invalid
+     */
+    public PersianDateTime withMinute(int minute) {
+        return with(MINUTE_OF_HOUR, minute);
+    }
+
+    /**
+     * Returns a copy of this date-time with the second-of-minute altered.
+     *
+     * @param second the second-of-minute to set in the result, from 0 to 59
+     * @return a {@code PersianDateTime} based on this date-time with the requested second, not null
+     * @throws DateTimeException if the second value is invalid
+     */
+    public PersianDateTime withSecond(int second) {
+        return with(SECOND_OF_MINUTE, second);
+    }
+
+    /**
+     * Returns a copy of this date-time with the nano-of-second altered.
+     *
+     * @param nanoOfSecond the nano-of-second to set in the result, from 0 to 999,999,999
+     * @return a {@code PersianDateTime} based on this date-time with the requested nanosecond, not null
+     * @throws DateTimeException if the nano value is invalid
+     */
+    public PersianDateTime withNano(int nanoOfSecond) {
+        return with(NANO_OF_SECOND, nanoOfSecond);
+    }
+
+    /**
+     * Returns a copy of this date-time with the time truncated to {@code unit}. For
+     * example, truncating with {@link ChronoUnit#HOURS} sets minutes, seconds and
+     * nanoseconds to zero.
+     *
+     * @param unit the unit to truncate to, not null
+     * @return a {@code PersianDateTime} based on this date-time with the time truncated, not null
+     * @throws DateTimeException                if unable to truncate
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public PersianDateTime truncatedTo(TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        if (unit == ChronoUnit.NANOS) {
+            return this;
+        }
+        if (unit == ChronoUnit.DAYS) {
+            return new PersianDateTime(date, 0);
+        }
+        Duration unitDuration = unit.getDuration();
+        if (unitDuration.getSeconds() > SECONDS_PER_DAY) {
+            throw new UnsupportedTemporalTypeException("Unit is too large to be used for truncation");
+        }
+        long duration = unitDuration.toNanos();
+        if (NANOS_PER_DAY % duration != 0) {
+            throw new UnsupportedTemporalTypeException("Unit must divide into a standard day without remainder");
+        }
+        return new PersianDateTime(date, nanoOfDay / duration * duration);
+    }
+
+    private PersianDateTime withDate(int newDate) {
+        return newDate == date ? this : new PersianDateTime(newDate, nanoOfDay);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns a copy of this date-time with the specified amount added.
+     *
+     * @param amount the amount to add, not null
+     * @return a {@code PersianDateTime} based on this date-time with the addition made, not null
+     * @throws DateTimeException   if the addition cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianDateTime plus(TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        return from(amount.addTo(this));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified amount added.
+     * <p>
+     * All of the {@link ChronoUnit}s from {@code NANOS} to {@code MILLENNIA} are supported.
+     * Time-based units are added as in {@link LocalDateTime}. Months and longer units are
+     * added as in {@link PersianDate#plusMonths(long)}.
+     *
+     * @param amountToAdd the amount of the unit to add to the result, may be negative
+     * @param unit        the unit of the amount to add, not null
+     * @return a {@code PersianDateTime} based on this date-time with the specified amount added, not null
+     * @throws DateTimeException                if the addition cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException              if numeric overflow occurs
+     */
+    @Override
+    public PersianDateTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            switch ((ChronoUnit) unit) {
+                case NANOS: return plusNanos(amountToAdd);
+                case MICROS: return plusWithOverflow(Math.floorDiv(amountToAdd, NANOS_PER_DAY / 1000),
+                        Math.floorMod(amountToAdd, NANOS_PER_DAY / 1000) * 1000);
+                case MILLIS: return plusWithOverflow(Math.floorDiv(amountToAdd, NANOS_PER_DAY / 1000_000),
+                        Math.floorMod(amountToAdd, NANOS_PER_DAY / 1000_000) * 1000_000);
+                case SECONDS: return plusSeconds(amountToAdd);
+                case MINUTES: return plusMinutes(amountToAdd);
+                case HOURS: return plusHours(amountToAdd);
+                case HALF_DAYS: return plusWithOverflow(Math.floorDiv(amountToAdd, 2L),
+                        Math.floorMod(amountToAdd, 2L) * NANOS_PER_HOUR * 12);
+                case DAYS: return plusDays(amountToAdd);
+                case WEEKS: return plusWeeks(amountToAdd);
+                case MONTHS: return plusMonths(amountToAdd);
+                case YEARS: return plusYears(amountToAdd);
+                case DECADES: return plusMonths(Math.multiplyExact(amountToAdd, 120L));
+                case CENTURIES: return plusMonths(Math.multiplyExact(amountToAdd, 1200L));
+                case MILLENNIA: return plusMonths(Math.multiplyExact(amountToAdd, 12000L));
+            }
+            throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+        }
+        return from(unit.addTo(this, amountToAdd));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of years added. The
+     * day-of-month is adjusted as in {@link PersianDate#plusYears(long)}.
+     *
+     * @param years the years to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the years added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusYears(long years) {
+        return plusMonths(Math.multiplyExact(years, 12L));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of months added. The
+     * day-of-month is adjusted as in {@link PersianDate#plusMonths(long)}.
+     *
+     * @param months the months to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the months added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusMonths(long months) {
+        return months == 0 ? this : withDate(PackedPersianDate.plusMonths(date, months));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of weeks added.
+     *
+     * @param weeks the weeks to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the weeks added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusWeeks(long weeks) {
+        return plusDays(Math.multiplyExact(weeks, 7L));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of days added.
+     *
+     * @param days the days to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the days added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusDays(long days) {
+        return days == 0 ? this : new PersianDateTime(datePlusDays(days), nanoOfDay);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of hours added.
+     *
+     * @param hours the hours to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the hours added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusHours(long hours) {
+        return plusWithOverflow(Math.floorDiv(hours, 24L), Math.floorMod(hours, 24L) * NANOS_PER_HOUR);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of minutes added.
+     *
+     * @param minutes the minutes to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the minutes added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusMinutes(long minutes) {
+        return plusWithOverflow(Math.floorDiv(minutes, MINUTES_PER_DAY),
+                Math.floorMod(minutes, MINUTES_PER_DAY) * NANOS_PER_MINUTE);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of seconds added.
+     *
+     * @param seconds the seconds to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the seconds added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusSeconds(long seconds) {
+        return plusWithOverflow(Math.floorDiv(seconds, SECONDS_PER_DAY),
+                Math.floorMod(seconds, SECONDS_PER_DAY) * NANOS_PER_SECOND);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of nanoseconds added.
+     *
+     * @param nanos the nanos to add, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the nanoseconds added, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime plusNanos(long nanos) {
+        return plusWithOverflow(Math.floorDiv(nanos, NANOS_PER_DAY), Math.floorMod(nanos, NANOS_PER_DAY));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified amount subtracted.
+     *
+     * @param amount the amount to subtract, not null
+     * @return a {@code PersianDateTime} based on this date-time with the subtraction made, not null
+     * @throws DateTimeException   if the subtraction cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianDateTime minus(TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        return from(amount.subtractFrom(this));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified amount subtracted. This is
+     * equivalent to {@link #plus(long, TemporalUnit)} with the amount negated.
+     *
+     * @param amountToSubtract the amount of the unit to subtract from the result, may be negative
+     * @param unit             the unit of the amount to subtract, not null
+     * @return a {@code PersianDateTime} based on this date-time with the specified amount subtracted, not null
+     * @throws DateTimeException                if the subtraction cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException              if numeric overflow occurs
+     */
+    @Override
+    public PersianDateTime minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE ?
+                plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of days subtracted.
+     *
+     * @param days the days to subtract, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the days subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime minusDays(long days) {
+        return minus(days, ChronoUnit.DAYS);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of hours subtracted.
+     *
+     * @param hours the hours to subtract, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the hours subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime minusHours(long hours) {
+        return minus(hours, ChronoUnit.HOURS);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of minutes subtracted.
+     *
+     * @param minutes the minutes to subtract, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the minutes subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime minusMinutes(long minutes) {
+        return minus(minutes, ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified number of seconds subtracted.
+     *
+     * @param seconds the seconds to subtract, may be negative
+     * @return a {@code PersianDateTime} based on this date-time with the seconds subtracted, not null
+     * @throws DateTimeException if the result exceeds the supported date range
+     */
+    public PersianDateTime minusSeconds(long seconds) {
+        return minus(seconds, ChronoUnit.SECONDS);
+    }
+
+    /**
+     * Adds whole days and a nanosecond amount that is less than a day. Neither the
+     * nanoseconds nor the days can overflow.
+     *
+     * @param days  the days to add, may be negative
+     * @param nanos the nanoseconds to add, from 0 to {@code NANOS_PER_DAY - 1}
+     */
+    private PersianDateTime plusWithOverflow(long days, long nanos) {
+        long newNanoOfDay = nanoOfDay + nanos;
+        if (newNanoOfDay >= NANOS_PER_DAY) {
+            newNanoOfDay -= NANOS_PER_DAY;
+            days++;
+        }
+        if (days == 0) {
+            return newNanoOfDay == nanoOfDay ? this : new PersianDateTime(date, newNanoOfDay);
+        }
+        return new PersianDateTime(datePlusDays(days), newNanoOfDay);
+    }
+
+    private int datePlusDays(long days) {
+        return PackedPersianDate.ofEpochDay(Math.addExact(toEpochDay(), days));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Calculates the amount of time until another date-time in terms of the specified
+     * unit, in the same way as {@link LocalDateTime#until(Temporal, TemporalUnit)}.
+     * <p>
+     * For time-based units, the amount is the number of complete units between the two
+     * date-times. For date-based units, the end date is moved one day towards the start,
+     * if the end time is not after (or before, if the end is before the start) the start
+     * time, and the amount is the number of complete units between the two dates. Months
+     * and longer units are calculated as in {@link PersianDate#until(Temporal, TemporalUnit)}.
+     *
+     * @param endExclusive the end date-time, exclusive, which is converted to a
+     *                     {@code PersianDateTime}, not null
+     * @param unit         the unit to measure the amount in, not null
+     * @return the amount of time between this date-time and the end date-time
+     * @throws DateTimeException                if the amount cannot be calculated, or the end
+     *                                          temporal cannot be converted to a {@code PersianDateTime}
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException              if numeric overflow occurs
+     */
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        PersianDateTime end = from(endExclusive);
+        if (!(unit instanceof ChronoUnit)) {
+            return unit.between(this, end);
+        }
+        long startEpochDay = toEpochDay();
+        long endEpochDay = end.toEpochDay();
+        long days = endEpochDay - startEpochDay;
+        if (unit.isTimeBased()) {
+            long nanos = end.nanoOfDay - nanoOfDay;
+            if (days > 0 && nanos < 0) {
+                days--;
+                nanos += NANOS_PER_DAY;
+            } else if (days < 0 && nanos > 0) {
+                days++;
+                nanos -= NANOS_PER_DAY;
+            }
+            switch ((ChronoUnit) unit) {
+                case NANOS: return Math.addExact(Math.multiplyExact(days, NANOS_PER_DAY), nanos);
+                case MICROS: return Math.addExact(Math.multiplyExact(days, NANOS_PER_DAY / 1000), nanos / 1000);
+                case MILLIS: return Math.addExact(days * (NANOS_PER_DAY / 1000_000), nanos / 1000_000);
+                case SECONDS: return days * SECONDS_PER_DAY + nanos / NANOS_PER_SECOND;
+                case MINUTES: return days * MINUTES_PER_DAY + nanos / NANOS_PER_MINUTE;
+                case HOURS: return days * 24 + nanos / NANOS_PER_HOUR;
+                default: return days * 2 + nanos / (NANOS_PER_HOUR * 12);
+            }
+        }
+        int endDate = end.date;
+        if (days > 0 && end.nanoOfDay < nanoOfDay) {
+            days--;
+            endDate = PackedPersianDate.ofEpochDayUnchecked(endEpochDay - 1);
+        } else if (days < 0 && end.nanoOfDay > nanoOfDay) {
+            days++;
+            endDate = PackedPersianDate.ofEpochDayUnchecked(endEpochDay + 1);
+        }
+        switch ((ChronoUnit) unit) {
+            case DAYS: return days;
+            case WEEKS: return days / 7;
+            case MONTHS: return monthsUntil(date, endDate);
+            case YEARS: return monthsUntil(date, endDate) / 12;
+            case DECADES: return monthsUntil(date, endDate) / 120;
+            case CENTURIES: return monthsUntil(date, endDate) / 1200;
+            case MILLENNIA: return monthsUntil(date, endDate) / 12000;
+            case ERAS: return 0;
+        }
+        throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+    }
+
+    private static long monthsUntil(int startDate, int endDate) {
+        long packed1 = ((startDate >>> 9) * 12L + ((startDate >>> 5) & 0xF)) * 32L + (startDate & 0x1F);
+        long packed2 = ((endDate >>> 9) * 12L + ((endDate >>> 5) & 0xF)) * 32L + (endDate & 0x1F);
+        return (packed2 - packed1) / 32;
+    }
+
+    /**
+     * Combines this date-time with a time-zone to create a {@code PersianZonedDateTime}.
+     * Gaps and overlaps of the time-zone are handled as in
+     * {@link LocalDateTime#atZone(ZoneId)}.
+     *
+     * @param zone the time-zone to use, not null
+     * @return the zoned date-time formed from this date-time, not null
+     */
+    @Override
+    public PersianZonedDateTime atZone(ZoneId zone) {
+        return PersianZonedDateTime.of(this, zone);
+    }
+
+    /**
+     * Converts this date-time to the number of seconds from the epoch of
+     * 1970-01-01T00:00:00Z, using {@code offset}.
+     *
+     * @param offset the offset to use for the conversion, not null
+     * @return the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    @Override
+    public long toEpochSecond(ZoneOffset offset) {
+        Objects.requireNonNull(offset, "offset");
+        return toEpochDay() * SECONDS_PER_DAY + nanoOfDay / NANOS_PER_SECOND - offset.getTotalSeconds();
+    }
+
+    /**
+     * Converts this date-time to an {@code Instant}, using {@code offset}.
+     *
+     * @param offset the offset to use for the conversion, not null
+     * @return an {@code Instant} representing the same instant, not null
+     */
+    @Override
+    public Instant toInstant(ZoneOffset offset) {
+        return Instant.ofEpochSecond(toEpochSecond(offset), getNano());
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Compares this date-time to another date-time, first by the date, then by the
+     * time, and then by the chronology.
+     *
+     * @param other the other date-time to compare to, not null
+     * @return the comparator value, negative if less, positive if greater
+     */
+    @Override
+    public int compareTo(ChronoLocalDateTime<?> other) {
+        if (other instanceof PersianDateTime) {
+            PersianDateTime otherDateTime = (PersianDateTime) other;
+            int cmp = Integer.compare(date, otherDateTime.date);
+            return cmp != 0 ? cmp : Long.compare(nanoOfDay, otherDateTime.nanoOfDay);
+        }
+        return ChronoLocalDateTime.super.compareTo(other);
+    }
+
+    /**
+     * Checks if this date-time is after the specified date-time, ignoring the chronology.
+     *
+     * @param other the other date-time to compare to, not null
+     * @return true if this is after the specified date-time
+     */
+    @Override
+    public boolean isAfter(ChronoLocalDateTime<?> other) {
+        if (other instanceof PersianDateTime) {
+            return compareTo(other) > 0;
+        }
+        return ChronoLocalDateTime.super.isAfter(other);
+    }
+
+    /**
+     * Checks if this date-time is before the specified date-time, ignoring the chronology.
+     *
+     * @param other the other date-time to compare to, not null
+     * @return true if this is before the specified date-time
+     */
+    @Override
+    public boolean isBefore(ChronoLocalDateTime<?> other) {
+        if (other instanceof PersianDateTime) {
+            return compareTo(other) < 0;
+        }
+        return ChronoLocalDateTime.super.isBefore(other);
+    }
+
+    /**
+     * Checks if this date-time is equal to the specified date-time, ignoring the chronology.
+     *
+     * @param other the other date-time to compare to, not null
+     * @return true if this is equal to the specified date-time
+     */
+    @Override
+    public boolean isEqual(ChronoLocalDateTime<?> other) {
+        if (other instanceof PersianDateTime) {
+            return compareTo(other) == 0;
+        }
+        return ChronoLocalDateTime.super.isEqual(other);
+    }
+
+    /**
+     * Checks if this date-time is equal to another Persian date-time.
+     *
+     * @param obj the object to check, null returns false
+     * @return true if this is equal to the other date-time
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof PersianDateTime) {
+            PersianDateTime other = (PersianDateTime) obj;
+            return date == other.date && nanoOfDay == other.nanoOfDay;
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this date-time.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return 31 * date + Long.hashCode(nanoOfDay);
+    }
+
+    /**
+     * Returns this date-time as a {@code String}, such as {@code 1396-08-07T10:15:30}.
+     * The date is in the format of {@link PersianDate#toString()} and the time is in the
+     * format of {@link LocalTime#toString()}.
+     *
+     * @return a string representation of this date-time, not null
+     */
+    @Override
+    public String toString() {
+        return toLocalDate().toString() + 'T' + toLocalTime().toString();
+    }
+}
@@ -0,0 +1,402 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.ThreadSafe;
+
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class provides static methods that operate on many Persian dates at once,
+ * such as converting columns of epoch days to Persian year, month and day-of-month,
+ * and sorting and searching arrays of dates.
+ * <p>
+ * The methods of this class do not create any instance of {@link PersianDate}, so
+ * they are suitable for converting, sorting and searching millions of dates at once.
+ * It is not possible to get an instance of this class.
+ * <p>
+ * This class is stateless and thread-safe, as long as the arrays that are passed to
+ * its methods are not modified concurrently.
+ *
+ * @author Mahmoud Fathi
+ */
+@ThreadSafe
+public final class PersianDates {
+
+    /**
+     * Number of elements that are converted sequentially by a single task of the
+     * parallel conversions. Columns that are not longer than this are converted in
+     * the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * Number of bits of a digit of the radix sort, which makes at most two passes over the
+     * 20 bits of a packed date.
+     */
+    private static final int RADIX_BITS = 10;
+
+    /**
+     * Ranges that are not longer than this are sorted by insertion sort.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 64;
+
+    // Ensure non-instantiability
+    private PersianDates() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Converts each epoch day of {@code epochDays} to a Persian date, and stores year,
+     * month-of-year and day-of-month of it in the element of {@code outYears},
+     * {@code outMonths} and {@code outDays} with the same index. The result is the same
+     * as calling {@link PersianDate#ofEpochDay(long)} on each element, without creating
+     * any {@code PersianDate}.
+     *
+     * @param epochDays the epoch days to convert, not null
+     * @param outYears  the array to store the years in, not null, at least as long as {@code epochDays}
+     * @param outMonths the array to store the months-of-year in, not null, at least as long as {@code epochDays}
+     * @param outDays   the array to store the days-of-month in, not null, at least as long as {@code epochDays}
+     * @throws IllegalArgumentException if an output array is shorter than {@code epochDays}
+     * @throws DateTimeException        if an epoch day exceeds the supported date range
+     */
+    public static void convertEpochDays(long[] epochDays, int[] outYears, int[] outMonths, int[] outDays) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        checkOutput(outYears, epochDays.length, "outYears");
+        checkOutput(outMonths, epochDays.length, "outMonths");
+        checkOutput(outDays, epochDays.length, "outDays");
+        convertEpochDays(epochDays, 0, epochDays.length, outYears, outMonths, outDays);
+    }
+
+    /**
+     * Converts each epoch day of {@code epochDays} to a Persian date, and stores it as
+     * a decimal {@code yyyymmdd} number in the element of {@code outYyyymmdd} with the
+     * same index. For example, epoch day {@code 17468}, which is 1396-08-07, is stored
+     * as {@code 13960807}. Dates in this form sort in chronological order.
+     *
+     * @param epochDays   the epoch days to convert, not null
+     * @param outYyyymmdd the array to store the dates in, not null, at least as long as {@code epochDays}
+     * @throws IllegalArgumentException if {@code outYyyymmdd} is shorter than {@code epochDays}
+     * @throws DateTimeException        if an epoch day exceeds the supported date range
+     */
+    public static void convertEpochDays(long[] epochDays, int[] outYyyymmdd) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        checkOutput(outYyyymmdd, epochDays.length, "outYyyymmdd");
+        convertEpochDays(epochDays, 0, epochDays.length, outYyyymmdd);
+    }
+
+    /**
+     * Does the same as {@link #convertEpochDays(long[], int[], int[], int[])}, but
+     * splits the column into chunks and converts them in parallel in the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param epochDays the epoch days to convert, not null
+     * @param outYears  the array to store the years in, not null, at least as long as {@code epochDays}
+     * @param outMonths the array to store the months-of-year in, not null, at least as long as {@code epochDays}
+     * @param outDays   the array to store the days-of-month in, not null, at least as long as {@code epochDays}
+     * @throws IllegalArgumentException if an output array is shorter than {@code epochDays}
+     * @throws DateTimeException        if an epoch day exceeds the supported date range
+     */
+    public static void convertEpochDaysParallel(long[] epochDays, int[] outYears, int[] outMonths, int[] outDays) {
+        convertEpochDaysParallel(epochDays, outYears, outMonths, outDays, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Does the same as {@link #convertEpochDays(long[], int[], int[], int[])}, but
+     * splits the column into chunks and converts them in parallel in {@code pool}.
+     *
+     * @param epochDays the epoch days to convert, not null
+     * @param outYears  the array to store the years in, not null, at least as long as {@code epochDays}
+     * @param outMonths the array to store the months-of-year in, not null, at least as long as {@code epochDays}
+     * @param outDays   the array to store the days-of-month in, not null, at least as long as {@code epochDays}
+     * @param pool      the pool to run the conversion in, not null
+     * @throws IllegalArgumentException if an output array is shorter than {@code epochDays}
+     * @throws DateTimeException        if an epoch day exceeds the supported date range
+     */
+    public static void convertEpochDaysParallel(long[] epochDays, int[] outYears, int[] outMonths, int[] outDays,
+                                                ForkJoinPool pool) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        checkOutput(outYears, epochDays.length, "outYears");
+        checkOutput(outMonths, epochDays.length, "outMonths");
+        checkOutput(outDays, epochDays.length, "outDays");
+        Objects.requireNonNull(pool, "pool");
+        if (epochDays.length <= PARALLEL_THRESHOLD) {
+            convertEpochDays(epochDays, 0, epochDays.length, outYears, outMonths, outDays);
+        } else {
+            pool.invoke(new ConvertTask(epochDays, 0, epochDays.length, outYears, outMonths, outDays, null));
+        }
+    }
+
+    /**
+     * Does the same as {@link #convertEpochDays(long[], int[])}, but splits the column
+     * into chunks and converts them in parallel in the
+     * {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param epochDays   the epoch days to convert, not null
+     * @param outYyyymmdd the array to store the dates in, not null, at least as long as {@code epochDays}
+     * @throws IllegalArgumentException if {@code outYyyymmdd} is shorter than {@code epochDays}
+     * @throws DateTimeException        if an epoch day exceeds the supported date range
+     */
+    public static void convertEpochDaysParallel(long[] epochDays, int[] outYyyymmdd) {
+        convertEpochDaysParallel(epochDays, outYyyymmdd, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Does the same as {@link #convertEpochDays(long[], int[])}, but splits the column
+     * into chunks and converts them in parallel in {@code pool}.
+     *
+     * @param epochDays   the epoch days to convert, not null
+     * @param outYyyymmdd the array to store the dates in, not null, at least as long as {@code epochDays}
+     * @param pool        the pool to run the conversion in, not null
+     * @throws IllegalArgumentException if {@code outYyyymmdd} is shorter than {@code epochDays}
+     * @throws DateTimeException        if an epoch day exceeds the supported date range
+     */
+    public static void convertEpochDaysParallel(long[] epochDays, int[] outYyyymmdd, ForkJoinPool pool) {
+        Objects.requireNonNull(epochDays, "epochDays");
+        checkOutput(outYyyymmdd, epochDays.length, "outYyyymmdd");
+        Objects.requireNonNull(pool, "pool");
+        if (epochDays.length <= PARALLEL_THRESHOLD) {
+            convertEpochDays(epochDays, 0, epochDays.length, outYyyymmdd);
+        } else {
+            pool.invoke(new ConvertTask(epochDays, 0, epochDays.length, null, null, null, outYyyymmdd));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Sorts {@code dates} in chronological order. The result is the same as
+     * {@link Arrays#sort(Object[])}, including that the sort is stable, but the dates are
+     * compared by their {@link PackedPersianDate packed} form instead of
+     * {@link PersianDate#compareTo(java.time.chrono.ChronoLocalDate)}, which converts both
+     * of the dates to epoch days for every comparison.
+     * <p>
+     * The packed date of every element is computed once, and the elements are sorted by
+     * an LSD radix sort on the packed dates, in at most two passes of ten bits. It takes
+     * linear time, and temporary arrays of the same length as the sorted range.
+     *
+     * @param dates the dates to sort, not null
+     * @throws NullPointerException if one of the dates is null
+     */
+    public static void sort(PersianDate[] dates) {
+        Objects.requireNonNull(dates, "dates");
+        sort(dates, 0, dates.length);
+    }
+
+    /**
+     * Sorts the dates of {@code dates} from {@code fromIndex}, inclusive, to
+     * {@code toIndex}, exclusive, in chronological order, in the same way as
+     * {@link #sort(PersianDate[])}.
+     *
+     * @param dates     the dates to sort, not null
+     * @param fromIndex index of the first date to sort
+     * @param toIndex   index after the last date to sort
+     * @throws IndexOutOfBoundsException if {@code fromIndex} and {@code toIndex} are out of
+     *                                   bounds of {@code dates}
+     * @throws NullPointerException      if one of the dates is null
+     */
+    public static void sort(PersianDate[] dates, int fromIndex, int toIndex) {
+        Objects.requireNonNull(dates, "dates");
+        MyUtils.checkFromToIndex(dates.length, fromIndex, toIndex);
+        int length = toIndex - fromIndex;
+        int[] keys = new int[length];
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            int key = PackedPersianDate.pack(dates[fromIndex + i]);
+            keys[i] = key;
+            min = Math.min(min, key);
+            max = Math.max(max, key);
+        }
+        if (length <= INSERTION_SORT_THRESHOLD) {
+            insertionSort(dates, fromIndex, keys);
+        } else if (min < max) {
+            radixSort(dates, fromIndex, keys, min, max);
+        }
+    }
+
+    private static void insertionSort(PersianDate[] dates, int fromIndex, int[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            int key = keys[i];
+            PersianDate date = dates[fromIndex + i];
+            int j = i - 1;
+            for (; j >= 0 && keys[j] > key; j--) {
+                keys[j + 1] = keys[j];
+                dates[fromIndex + j + 1] = dates[fromIndex + j];
+            }
+            keys[j + 1] = key;
+            dates[fromIndex + j + 1] = date;
+        }
+    }
+
+    private static void radixSort(PersianDate[] dates, int fromIndex, int[] keys, int min, int max) {
+        int length = keys.length;
+        int[] srcKeys = keys;
+        PersianDate[] srcDates = Arrays.copyOfRange(dates, fromIndex, fromIndex + length);
+        int[] dstKeys = new int[length];
+        PersianDate[] dstDates = new PersianDate[length];
+        int[] offsets = new int[(1 << RADIX_BITS) + 1];
+        int mask = (1 << RADIX_BITS) - 1;
+        for (int shift = 0; (max - min) >>> shift != 0; shift += RADIX_BITS) {
+            Arrays.fill(offsets, 0);
+            for (int key : srcKeys) {
+                offsets[((key - min) >>> shift & mask) + 1]++;
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+            for (int i = 0; i < length; i++) {
+                int index = offsets[(srcKeys[i] - min) >>> shift & mask]++;
+                dstKeys[index] = srcKeys[i];
+                dstDates[index] = srcDates[i];
+            }
+            int[] keysSwap = srcKeys;
+            srcKeys = dstKeys;
+            dstKeys = keysSwap;
+            PersianDate[] datesSwap = srcDates;
+            srcDates = dstDates;
+            dstDates = datesSwap;
+        }
+        System.arraycopy(srcDates, 0, dates, fromIndex, length);
+    }
+
+    /**
+     * Searches {@code dates}, which must be sorted in chronological order, for a date by
+     * binary search. The result is defined as {@link Arrays#binarySearch(Object[], Object)},
+     * but the dates are compared by their packed form.
+     *
+     * @param dates the dates to search, in chronological order, not null
+     * @param key   the date to search for, not null
+     * @return index of {@code key} if it is in {@code dates}; otherwise
+     * {@code (-(insertion point) - 1)}
+     * @throws NullPointerException if one of the compared dates is null
+     */
+    public static int binarySearch(PersianDate[] dates, PersianDate key) {
+        Objects.requireNonNull(dates, "dates");
+        int packed = PackedPersianDate.pack(key);
+        int lo = 0;
+        int hi = dates.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int midPacked = PackedPersianDate.pack(dates[mid]);
+            if (midPacked < packed) {
+                lo = mid + 1;
+            } else if (midPacked > packed) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(lo + 1);
+    }
+
+    /**
+     * Searches {@code packed}, an array of {@link PackedPersianDate packed} dates in
+     * ascending order, for a date by binary search. The result is defined as
+     * {@link Arrays#binarySearch(int[], int)}.
+     *
+     * @param packed the packed dates to search, in ascending order, not null
+     * @param key    the date to search for, not null
+     * @return index of {@code key} if it is in {@code packed}; otherwise
+     * {@code (-(insertion point) - 1)}
+     */
+    public static int binarySearch(int[] packed, PersianDate key) {
+        Objects.requireNonNull(packed, "packed");
+        return Arrays.binarySearch(packed, PackedPersianDate.pack(key));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Converts elements {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) of
+     * {@code epochDays}. The arrays are already checked to be long enough.
+     */
+    static void convertEpochDays(long[] epochDays, int fromIndex, int toIndex,
+                                 int[] outYears, int[] outMonths, int[] outDays) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            long epochDay = checkEpochDay(epochDays[i], i);
+            int year = PersianYearTable.yearOfEpochDay(epochDay);
+            int dayOfYear = (int) epochDay - PersianYearTable.firstEpochDay(year) + 1;
+            int month = PersianYearTable.monthOfDayOfYear(dayOfYear);
+            outYears[i] = year;
+            outMonths[i] = month;
+            outDays[i] = dayOfYear - PersianYearTable.daysBeforeMonth(month);
+        }
+    }
+
+    /**
+     * Converts elements {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) of
+     * {@code epochDays} to {@code yyyymmdd} numbers. The arrays are already checked to be
+     * long enough.
+     */
+    static void convertEpochDays(long[] epochDays, int fromIndex, int toIndex, int[] outYyyymmdd) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            long epochDay = checkEpochDay(epochDays[i], i);
+            int year = PersianYearTable.yearOfEpochDay(epochDay);
+            int dayOfYear = (int) epochDay - PersianYearTable.firstEpochDay(year) + 1;
+            int month = PersianYearTable.monthOfDayOfYear(dayOfYear);
+            outYyyymmdd[i] = year * 10000 + month * 100 + dayOfYear - PersianYearTable.daysBeforeMonth(month);
+        }
+    }
+
+    /**
+     * A task that converts a chunk of a column, splitting it in halves until chunks
+     * are not longer than {@link #PARALLEL_THRESHOLD}. Either {@code outYyyymmdd} or
+     * the three other output arrays are null.
+     */
+    private static final class ConvertTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] epochDays;
+        private final int fromIndex;
+        private final int toIndex;
+        private final int[] outYears;
+        private final int[] outMonths;
+        private final int[] outDays;
+        private final int[] outYyyymmdd;
+
+        ConvertTask(long[] epochDays, int fromIndex, int toIndex,
+                    int[] outYears, int[] outMonths, int[] outDays, int[] outYyyymmdd) {
+            this.epochDays = epochDays;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+            this.outYears = outYears;
+            this.outMonths = outMonths;
+            this.outDays = outDays;
+            this.outYyyymmdd = outYyyymmdd;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex <= PARALLEL_THRESHOLD) {
+                if (outYyyymmdd != null) {
+                    convertEpochDays(epochDays, fromIndex, toIndex, outYyyymmdd);
+                } else {
+                    convertEpochDays(epochDays, fromIndex, toIndex, outYears, outMonths, outDays);
+                }
+            } else {
+                int middle = (fromIndex + toIndex) >>> 1;
+                invokeAll(new ConvertTask(epochDays, fromIndex, middle, outYears, outMonths, outDays, outYyyymmdd),
+                        new ConvertTask(epochDays, middle, toIndex, outYears, outMonths, outDays, outYyyymmdd));
+            }
+        }
+    }
+
+    private static long checkEpochDay(long epochDay, int index) {
+        if (!PersianYearTable.isSupportedEpochDay(epochDay)) {
+            throw new DateTimeException("Invalid value for EpochDay at index " + index + ": " + epochDay +
+                    ", valid values: [" + PersianYearTable.MIN_EPOCH_DAY + ", " + PersianYearTable.MAX_EPOCH_DAY + "]");
+        }
+        return epochDay;
+    }
+
+    private static void checkOutput(int[] out, int length, String name) {
+        Objects.requireNonNull(out, name);
+        if (out.length < length) {
+            throw new IllegalArgumentException(name + " is shorter than input: " + out.length + " < " + length);
+        }
+    }
+}
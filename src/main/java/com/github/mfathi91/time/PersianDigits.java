@@ -0,0 +1,308 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A system of decimal digits that Persian dates are written in, such as Persian
+ * digits {@code ۰۱۲۳۴۵۶۷۸۹}.
+ * <p>
+ * {@code PersianDigits} writes dates and numbers in its own digits, and converts the
+ * digits of a text from any of the supported systems to its own, for example:
+ * <pre>
+ *   PersianDigits.PERSIAN.format(PersianDate.of(1396, 8, 7), '/');   // ۱۳۹۶/۰۸/۰۷
+ *   PersianDigits.PERSIAN.formatLong(PersianDate.of(1396, 8, 7));    // ۷ آبان ۱۳۹۶
+ *   PersianDigits.LATIN.localize("۱۳۹۶/۰۸/۰۷");                      // 1396/08/07
+ * </pre>
+ * The methods that write to a {@link StringBuilder} or a {@code char[]} do not create
+ * any object. {@link #parse(CharSequence)} reads dates whose digits are in any of the
+ * supported systems, even mixed.
+ * <p>
+ * This is an immutable enum and can be used in concurrent programs.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public enum PersianDigits {
+
+    /**
+     * Latin (ASCII) digits, from {@code '0'} ({@code U+0030}) to {@code '9'}.
+     */
+    LATIN('0'),
+
+    /**
+     * Extended Arabic-Indic digits, which are used in Persian, from {@code '۰'}
+     * ({@code U+06F0}) to {@code '۹'}.
+     */
+    PERSIAN('\u06F0'),
+
+    /**
+     * Arabic-Indic digits, from {@code '٠'} ({@code U+0660}) to {@code '٩'}.
+     */
+    ARABIC_INDIC('\u0660');
+
+    /**
+     * Value of every character up to the last Persian digit, which is -1 if the
+     * character is not a digit of any of the systems.
+     */
+    private static final byte[] DIGIT_VALUES = new byte['\u06F9' + 1];
+
+    static {
+        Arrays.fill(DIGIT_VALUES, (byte) -1);
+        for (PersianDigits digits : values()) {
+            for (int i = 0; i < 10; i++) {
+                DIGIT_VALUES[digits.zero + i] = (byte) i;
+            }
+        }
+    }
+
+    private final char zero;
+
+    PersianDigits(char zero) {
+        this.zero = zero;
+    }
+
+    /**
+     * @return the character of digit zero of this system
+     */
+    public char getZeroDigit() {
+        return zero;
+    }
+
+    /**
+     * Returns the character of {@code digit} in this system.
+     *
+     * @param digit the digit, from 0 to 9
+     * @return the character of the digit
+     * @throws IllegalArgumentException if {@code digit} is not from 0 to 9
+     */
+    public char toChar(int digit) {
+        MyUtils.intRequireRange(digit, 0, 9, "digit");
+        return (char) (zero + digit);
+    }
+
+    /**
+     * Returns the value of a digit of any of the supported systems.
+     *
+     * @param c the character
+     * @return the value of the digit from 0 to 9, or -1 if {@code c} is not a digit
+     */
+    public static int digitValue(char c) {
+        return c < DIGIT_VALUES.length ? DIGIT_VALUES[c] : -1;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns {@code date} in the format of {@link PersianDate#toString()}, with the digits
+     * of this system and {@code separator} between the fields, such as {@code ۱۳۹۶/۰۸/۰۷}.
+     *
+     * @param date      the date to format, not null
+     * @param separator the character between year, month and day-of-month
+     * @return the formatted date, not null
+     */
+    public String format(PersianDate date, char separator) {
+        char[] buf = new char[10];
+        formatTo(date, separator, buf, 0);
+        return new String(buf);
+    }
+
+    /**
+     * Writes {@code date} in the format of {@link #format(PersianDate, char)} to {@code sb}.
+     * This does not create any object, unless the builder needs to grow.
+     *
+     * @param date      the date to format, not null
+     * @param separator the character between year, month and day-of-month
+     * @param sb        the builder to write to, not null
+     */
+    public void formatTo(PersianDate date, char separator, StringBuilder sb) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(sb, "sb");
+        int year = date.getYear();
+        int month = date.getMonthValue();
+        int day = date.getDayOfMonth();
+        sb.append((char) (zero + year / 1000))
+                .append((char) (zero + year / 100 % 10))
+                .append((char) (zero + year / 10 % 10))
+                .append((char) (zero + year % 10))
+                .append(separator)
+                .append((char) (zero + month / 10))
+                .append((char) (zero + month % 10))
+                .append(separator)
+                .append((char) (zero + day / 10))
+                .append((char) (zero + day % 10));
+    }
+
+    /**
+     * Writes {@code date} in the format of {@link #format(PersianDate, char)} to {@code buf}
+     * starting at index {@code offset}. Exactly ten characters are written.
+     *
+     * @param date      the date to format, not null
+     * @param separator the character between year, month and day-of-month
+     * @param buf       the array to write to, not null
+     * @param offset    index of {@code buf} to write the first character to
+     * @return index of {@code buf} after the last written character, which is {@code offset + 10}
+     * @throws IndexOutOfBoundsException if there is not enough room in {@code buf}
+     */
+    public int formatTo(PersianDate date, char separator, char[] buf, int offset) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(buf, "buf");
+        if (offset < 0 || offset > buf.length - 10) {
+            throw new IndexOutOfBoundsException("Not enough room in buf from offset " + offset +
+                    ", length: " + buf.length);
+        }
+        int year = date.getYear();
+        int month = date.getMonthValue();
+        int day = date.getDayOfMonth();
+        buf[offset] = (char) (zero + year / 1000);
+        buf[offset + 1] = (char) (zero + year / 100 % 10);
+        buf[offset + 2] = (char) (zero + year / 10 % 10);
+        buf[offset + 3] = (char) (zero + year % 10);
+        buf[offset + 4] = separator;
+        buf[offset + 5] = (char) (zero + month / 10);
+        buf[offset + 6] = (char) (zero + month % 10);
+        buf[offset + 7] = separator;
+        buf[offset + 8] = (char) (zero + day / 10);
+        buf[offset + 9] = (char) (zero + day % 10);
+        return offset + 10;
+    }
+
+    /**
+     * Returns {@code date} as day-of-month, Persian name of month and year, separated by
+     * spaces, such as {@code ۷ آبان ۱۳۹۶}. Day-of-month and year are not padded with zeros.
+     *
+     * @param date the date to format, not null
+     * @return the formatted date, not null
+     * @see PersianMonth#getPersianName()
+     */
+    public String formatLong(PersianDate date) {
+        StringBuilder sb = new StringBuilder(20);
+        formatLongTo(date, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Writes {@code date} in the format of {@link #formatLong(PersianDate)} to {@code sb}.
+     * This does not create any object, unless the builder needs to grow.
+     *
+     * @param date the date to format, not null
+     * @param sb   the builder to write to, not null
+     */
+    public void formatLongTo(PersianDate date, StringBuilder sb) {
+        Objects.requireNonNull(date, "date");
+        Objects.requireNonNull(sb, "sb");
+        appendTo(date.getDayOfMonth(), sb);
+        sb.append(' ').append(date.getMonth().getPersianName()).append(' ');
+        appendTo(date.getYear(), sb);
+    }
+
+    /**
+     * Writes {@code value} with the digits of this system to {@code sb}, without any
+     * padding or grouping. A negative value is preceded by {@code '-'}.
+     *
+     * @param value the value to write
+     * @param sb    the builder to write to, not null
+     */
+    public void appendTo(long value, StringBuilder sb) {
+        Objects.requireNonNull(sb, "sb");
+        if (value < 0) {
+            sb.append('-');
+        } else {
+            value = -value;
+        }
+        // Digits are computed on the negative value, so that Long.MIN_VALUE does not overflow
+        long divisor = -1;
+        while (value <= divisor * 10 && divisor > Long.MIN_VALUE / 10) {
+            divisor *= 10;
+        }
+        for (; divisor != 0; divisor /= 10) {
+            sb.append((char) (zero + value / divisor));
+            value %= divisor;
+        }
+    }
+
+    /**
+     * Returns {@code text} with all of its digits, in any of the supported systems,
+     * converted to the digits of this system. Other characters are left unchanged.
+     *
+     * @param text the text to convert, not null
+     * @return the converted text, not null
+     */
+    public String localize(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        StringBuilder sb = new StringBuilder(text.length());
+        localizeTo(text, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Writes {@code text} with all of its digits converted to the digits of this system to
+     * {@code sb}, in a single pass. This does not create any object, unless the builder
+     * needs to grow.
+     *
+     * @param text the text to convert, not null
+     * @param sb   the builder to write to, not null
+     */
+    public void localizeTo(CharSequence text, StringBuilder sb) {
+        Objects.requireNonNull(text, "text");
+        Objects.requireNonNull(sb, "sb");
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            int value = digitValue(c);
+            sb.append(value >= 0 ? (char) (zero + value) : c);
+        }
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Obtains an instance of {@code PersianDate} from a text in the format of
+     * {@link PersianDate#parse(CharSequence)}, whose digits are in any of the supported
+     * systems, such as {@code ۱۳۹۶/۰۸/۰۷}.
+     *
+     * @param text the text to parse, not null
+     * @return the parsed Persian date, not null
+     * @throws DateTimeParseException if the text cannot be parsed, or is not a valid date
+     */
+    public static PersianDate parse(CharSequence text) {
+        Objects.requireNonNull(text, "text");
+        int yyyymmdd = scan(text, 0, text.length());
+        PersianDate date = PersianDate.ofScanned(yyyymmdd);
+        if (date == null) {
+            throw PersianDate.parseError(text, yyyymmdd);
+        }
+        return date;
+    }
+
+    /**
+     * Scans a text in the format of {@link PersianDate#parse(CharSequence)} with digits of
+     * any system, without validating the date. Invalid digits have the value -1, so all of
+     * them are checked by a single comparison.
+     *
+     * @return the fields as a decimal {@code yyyymmdd} number, or {@link PackedPersianDate#INVALID}
+     */
+    static int scan(CharSequence text, int offset, int length) {
+        if (length != 10) {
+            return PackedPersianDate.INVALID;
+        }
+        char separator = text.charAt(offset + 4);
+        if ((separator != '-' && separator != '/') || text.charAt(offset + 7) != separator) {
+            return PackedPersianDate.INVALID;
+        }
+        int d0 = digitValue(text.charAt(offset));
+        int d1 = digitValue(text.charAt(offset + 1));
+        int d2 = digitValue(text.charAt(offset + 2));
+        int d3 = digitValue(text.charAt(offset + 3));
+        int d5 = digitValue(text.charAt(offset + 5));
+        int d6 = digitValue(text.charAt(offset + 6));
+        int d8 = digitValue(text.charAt(offset + 8));
+        int d9 = digitValue(text.charAt(offset + 9));
+        if ((d0 | d1 | d2 | d3 | d5 | d6 | d8 | d9) < 0) {
+            return PackedPersianDate.INVALID;
+        }
+        return d0 * 10000000 + d1 * 1000000 + d2 * 100000 + d3 * 10000 + d5 * 1000 + d6 * 100 + d8 * 10 + d9;
+    }
+}
@@ -93,7 +93,7 @@ public enum PersianEra implements Era {
     @Override  // override as super would return range from 0 to 1
     public ValueRange range(TemporalField field) {
         if (field == ERA) {
-            return ValueRange.of(1, 1);
+            return PersianChronology.ERA_RANGE;
         }
         return Era.super.range(field);
     }
@@ -96,6 +96,11 @@ public enum PersianMonth {
      */
     ESFAND("اسفند");
 
+    /**
+     * Private cache of all the constants, as {@code values()} returns a new array on each call.
+     */
+    private static final PersianMonth[] ENUMS = PersianMonth.values();
+
     private final String persianName;
 
     PersianMonth(String persianName) {
@@ -120,7 +125,7 @@ public enum PersianMonth {
      */
     static PersianMonth of(int month) {
         MyUtils.intRequireRange(month, 1, 12, "month");
-        return PersianMonth.values()[month - 1];
+        return ENUMS[month - 1];
     }
 
     /**
@@ -178,7 +183,7 @@ public enum PersianMonth {
         int amount = (int) (months % 12);
         // For negative argument
         amount = (amount + 12) % 12;
-        return PersianMonth.values()[(ordinal() + amount) % 12];
+        return ENUMS[(ordinal() + amount) % 12];
     }
 
     /**
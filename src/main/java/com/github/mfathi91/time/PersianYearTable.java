@@ -0,0 +1,187 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+/**
+ * A precomputed table of the supported Persian years, from year 1 to year 1999.
+ * <p>
+ * For every supported year the epoch day of its first day (1st of Farvardin) is
+ * stored in an {@code int} array, and whether the year is a leap year is stored in a
+ * bitset. Conversions between epoch days and Persian dates are then a table lookup,
+ * instead of the 2820-year cycle arithmetic. The table is built once, from the
+ * arithmetic in {@link #computeJulianDay(int, int)}, when this class is initialized.
+ * <p>
+ * Methods of this class do not validate their arguments; callers are responsible
+ * for passing years in the supported range.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+final class PersianYearTable {
+
+    /**
+     * The minimum supported year.
+     */
+    static final int MIN_YEAR = 1;
+
+    /**
+     * The maximum supported year.
+     */
+    static final int MAX_YEAR = 1999;
+
+    /**
+     * 1970-01-01 to julian day.
+     */
+    static final long JULIAN_DAY_TO_1970 = 2440587L;
+
+    /**
+     * Epoch day of the first day of each year, indexed by {@code year - MIN_YEAR}.
+     * The last element is the first day of the year after {@link #MAX_YEAR}.
+     */
+    private static final int[] FIRST_EPOCH_DAYS = new int[MAX_YEAR - MIN_YEAR + 2];
+
+    /**
+     * Leap years as a bitset, bit {@code year} is set if {@code year} is a leap year.
+     */
+    private static final long[] LEAP_YEARS = new long[(MAX_YEAR >> 6) + 1];
+
+    static {
+        for (int year = MIN_YEAR; year <= MAX_YEAR + 1; year++) {
+            FIRST_EPOCH_DAYS[year - MIN_YEAR] = (int) (computeJulianDay(year, 1) - JULIAN_DAY_TO_1970);
+        }
+        for (int year = MIN_YEAR; year <= MAX_YEAR; year++) {
+            if (FIRST_EPOCH_DAYS[year - MIN_YEAR + 1] - FIRST_EPOCH_DAYS[year - MIN_YEAR] > 365) {
+                LEAP_YEARS[year >> 6] |= 1L << year;
+            }
+        }
+    }
+
+    /**
+     * The minimum supported epoch day, which is the first day of {@link #MIN_YEAR}.
+     */
+    static final long MIN_EPOCH_DAY = FIRST_EPOCH_DAYS[0];
+
+    /**
+     * The maximum supported epoch day, which is the last day of {@link #MAX_YEAR}.
+     */
+    static final long MAX_EPOCH_DAY = FIRST_EPOCH_DAYS[MAX_YEAR - MIN_YEAR + 1] - 1;
+
+    /**
+     * Average number of years per day in the 2820-year cycle ({@code 2820 / 1029983}),
+     * scaled by 2<sup>40</sup>, so that the estimate of year needs no division.
+     */
+    private static final long YEARS_PER_DAY_SCALED = (2820L << 40) / 1029983L;
+
+    // Ensure non-instantiability
+    private PersianYearTable() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns true if {@code year} is a leap year.
+     *
+     * @param year the year, from MIN_YEAR to MAX_YEAR
+     * @return true if {@code year} is a leap year
+     */
+    static boolean isLeapYear(int year) {
+        return (LEAP_YEARS[year >> 6] & (1L << year)) != 0;
+    }
+
+    /**
+     * Returns the epoch day of the first day of {@code year}.
+     *
+     * @param year the year, from MIN_YEAR to MAX_YEAR
+     * @return epoch day of 1st of Farvardin of {@code year}
+     */
+    static int firstEpochDay(int year) {
+        return FIRST_EPOCH_DAYS[year - MIN_YEAR];
+    }
+
+    /**
+     * Returns the epoch day of a date.
+     *
+     * @param year       the year, from MIN_YEAR to MAX_YEAR
+     * @param month      the month-of-year, from 1 to 12
+     * @param dayOfMonth the day-of-month, from 1 to 31
+     * @return the epoch day
+     */
+    static long toEpochDay(int year, int month, int dayOfMonth) {
+        return FIRST_EPOCH_DAYS[year - MIN_YEAR] + daysBeforeMonth(month) + dayOfMonth - 1;
+    }
+
+    /**
+     * Returns elapsed days from first of the year to first of {@code month}. The first
+     * six months of the year have 31 days and the next five months have 30 days.
+     *
+     * @param month the month-of-year, from 1 to 12
+     * @return elapsed days from first of the year to first of {@code month}
+     */
+    static int daysBeforeMonth(int month) {
+        return month <= 7 ? 31 * (month - 1) : 30 * (month - 1) + 6;
+    }
+
+    /**
+     * Returns the month-of-year that contains {@code dayOfYear}.
+     *
+     * @param dayOfYear the day-of-year, from 1 to 365 or 366 in a leap year
+     * @return the month-of-year, from 1 to 12
+     */
+    static int monthOfDayOfYear(int dayOfYear) {
+        return dayOfYear <= 186 ? (dayOfYear - 1) / 31 + 1 : (dayOfYear - 187) / 30 + 7;
+    }
+
+    /**
+     * Returns true if {@code epochDay} is between {@link #MIN_EPOCH_DAY} and
+     * {@link #MAX_EPOCH_DAY}.
+     *
+     * @param epochDay the epoch day
+     * @return true if {@code epochDay} is supported
+     */
+    static boolean isSupportedEpochDay(long epochDay) {
+        return epochDay >= MIN_EPOCH_DAY && epochDay <= MAX_EPOCH_DAY;
+    }
+
+    /**
+     * Returns the year that contains {@code epochDay}. The year is estimated from
+     * the average length of year in the 2820-year cycle, and then corrected by
+     * looking up the table, which takes at most one step.
+     *
+     * @param epochDay the epoch day, from MIN_EPOCH_DAY to MAX_EPOCH_DAY
+     * @return the year that contains {@code epochDay}
+     */
+    static int yearOfEpochDay(long epochDay) {
+        int day = (int) epochDay;
+        int index = (int) (((day - MIN_EPOCH_DAY) * YEARS_PER_DAY_SCALED) >>> 40);
+        if (index > MAX_YEAR - MIN_YEAR) {
+            index = MAX_YEAR - MIN_YEAR;
+        }
+        while (FIRST_EPOCH_DAYS[index] > day) {
+            index--;
+        }
+        while (FIRST_EPOCH_DAYS[index + 1] <= day) {
+            index++;
+        }
+        return index + MIN_YEAR;
+    }
+
+    /**
+     * Calculates number of julian days of a day in a year, by the 2820-year cycle
+     * arithmetic. This is used to build the table.
+     *
+     * @param year      the year
+     * @param dayOfYear the day-of-year
+     * @return number of corresponding julian days
+     * @see <a href="http://www.fourmilab.ch/documents/calendar/">calendar convertor</a>
+     */
+    static long computeJulianDay(int year, int dayOfYear) {
+        int epbase = year - 474;
+        int epyear = 474 + (epbase % 2820);
+        return dayOfYear +
+                (epyear * 682 - 110) / 2816 +
+                (epyear - 1) * 365 +
+                (epbase / 2820 * 1029983) +
+                (1948320 - 1);
+    }
+}
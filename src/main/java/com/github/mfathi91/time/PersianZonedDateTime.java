@@ -0,0 +1,592 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.*;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.temporal.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.List;
+import java.util.Objects;
+
+import static java.time.temporal.ChronoField.INSTANT_SECONDS;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static java.time.temporal.ChronoField.OFFSET_SECONDS;
+
+/**
+ * A date-time with a time-zone in the Persian calendar system, such as
+ * {@code 1396-08-07T10:15:30+03:30[Asia/Tehran]}.
+ * <p>
+ * {@code PersianZonedDateTime} is the Persian equivalent of {@link ZonedDateTime}. It
+ * holds a {@link PersianDateTime}, the offset from UTC and the time-zone, and handles
+ * the gaps and overlaps of the time-zone in the same way as {@code ZonedDateTime}.
+ * Creating an instance from an instant or epoch milliseconds uses the cached offsets of
+ * the zone, like {@link PersianDateTime#ofEpochMilli(long, ZoneId)}, so it needs a single
+ * conversion instead of converting a {@code ZonedDateTime} to a {@code LocalDate} and
+ * then to a {@code PersianDate}.
+ * <p>
+ * The start of a Persian day in a time-zone, which is midnight unless midnight is in a
+ * gap of the zone, is obtained by {@link PersianDate#atStartOfDay(ZoneId)}.
+ * <p>
+ * This class is immutable and can be used in concurrent programs.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+public final class PersianZonedDateTime implements ChronoZonedDateTime<PersianDate> {
+
+    private final PersianDateTime dateTime;
+
+    private final ZoneOffset offset;
+
+    private final ZoneId zone;
+
+    /**
+     * Constructor, previously validated.
+     *
+     * @param dateTime the date-time, validated as valid in the zone
+     * @param offset   the offset, validated as valid in the zone
+     * @param zone     the time-zone
+     */
+    private PersianZonedDateTime(PersianDateTime dateTime, ZoneOffset offset, ZoneId zone) {
+        this.dateTime = dateTime;
+        this.offset = offset;
+        this.zone = zone;
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Obtains the current date-time from the system clock in the default time-zone.
+     *
+     * @return the current date-time using the system clock, not null
+     */
+    public static PersianZonedDateTime now() {
+        return now(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Obtains the current date-time from the system clock in the specified time-zone.
+     *
+     * @param zone the zone ID to use, not null
+     * @return the current date-time using the system clock, not null
+     */
+    public static PersianZonedDateTime now(ZoneId zone) {
+        return now(Clock.system(zone));
+    }
+
+    /**
+     * Obtains the current date-time from the specified clock.
+     *
+     * @param clock the clock to use, not null
+     * @return the current date-time, not null
+     */
+    public static PersianZonedDateTime now(Clock clock) {
+        Objects.requireNonNull(clock, "clock");
+        return ofInstant(clock.instant(), clock.getZone());
+    }
+
+    /**
+     * Obtains an instance of {@code PersianZonedDateTime} from a local date-time, using
+     * the earlier offset at an overlap. This is equivalent to
+     * {@code ofLocal(dateTime, zone, null)}.
+     *
+     * @param dateTime the local date-time, not null
+     * @param zone     the time-zone, not null
+     * @return the zoned date-time, not null
+     */
+    public static PersianZonedDateTime of(PersianDateTime dateTime, ZoneId zone) {
+        return ofLocal(dateTime, zone, null);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianZonedDateTime} from a local date-time, using
+     * the preferred offset if possible, in the same way as
+     * {@link ZonedDateTime#ofLocal(LocalDateTime, ZoneId, ZoneOffset)}.
+     * <p>
+     * At a gap, the local date-time is moved later by the length of the gap. At an
+     * overlap, the preferred offset is used if it is one of the two valid offsets, and
+     * the earlier offset is used otherwise.
+     *
+     * @param dateTime        the local date-time, not null
+     * @param zone            the time-zone, not null
+     * @param preferredOffset the zone offset, null if no preference
+     * @return the zoned date-time, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public static PersianZonedDateTime ofLocal(PersianDateTime dateTime, ZoneId zone, ZoneOffset preferredOffset) {
+        Objects.requireNonNull(dateTime, "dateTime");
+        Objects.requireNonNull(zone, "zone");
+        if (zone instanceof ZoneOffset) {
+            return new PersianZonedDateTime(dateTime, (ZoneOffset) zone, zone);
+        }
+        ZoneRules rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            return new PersianZonedDateTime(dateTime, rules.getOffset(Instant.EPOCH), zone);
+        }
+        LocalDateTime isoDateTime = dateTime.toGregorian();
+        List<ZoneOffset> validOffsets = rules.getValidOffsets(isoDateTime);
+        if (validOffsets.size() == 1) {
+            return new PersianZonedDateTime(dateTime, validOffsets.get(0), zone);
+        }
+        if (validOffsets.isEmpty()) {
+            ZoneOffsetTransition transition = rules.getTransition(isoDateTime);
+            return new PersianZonedDateTime(dateTime.plusSeconds(transition.getDuration().getSeconds()),
+                    transition.getOffsetAfter(), zone);
+        }
+        ZoneOffset offset = preferredOffset != null && validOffsets.contains(preferredOffset) ?
+                preferredOffset : validOffsets.get(0);
+        return new PersianZonedDateTime(dateTime, offset, zone);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianZonedDateTime} from an instant.
+     *
+     * @param instant the instant to create the date-time from, not null
+     * @param zone    the time-zone, not null
+     * @return the zoned date-time, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public static PersianZonedDateTime ofInstant(Instant instant, ZoneId zone) {
+        Objects.requireNonNull(instant, "instant");
+        return create(instant.getEpochSecond(), instant.getNano(), zone);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianZonedDateTime} from milliseconds from the
+     * epoch of 1970-01-01T00:00:00Z.
+     *
+     * @param epochMilli the number of milliseconds from 1970-01-01T00:00:00Z
+     * @param zone       the time-zone, not null
+     * @return the zoned date-time, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    public static PersianZonedDateTime ofEpochMilli(long epochMilli, ZoneId zone) {
+        return create(Math.floorDiv(epochMilli, 1000L), (int) Math.floorMod(epochMilli, 1000L) * 1000_000, zone);
+    }
+
+    /**
+     * Obtains an instance of {@code PersianZonedDateTime} from a temporal object, which
+     * has a zone and either an instant or a local date-time, such as a
+     * {@link ZonedDateTime}.
+     *
+     * @param temporal the temporal object to convert, not null
+     * @return the zoned date-time, not null
+     * @throws DateTimeException if unable to convert to a {@code PersianZonedDateTime}
+     */
+    public static PersianZonedDateTime from(TemporalAccessor temporal) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (temporal instanceof PersianZonedDateTime) {
+            return (PersianZonedDateTime) temporal;
+        }
+        try {
+            ZoneId zone = ZoneId.from(temporal);
+            if (temporal.isSupported(INSTANT_SECONDS)) {
+                return create(temporal.getLong(INSTANT_SECONDS), temporal.get(NANO_OF_SECOND), zone);
+            }
+            return of(PersianDateTime.from(temporal), zone);
+        } catch (DateTimeException ex) {
+            throw new DateTimeException("Unable to obtain PersianZonedDateTime from TemporalAccessor: " +
+                    temporal + " of type " + temporal.getClass().getName(), ex);
+        }
+    }
+
+    /**
+     * Obtains the first instant of a date in a time-zone, in the same way as
+     * {@link LocalDate#atStartOfDay(ZoneId)}.
+     */
+    static PersianZonedDateTime ofStartOfDay(PersianDate date, ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        long localSecond = date.toEpochDay() * 86400L;
+        if (zone instanceof ZoneOffset) {
+            return new PersianZonedDateTime(PersianDateTime.ofLocalSecond(localSecond, 0), (ZoneOffset) zone, zone);
+        }
+        return create(ZoneOffsetTable.of(zone).getEarliestEpochSecond(localSecond), 0, zone);
+    }
+
+    private static PersianZonedDateTime create(long epochSecond, int nanoOfSecond, ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        int offsetSeconds = PersianDateTime.offsetSeconds(epochSecond, zone);
+        PersianDateTime dateTime = PersianDateTime.ofLocalSecond(Math.addExact(epochSecond, offsetSeconds), nanoOfSecond);
+        return new PersianZonedDateTime(dateTime, ZoneOffset.ofTotalSeconds(offsetSeconds), zone);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Gets the local date-time part of this date-time.
+     *
+     * @return the local date-time part of this date-time, not null
+     */
+    @Override
+    public PersianDateTime toLocalDateTime() {
+        return dateTime;
+    }
+
+    /**
+     * Gets the local date part of this date-time.
+     *
+     * @return the date part of this date-time, not null
+     */
+    @Override
+    public PersianDate toLocalDate() {
+        return dateTime.toLocalDate();
+    }
+
+    /**
+     * Gets the local time part of this date-time.
+     *
+     * @return the time part of this date-time, not null
+     */
+    @Override
+    public LocalTime toLocalTime() {
+        return dateTime.toLocalTime();
+    }
+
+    /**
+     * Gets the zone offset, such as '+03:30'.
+     *
+     * @return the zone offset, not null
+     */
+    @Override
+    public ZoneOffset getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the time-zone, such as 'Asia/Tehran'.
+     *
+     * @return the time-zone ID, not null
+     */
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * Gets the chronology of this date-time, which is the Persian calendar system.
+     *
+     * @return the Persian chronology, not null
+     */
+    @Override
+    public PersianChronology getChronology() {
+        return PersianChronology.INSTANCE;
+    }
+
+    /**
+     * Converts this date-time to the number of seconds from the epoch of
+     * 1970-01-01T00:00:00Z.
+     *
+     * @return the number of seconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    @Override
+    public long toEpochSecond() {
+        return dateTime.toEpochSecond(offset);
+    }
+
+    /**
+     * Checks if the specified field is supported. All of the {@link ChronoField}s are
+     * supported.
+     *
+     * @param field the field to check, null returns false
+     * @return true if the field is supported on this date-time, false if not
+     */
+    @Override
+    public boolean isSupported(TemporalField field) {
+        return field instanceof ChronoField || (field != null && field.isSupportedBy(this));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns a copy of this date-time changing the zone offset to the earlier of the
+     * two valid offsets at a local time-line overlap.
+     *
+     * @return a {@code PersianZonedDateTime} based on this date-time with the earlier offset, not null
+     */
+    @Override
+    public PersianZonedDateTime withEarlierOffsetAtOverlap() {
+        ZoneOffsetTransition transition = getZone().getRules().getTransition(dateTime.toGregorian());
+        if (transition != null && transition.isOverlap()) {
+            return withOffset(transition.getOffsetBefore());
+        }
+        return this;
+    }
+
+    /**
+     * Returns a copy of this date-time changing the zone offset to the later of the
+     * two valid offsets at a local time-line overlap.
+     *
+     * @return a {@code PersianZonedDateTime} based on this date-time with the later offset, not null
+     */
+    @Override
+    public PersianZonedDateTime withLaterOffsetAtOverlap() {
+        ZoneOffsetTransition transition = getZone().getRules().getTransition(dateTime.toGregorian());
+        if (transition != null && transition.isOverlap()) {
+            return withOffset(transition.getOffsetAfter());
+        }
+        return this;
+    }
+
+    /**
+     * Returns a copy of this date-time with a different time-zone, retaining the local
+     * date-time if possible.
+     *
+     * @param zone the time-zone to change to, not null
+     * @return a {@code PersianZonedDateTime} based on this date-time with the requested zone, not null
+     */
+    @Override
+    public PersianZonedDateTime withZoneSameLocal(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return this.zone.equals(zone) ? this : ofLocal(dateTime, zone, offset);
+    }
+
+    /**
+     * Returns a copy of this date-time with a different time-zone, retaining the instant.
+     *
+     * @param zone the time-zone to change to, not null
+     * @return a {@code PersianZonedDateTime} based on this date-time with the requested zone, not null
+     * @throws DateTimeException if the result exceeds the supported range
+     */
+    @Override
+    public PersianZonedDateTime withZoneSameInstant(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return this.zone.equals(zone) ? this : create(toEpochSecond(), dateTime.getNano(), zone);
+    }
+
+    /**
+     * Returns a copy of this date-time with the time truncated to {@code unit}, in the
+     * same way as {@link PersianDateTime#truncatedTo(TemporalUnit)}. The local date-time
+     * is truncated and then resolved in the zone, retaining the offset if possible.
+     *
+     * @param unit the unit to truncate to, not null
+     * @return a {@code PersianZonedDateTime} based on this date-time with the time truncated, not null
+     * @throws DateTimeException                if unable to truncate
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     */
+    public PersianZonedDateTime truncatedTo(TemporalUnit unit) {
+        return resolveLocal(dateTime.truncatedTo(unit));
+    }
+
+    /**
+     * Returns an adjusted copy of this date-time. A {@link PersianDate}, a
+     * {@link LocalTime} or a {@link PersianDateTime} replaces the local date-time, which
+     * is resolved in the zone retaining the offset if possible. An {@link Instant}
+     * replaces the instant and a {@link ZoneOffset} replaces the offset, if it is valid.
+     *
+     * @param adjuster the adjuster to use, not null
+     * @return a {@code PersianZonedDateTime} based on {@code this} with the adjustment made, not null
+     * @throws DateTimeException   if the adjustment cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianZonedDateTime with(TemporalAdjuster adjuster) {
+        Objects.requireNonNull(adjuster, "adjuster");
+        if (adjuster instanceof PersianDate || adjuster instanceof LocalTime) {
+            return resolveLocal(dateTime.with(adjuster));
+        } else if (adjuster instanceof PersianDateTime) {
+            return resolveLocal((PersianDateTime) adjuster);
+        } else if (adjuster instanceof Instant) {
+            Instant instant = (Instant) adjuster;
+            return create(instant.getEpochSecond(), instant.getNano(), zone);
+        } else if (adjuster instanceof ZoneOffset) {
+            return resolveOffset((ZoneOffset) adjuster);
+        }
+        return from(adjuster.adjustInto(this));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified field set to a new value.
+     * <p>
+     * {@code INSTANT_SECONDS} changes the instant and {@code OFFSET_SECONDS} changes the
+     * offset, if it is valid. Other fields are set as in
+     * {@link PersianDateTime#with(TemporalField, long)}, and the local date-time is then
+     * resolved in the zone, retaining the offset if possible.
+     *
+     * @param field    the field to set in the result, not null
+     * @param newValue the new value of the field in the result
+     * @return a {@code PersianZonedDateTime} based on {@code this} with the specified field set, not null
+     * @throws DateTimeException                if the field cannot be set
+     * @throws UnsupportedTemporalTypeException if the field is not supported
+     */
+    @Override
+    public PersianZonedDateTime with(TemporalField field, long newValue) {
+        if (field instanceof ChronoField) {
+            switch ((ChronoField) field) {
+                case INSTANT_SECONDS:
+                    return create(newValue, dateTime.getNano(), zone);
+                case OFFSET_SECONDS:
+                    return resolveOffset(ZoneOffset.ofTotalSeconds(OFFSET_SECONDS.checkValidIntValue(newValue)));
+            }
+            return resolveLocal(dateTime.with(field, newValue));
+        }
+        return from(field.adjustInto(this, newValue));
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Returns a copy of this date-time with the specified amount added.
+     *
+     * @param amount the amount to add, not null
+     * @return a {@code PersianZonedDateTime} based on this date-time with the addition made, not null
+     * @throws DateTimeException   if the addition cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianZonedDateTime plus(TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        return from(amount.addTo(this));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified amount added, in the same way
+     * as {@link ZonedDateTime#plus(long, TemporalUnit)}.
+     * <p>
+     * Date-based units are added to the local date-time, which is then resolved in the
+     * zone retaining the offset if possible. Time-based units are added to the instant,
+     * so adding one hour always results in an instant one hour later.
+     *
+     * @param amountToAdd the amount of the unit to add to the result, may be negative
+     * @param unit        the unit of the amount to add, not null
+     * @return a {@code PersianZonedDateTime} based on this date-time with the specified amount added, not null
+     * @throws DateTimeException                if the addition cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException              if numeric overflow occurs
+     */
+    @Override
+    public PersianZonedDateTime plus(long amountToAdd, TemporalUnit unit) {
+        if (unit instanceof ChronoUnit) {
+            PersianDateTime newDateTime = dateTime.plus(amountToAdd, unit);
+            if (unit.isDateBased()) {
+                return resolveLocal(newDateTime);
+            }
+            return create(newDateTime.toEpochSecond(offset), newDateTime.getNano(), zone);
+        }
+        return from(unit.addTo(this, amountToAdd));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified amount subtracted.
+     *
+     * @param amount the amount to subtract, not null
+     * @return a {@code PersianZonedDateTime} based on this date-time with the subtraction made, not null
+     * @throws DateTimeException   if the subtraction cannot be made
+     * @throws ArithmeticException if numeric overflow occurs
+     */
+    @Override
+    public PersianZonedDateTime minus(TemporalAmount amount) {
+        Objects.requireNonNull(amount, "amount");
+        return from(amount.subtractFrom(this));
+    }
+
+    /**
+     * Returns a copy of this date-time with the specified amount subtracted. This is
+     * equivalent to {@link #plus(long, TemporalUnit)} with the amount negated.
+     *
+     * @param amountToSubtract the amount of the unit to subtract from the result, may be negative
+     * @param unit             the unit of the amount to subtract, not null
+     * @return a {@code PersianZonedDateTime} based on this date-time with the specified amount subtracted, not null
+     * @throws DateTimeException                if the subtraction cannot be made
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException              if numeric overflow occurs
+     */
+    @Override
+    public PersianZonedDateTime minus(long amountToSubtract, TemporalUnit unit) {
+        return amountToSubtract == Long.MIN_VALUE ?
+                plus(Long.MAX_VALUE, unit).plus(1, unit) : plus(-amountToSubtract, unit);
+    }
+
+    /**
+     * Calculates the amount of time until another date-time in terms of the specified
+     * unit, in the same way as {@link ZonedDateTime#until(Temporal, TemporalUnit)}.
+     * <p>
+     * The end date-time is converted to the zone of this date-time. Date-based units are
+     * then calculated on the local date-times, and time-based units on the instants.
+     *
+     * @param endExclusive the end date-time, exclusive, which is converted to a
+     *                     {@code PersianZonedDateTime}, not null
+     * @param unit         the unit to measure the amount in, not null
+     * @return the amount of time between this date-time and the end date-time
+     * @throws DateTimeException                if the amount cannot be calculated, or the end
+     *                                          temporal cannot be converted to a {@code PersianZonedDateTime}
+     * @throws UnsupportedTemporalTypeException if the unit is not supported
+     * @throws ArithmeticException              if numeric overflow occurs
+     */
+    @Override
+    public long until(Temporal endExclusive, TemporalUnit unit) {
+        Objects.requireNonNull(unit, "unit");
+        PersianZonedDateTime end = from(endExclusive);
+        if (!(unit instanceof ChronoUnit)) {
+            return unit.between(this, end);
+        }
+        end = end.withZoneSameInstant(zone);
+        if (unit.isDateBased()) {
+            return dateTime.until(end.dateTime, unit);
+        }
+        return dateTime.until(end.dateTime.plusSeconds(offset.getTotalSeconds() - end.offset.getTotalSeconds()), unit);
+    }
+
+    private PersianZonedDateTime resolveLocal(PersianDateTime newDateTime) {
+        return newDateTime.equals(dateTime) ? this : ofLocal(newDateTime, zone, offset);
+    }
+
+    private PersianZonedDateTime resolveOffset(ZoneOffset newOffset) {
+        if (!newOffset.equals(offset) && zone.getRules().isValidOffset(dateTime.toGregorian(), newOffset)) {
+            return new PersianZonedDateTime(dateTime, newOffset, zone);
+        }
+        return this;
+    }
+
+    private PersianZonedDateTime withOffset(ZoneOffset newOffset) {
+        return newOffset.equals(offset) ? this : new PersianZonedDateTime(dateTime, newOffset, zone);
+    }
+
+    //-----------------------------------------------------------------------
+
+    /**
+     * Checks if this date-time is equal to another Persian zoned date-time, comparing
+     * the local date-time, the offset and the zone.
+     *
+     * @param obj the object to check, null returns false
+     * @return true if this is equal to the other date-time
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof PersianZonedDateTime) {
+            PersianZonedDateTime other = (PersianZonedDateTime) obj;
+            return dateTime.equals(other.dateTime) && offset.equals(other.offset) && zone.equals(other.zone);
+        }
+        return false;
+    }
+
+    /**
+     * A hash code for this date-time.
+     *
+     * @return a suitable hash code
+     */
+    @Override
+    public int hashCode() {
+        return dateTime.hashCode() ^ offset.hashCode() ^ Integer.rotateLeft(zone.hashCode(), 3);
+    }
+
+    /**
+     * Returns this date-time as a {@code String}, such as
+     * {@code 1396-08-07T10:15:30+03:30[Asia/Tehran]}. The zone is omitted if it is the
+     * same as the offset.
+     *
+     * @return a string representation of this date-time, not null
+     */
+    @Override
+    public String toString() {
+        String str = dateTime.toString() + offset.toString();
+        if (offset != zone) {
+            str += '[' + zone.toString() + ']';
+        }
+        return str;
+    }
+}
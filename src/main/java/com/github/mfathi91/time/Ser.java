@@ -0,0 +1,101 @@
+package com.github.mfathi91.time;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * The shared serialization delegate for this package, the same as {@code java.time.Ser}.
+ * <p>
+ * The serialized form of an object is a byte that identifies its class, followed by the
+ * bytes of the object:
+ * <ul>
+ * <li>1 for {@link PersianDate}, followed by the three bytes of
+ * {@link PersianDate#writeTo(java.nio.ByteBuffer)}</li>
+ * </ul>
+ * This is much smaller than the default serialized form of the fields, and allows the
+ * classes to change their fields without changing the serialized form.
+ *
+ * @author Mahmoud Fathi
+ */
+final class Ser implements Externalizable {
+
+    private static final long serialVersionUID = -6103370247208168577L;
+
+    static final byte PERSIAN_DATE_TYPE = 1;
+
+    /**
+     * The type being serialized.
+     */
+    private byte type;
+
+    /**
+     * The object being serialized.
+     */
+    private Object object;
+
+    /**
+     * Constructor for deserialization.
+     */
+    public Ser() {
+    }
+
+    /**
+     * Creates an instance for serialization.
+     *
+     * @param type   the type
+     * @param object the object
+     */
+    Ser(byte type, Object object) {
+        this.type = type;
+        this.object = object;
+    }
+
+    /**
+     * Implements the {@code Externalizable} interface to write the object.
+     *
+     * @param out the data stream to write to, not null
+     * @throws IOException if an IO error occurs
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        out.writeByte(type);
+        switch (type) {
+            case PERSIAN_DATE_TYPE:
+                ((PersianDate) object).writeExternal(out);
+                break;
+            default:
+                throw new InvalidClassException("Unknown serialized type");
+        }
+    }
+
+    /**
+     * Implements the {@code Externalizable} interface to read the object.
+     *
+     * @param in the data to read, not null
+     * @throws IOException if an IO error occurs
+     */
+    @Override
+    public void readExternal(ObjectInput in) throws IOException {
+        type = in.readByte();
+        switch (type) {
+            case PERSIAN_DATE_TYPE:
+                object = PersianDate.readExternal(in);
+                break;
+            default:
+                throw new StreamCorruptedException("Unknown serialized type");
+        }
+    }
+
+    /**
+     * Returns the object that will replace this one.
+     *
+     * @return the read object, should never be null
+     */
+    private Object readResolve() {
+        return object;
+    }
+}
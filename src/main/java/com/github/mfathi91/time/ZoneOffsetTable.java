@@ -0,0 +1,216 @@
+package com.github.mfathi91.time;
+
+import net.jcip.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A precomputed table of the offsets of a time-zone, from 1900 to 2100.
+ * <p>
+ * The transitions of the zone in that period are stored in a {@code long} array of
+ * epoch seconds, and the offset in effect after each of them in an {@code int} array.
+ * The period is divided into buckets of {@code 2^25} seconds, which is about a year,
+ * and for every bucket the index of its first transition is stored. Finding the
+ * offset of an instant is then an array lookup, followed by stepping over the few
+ * transitions of the bucket, instead of a {@link ZoneRules#getOffset(Instant)} call.
+ * Instants out of the period are delegated to the {@link ZoneRules} of the zone.
+ * <p>
+ * Tables are built on first use of each zone and kept for the lifetime of the
+ * application, since the number of zones is small. Changes of the rules of a zone
+ * after its table is built are not reflected.
+ * <p>
+ * This class is immutable and thread-safe.
+ *
+ * @author Mahmoud Fathi
+ */
+@Immutable
+final class ZoneOffsetTable {
+
+    /**
+     * 1900-01-01T00:00:00Z as epoch second.
+     */
+    private static final long START_EPOCH_SECOND = -2208988800L;
+
+    /**
+     * 2100-01-01T00:00:00Z as epoch second.
+     */
+    private static final long END_EPOCH_SECOND = 4102444800L;
+
+    private static final int BUCKET_SHIFT = 25;
+
+    private static final ConcurrentHashMap<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+
+    /**
+     * The most recently used table, which spares the map lookup for applications that
+     * use a single zone.
+     */
+    private static volatile ZoneOffsetTable lastTable;
+
+    private final ZoneId zone;
+
+    private final ZoneRules rules;
+
+    /**
+     * The offset of a fixed-offset zone in seconds, or {@code Integer.MIN_VALUE}.
+     */
+    private final int fixedOffsetSeconds;
+
+    /**
+     * The transitions from {@code START_EPOCH_SECOND} to {@code END_EPOCH_SECOND},
+     * as epoch seconds.
+     */
+    private final long[] transitions;
+
+    /**
+     * The offsets in seconds. The element at index {@code i} is in effect from the
+     * transition at index {@code i - 1} to the transition at index {@code i}, so there
+     * is one more offset than transitions.
+     */
+    private final int[] offsets;
+
+    /**
+     * The index of the first transition that is not before the start of each bucket.
+     */
+    private final int[] bucketIndexes;
+
+    /**
+     * The minimum and the maximum of the offsets in seconds.
+     */
+    private final int minOffsetSeconds, maxOffsetSeconds;
+
+    private ZoneOffsetTable(ZoneId zone) {
+        this.zone = zone;
+        this.rules = zone.getRules();
+        if (rules.isFixedOffset()) {
+            fixedOffsetSeconds = rules.getOffset(Instant.EPOCH).getTotalSeconds();
+            transitions = new long[0];
+            offsets = new int[0];
+            bucketIndexes = new int[0];
+            minOffsetSeconds = maxOffsetSeconds = fixedOffsetSeconds;
+            return;
+        }
+        fixedOffsetSeconds = Integer.MIN_VALUE;
+        long[] transitions = new long[16];
+        int[] offsets = new int[17];
+        offsets[0] = rules.getOffset(Instant.ofEpochSecond(START_EPOCH_SECOND)).getTotalSeconds();
+        int size = 0;
+        ZoneOffsetTransition transition = rules.nextTransition(Instant.ofEpochSecond(START_EPOCH_SECOND));
+        while (transition != null && transition.toEpochSecond() < END_EPOCH_SECOND) {
+            if (size == transitions.length) {
+                transitions = Arrays.copyOf(transitions, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2 + 1);
+            }
+            transitions[size] = transition.toEpochSecond();
+            offsets[++size] = transition.getOffsetAfter().getTotalSeconds();
+            transition = rules.nextTransition(transition.getInstant());
+        }
+        this.transitions = Arrays.copyOf(transitions, size);
+        this.offsets = Arrays.copyOf(offsets, size + 1);
+        this.bucketIndexes = new int[(int) ((END_EPOCH_SECOND - START_EPOCH_SECOND) >>> BUCKET_SHIFT) + 1];
+        for (int bucket = 0, index = 0; bucket < bucketIndexes.length; bucket++) {
+            long bucketStart = START_EPOCH_SECOND + ((long) bucket << BUCKET_SHIFT);
+            while (index < size && this.transitions[index] < bucketStart) {
+                index++;
+            }
+            bucketIndexes[bucket] = index;
+        }
+        int minOffsetSeconds = Integer.MAX_VALUE, maxOffsetSeconds = Integer.MIN_VALUE;
+        for (int offset : this.offsets) {
+            minOffsetSeconds = Math.min(minOffsetSeconds, offset);
+            maxOffsetSeconds = Math.max(maxOffsetSeconds, offset);
+        }
+        this.minOffsetSeconds = minOffsetSeconds;
+        this.maxOffsetSeconds = maxOffsetSeconds;
+    }
+
+    /**
+     * Returns the table of a time-zone, building it if it is not built yet.
+     *
+     * @param zone the time-zone, not null
+     * @return the table of the zone, not null
+     */
+    static ZoneOffsetTable of(ZoneId zone) {
+        ZoneOffsetTable table = lastTable;
+        if (table != null && table.zone.equals(zone)) {
+            return table;
+        }
+        Objects.requireNonNull(zone, "zone");
+        table = TABLES.computeIfAbsent(zone, ZoneOffsetTable::new);
+        lastTable = table;
+        return table;
+    }
+
+    /**
+     * Returns the offset of this zone at the specified instant, in seconds.
+     *
+     * @param epochSecond the instant, as seconds from the epoch of 1970-01-01T00:00:00Z
+     * @return the total offset in seconds
+     */
+    int getOffsetSeconds(long epochSecond) {
+        if (fixedOffsetSeconds != Integer.MIN_VALUE) {
+            return fixedOffsetSeconds;
+        }
+        if (epochSecond < START_EPOCH_SECOND || epochSecond >= END_EPOCH_SECOND) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        return offsets[offsetIndex(epochSecond)];
+    }
+
+    /**
+     * Returns the earliest instant at which the local time of this zone is not before
+     * the specified local time. This is the instant of the local time at its earlier
+     * offset, or the end of the gap if the local time is in a gap, which is the same as
+     * {@link java.time.LocalDate#atStartOfDay(ZoneId)} for midnight.
+     *
+     * @param localSecond the local time, as seconds from 1970-01-01T00:00:00
+     * @return the instant, as seconds from the epoch of 1970-01-01T00:00:00Z
+     */
+    long getEarliestEpochSecond(long localSecond) {
+        if (fixedOffsetSeconds != Integer.MIN_VALUE) {
+            return localSecond - fixedOffsetSeconds;
+        }
+        // the result is between these two instants
+        long epochSecond = localSecond - maxOffsetSeconds;
+        if (epochSecond < START_EPOCH_SECOND || localSecond - minOffsetSeconds >= END_EPOCH_SECOND) {
+            return getEarliestEpochSecondFromRules(localSecond);
+        }
+        for (int index = offsetIndex(epochSecond); ; index++) {
+            int offset = offsets[index];
+            if (index > 0 && localSecond < transitions[index - 1] + offset) {
+                return transitions[index - 1];
+            }
+            if (index == transitions.length || localSecond < transitions[index] + offset) {
+                return localSecond - offset;
+            }
+        }
+    }
+
+    private long getEarliestEpochSecondFromRules(long localSecond) {
+        LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+        ZoneOffsetTransition transition = rules.getTransition(localDateTime);
+        if (transition != null && transition.isGap()) {
+            return transition.toEpochSecond();
+        }
+        return localDateTime.toEpochSecond(rules.getValidOffsets(localDateTime).get(0));
+    }
+
+    /**
+     * Returns the index of the offset at an instant from the start to the end of the
+     * table.
+     */
+    private int offsetIndex(long epochSecond) {
+        int index = bucketIndexes[(int) ((epochSecond - START_EPOCH_SECOND) >>> BUCKET_SHIFT)];
+        while (index < transitions.length && transitions[index] <= epochSecond) {
+            index++;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class PackedPersianDateTest {
+
+    @Test
+    public void testOnOf() {
+        int packed = PackedPersianDate.of(1396, 8, 7);
+        assertEquals(1396, PackedPersianDate.getYear(packed));
+        assertEquals(8, PackedPersianDate.getMonthValue(packed));
+        assertEquals(7, PackedPersianDate.getDayOfMonth(packed));
+        assertEquals(PersianDate.of(1396, 8, 7), PackedPersianDate.toPersianDate(packed));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfInvalidDate() {
+        PackedPersianDate.of(1388, 12, 30);
+    }
+
+    @Test
+    public void testOnWholeRange() {
+        int previous = 0;
+        for (long epochDay = PersianDate.MIN.toEpochDay(); epochDay <= PersianDate.MAX.toEpochDay(); epochDay++) {
+            PersianDate pd = PersianDate.ofEpochDay(epochDay);
+            int packed = PackedPersianDate.ofEpochDay(epochDay);
+            assertEquals(PackedPersianDate.pack(pd), packed);
+            assertTrue(PackedPersianDate.isValid(packed));
+            assertEquals(epochDay, PackedPersianDate.toEpochDay(packed));
+            assertEquals(pd.getDayOfYear(), PackedPersianDate.getDayOfYear(packed));
+            assertTrue(PackedPersianDate.compare(previous, packed) < 0);
+            previous = packed;
+        }
+    }
+
+    @Test
+    public void testOnMinMax() {
+        assertEquals(PersianDate.MIN, PackedPersianDate.toPersianDate(PackedPersianDate.MIN));
+        assertEquals(PersianDate.MAX, PackedPersianDate.toPersianDate(PackedPersianDate.MAX));
+    }
+
+    @Test
+    public void testOnIsValid() {
+        assertTrue(PackedPersianDate.isValid(PackedPersianDate.of(1387, 12, 30)));
+        assertFalse(PackedPersianDate.isValid(PackedPersianDate.of(1388, 12, 29) + 1));
+        assertFalse(PackedPersianDate.isValid(PackedPersianDate.of(1396, 7, 30) + 1));
+        assertFalse(PackedPersianDate.isValid(PackedPersianDate.of(1396, 7, 1) - 1));
+        assertFalse(PackedPersianDate.isValid(0));
+        assertFalse(PackedPersianDate.isValid(-1));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnGetYearInvalid() {
+        PackedPersianDate.getYear(0);
+    }
+
+    @Test
+    public void testOnGetDayOfWeek() {
+        assertEquals(DayOfWeek.SATURDAY, PackedPersianDate.getDayOfWeek(PackedPersianDate.of(1395, 11, 23)));
+        assertEquals(DayOfWeek.FRIDAY, PackedPersianDate.getDayOfWeek(PackedPersianDate.of(1395, 11, 29)));
+        assertEquals(PersianDate.MIN.getDayOfWeek(), PackedPersianDate.getDayOfWeek(PackedPersianDate.MIN));
+    }
+
+    @Test
+    public void testOnPlusDays() {
+        int packed = PackedPersianDate.of(1388, 12, 29);
+        assertEquals(PackedPersianDate.of(1389, 1, 1), PackedPersianDate.plusDays(packed, 1));
+        assertEquals(PackedPersianDate.of(1298, 11, 22),
+                PackedPersianDate.plusDays(PackedPersianDate.of(1396, 8, 6), -35688));
+        assertEquals(packed, PackedPersianDate.plusDays(packed, 0));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnPlusDaysAfterMax() {
+        PackedPersianDate.plusDays(PackedPersianDate.MAX, 1);
+    }
+
+    @Test
+    public void testOnPlusMonths() {
+        assertEquals(PackedPersianDate.of(1400, 7, 30),
+                PackedPersianDate.plusMonths(PackedPersianDate.of(1400, 6, 31), 1));
+        assertEquals(PackedPersianDate.of(1387, 12, 30),
+                PackedPersianDate.plusMonths(PackedPersianDate.of(1388, 1, 31), -1));
+        assertEquals(PackedPersianDate.of(1394, 1, 30),
+                PackedPersianDate.plusMonths(PackedPersianDate.of(1396, 7, 30), -30));
+        PersianDate pd = PersianDate.of(1503, 12, 30);
+        assertEquals(PackedPersianDate.pack(pd.plusMonths(1200)),
+                PackedPersianDate.plusMonths(PackedPersianDate.pack(pd), 1200));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnPlusMonthsAfterMax() {
+        PackedPersianDate.plusMonths(PackedPersianDate.MAX, 1);
+    }
+
+    @Test
+    public void testOnSortsChronologically() {
+        PersianDate[] dates = {PersianDate.of(1400, 1, 1), PersianDate.of(1399, 12, 30),
+                PersianDate.of(1, 1, 1), PersianDate.of(1400, 2, 1), PersianDate.of(1399, 1, 31)};
+        int[] packed = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            packed[i] = PackedPersianDate.pack(dates[i]);
+        }
+        Arrays.sort(dates);
+        Arrays.sort(packed);
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(dates[i], PackedPersianDate.toPersianDate(packed[i]));
+        }
+    }
+
+    @Test
+    public void testOnToString() {
+        assertEquals("0031-01-12", PackedPersianDate.toString(PackedPersianDate.of(31, 1, 12)));
+    }
+
+    @Test
+    public void testOnParse() {
+        int expected = PackedPersianDate.of(1396, 8, 7);
+        assertEquals(expected, PackedPersianDate.parse("1396-08-07"));
+        assertEquals(expected, PackedPersianDate.parse("1396/08/07"));
+        assertEquals(expected, PackedPersianDate.parse("x1396-08-07".toCharArray(), 1, 10));
+        assertEquals(expected, PackedPersianDate.parse("x1396/08/07".getBytes(StandardCharsets.US_ASCII), 1, 10));
+        assertEquals(PackedPersianDate.MAX, PackedPersianDate.parse(PackedPersianDate.toString(PackedPersianDate.MAX)));
+    }
+
+    @Test
+    public void testOnParseInvalid() {
+        String[] texts = {"", "1396-8-7", "1396-08/07", "139a-08-07", "1396-08-0:", "1398-12-30", "1396-07-31",
+                "1396-13-01", "1396-99-01", "1396-01-99", "1396-00-01", "1396-01-00", "0000-01-01", "9999-01-01"};
+        for (String text : texts) {
+            assertEquals(text, PackedPersianDate.INVALID, PackedPersianDate.parse(text));
+            assertEquals(text, PackedPersianDate.INVALID, PackedPersianDate.parse(text.toCharArray(), 0, text.length()));
+            byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+            assertEquals(text, PackedPersianDate.INVALID, PackedPersianDate.parse(bytes, 0, bytes.length));
+        }
+        assertFalse(PackedPersianDate.isValid(PackedPersianDate.INVALID));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOnParseOutOfBounds() {
+        PackedPersianDate.parse(new byte[10], -1, 10);
+    }
+}
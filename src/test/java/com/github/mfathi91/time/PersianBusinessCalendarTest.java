@@ -0,0 +1,138 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PersianBusinessCalendarTest {
+
+    private static boolean isOfficialHoliday(PersianDate date) {
+        int month = date.getMonthValue();
+        int day = date.getDayOfMonth();
+        return (month == 1 && (day <= 4 || day == 12 || day == 13)) || (month == 3 && (day == 14 || day == 15)) ||
+                (month == 11 && day == 22) || (month == 12 && day == 29);
+    }
+
+    @Test
+    public void testOnOfficialCalendar() {
+        PersianBusinessCalendar calendar = PersianBusinessCalendar.official();
+        assertSame(calendar, PersianBusinessCalendar.official());
+        assertEquals(EnumSet.of(DayOfWeek.FRIDAY), calendar.getWeekend());
+        for (PersianDate date = PersianDate.of(1395, 1, 1); date.isBefore(PersianDate.of(1405, 1, 1));
+             date = date.plusDays(1)) {
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.FRIDAY;
+            assertEquals(date.toString(), !weekend && !isOfficialHoliday(date), calendar.isWorkingDay(date));
+            assertEquals(date.toString(), !weekend && isOfficialHoliday(date), calendar.isHoliday(date));
+        }
+        // 1399/01/01 is a Friday, 1399/01/05 is a Tuesday
+        assertFalse(calendar.isWorkingDay(PersianDate.of(1399, 1, 1)));
+        assertTrue(calendar.isWorkingDay(PersianDate.of(1399, 1, 5)));
+        assertFalse(calendar.isWorkingDay(PersianDate.of(1399, 12, 29)));
+        assertTrue(calendar.isWorkingDay(PersianDate.of(1399, 12, 30)));
+    }
+
+    @Test
+    public void testOnWeekend() {
+        PersianBusinessCalendar calendar = PersianBusinessCalendar.of(EnumSet.of(DayOfWeek.THURSDAY, DayOfWeek.FRIDAY));
+        for (PersianDate date = PersianDate.MIN; date.isBefore(PersianDate.MAX); date = date.plusDays(1)) {
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            assertEquals(dayOfWeek != DayOfWeek.THURSDAY && dayOfWeek != DayOfWeek.FRIDAY, calendar.isWorkingDay(date));
+        }
+        PersianBusinessCalendar noWeekend = PersianBusinessCalendar.of(EnumSet.noneOf(DayOfWeek.class));
+        assertEquals(PersianDate.MAX.toEpochDay() - PersianDate.MIN.toEpochDay(),
+                noWeekend.workingDaysBetween(PersianDate.MIN, PersianDate.MAX));
+    }
+
+    @Test
+    public void testOnCustomHolidays() {
+        PersianDateRangeSet holidays = new PersianDateRangeSet();
+        holidays.add(PersianDate.of(1398, 6, 18), PersianDate.of(1398, 6, 20));
+        holidays.add(PersianDate.of(1398, 12, 25), PersianDate.of(1399, 1, 10));
+        PersianBusinessCalendar official = PersianBusinessCalendar.official();
+        PersianBusinessCalendar calendar = official.withHolidays(holidays).withHoliday(PersianDate.of(1398, 8, 5));
+        for (PersianDate date = PersianDate.of(1398, 1, 1); date.isBefore(PersianDate.of(1400, 1, 1));
+             date = date.plusDays(1)) {
+            boolean expected = official.isWorkingDay(date) && !holidays.contains(date) &&
+                    !date.equals(PersianDate.of(1398, 8, 5));
+            assertEquals(date.toString(), expected, calendar.isWorkingDay(date));
+        }
+        assertTrue(calendar.isHoliday(PersianDate.of(1398, 8, 5)));
+        assertTrue(official.isWorkingDay(PersianDate.of(1398, 8, 5)));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnWorkingDaysBetween() {
+        PersianBusinessCalendar calendar = PersianBusinessCalendar.official();
+        Random random = new Random(1396);
+        PersianDate first = PersianDate.of(1390, 1, 1);
+        for (int i = 0; i < 200; i++) {
+            PersianDate start = first.plusDays(random.nextInt(5000));
+            PersianDate end = start.plusDays(random.nextInt(800));
+            long expected = 0;
+            for (PersianDate date = start; date.isBefore(end); date = date.plusDays(1)) {
+                if (calendar.isWorkingDay(date)) {
+                    expected++;
+                }
+            }
+            assertEquals(expected, calendar.workingDaysBetween(start, end));
+            assertEquals(-expected, calendar.workingDaysBetween(end, start));
+        }
+        // Farvardin 1398: 31 days, Fridays on 2, 9, 16, 23 and 30, and Farvardin 1 to 4, 12 and 13
+        assertEquals(21, calendar.workingDaysBetween(PersianDate.of(1398, 1, 1), PersianDate.of(1398, 2, 1)));
+    }
+
+    @Test
+    public void testOnPlusWorkingDays() {
+        PersianBusinessCalendar calendar = PersianBusinessCalendar.official();
+        Random random = new Random(1396);
+        PersianDate first = PersianDate.of(1390, 1, 1);
+        for (int i = 0; i < 200; i++) {
+            PersianDate date = first.plusDays(random.nextInt(5000));
+            int n = random.nextInt(600) - 300;
+            PersianDate expected = date;
+            for (int remaining = Math.abs(n); remaining > 0; ) {
+                expected = expected.plusDays(n > 0 ? 1 : -1);
+                if (calendar.isWorkingDay(expected)) {
+                    remaining--;
+                }
+            }
+            assertEquals(date + " plus " + n, expected, calendar.plusWorkingDays(date, n));
+        }
+        // 1398/12/28 is a Wednesday, 1398/12/29 is a holiday and 1399/01/01 is a Friday
+        assertEquals(PersianDate.of(1399, 1, 5), calendar.plusWorkingDays(PersianDate.of(1398, 12, 28), 1));
+        assertEquals(PersianDate.of(1398, 12, 28), calendar.plusWorkingDays(PersianDate.of(1399, 1, 5), -1));
+        assertEquals(PersianDate.of(1399, 1, 1), calendar.plusWorkingDays(PersianDate.of(1399, 1, 1), 0));
+    }
+
+    @Test
+    public void testOnPlusWorkingDaysOutOfRange() {
+        PersianBusinessCalendar calendar = PersianBusinessCalendar.official();
+        long all = calendar.workingDaysBetween(PersianDate.MIN, PersianDate.MAX);
+        try {
+            calendar.plusWorkingDays(PersianDate.MIN, all + 2);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        try {
+            calendar.plusWorkingDays(PersianDate.MIN, -1);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        try {
+            calendar.plusWorkingDays(PersianDate.MIN, Long.MAX_VALUE);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOnIsWorkingDayNull() {
+        PersianBusinessCalendar.official().isWorkingDay(null);
+    }
+}
@@ -3,10 +3,18 @@ package com.github.mfathi91.time;
 import org.junit.Test;
 
 import java.time.DateTimeException;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.chrono.JapaneseEra;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.TemporalField;
 import java.time.temporal.ValueRange;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static java.time.temporal.ChronoField.*;
 import static org.junit.Assert.*;
@@ -26,6 +34,50 @@ public class PersianChronologyTest {
     }
     //-----------------------------------------------------
 
+    @Test
+    public void testOnCheckValidValue() {
+        PersianChronology.INSTANCE.checkValidValue(1999, YEAR);
+        PersianChronology.INSTANCE.checkValidValue(31, DAY_OF_MONTH);
+        PersianChronology.INSTANCE.checkValidValue(366, DAY_OF_YEAR);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnCheckValidValueOutOfRange() {
+        PersianChronology.INSTANCE.checkValidValue(2000, YEAR);
+    }
+
+    @Test
+    public void testOnCheckValidYearMonthDayOfMonth() {
+        PersianChronology.INSTANCE.checkValidYear(1);
+        PersianChronology.INSTANCE.checkValidYear(1999);
+        PersianChronology.INSTANCE.checkValidMonth(1);
+        PersianChronology.INSTANCE.checkValidMonth(12);
+        PersianChronology.INSTANCE.checkValidDayOfMonth(1);
+        PersianChronology.INSTANCE.checkValidDayOfMonth(31);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnCheckValidYearOutOfRange() {
+        PersianChronology.INSTANCE.checkValidYear(0);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnCheckValidMonthOutOfRange() {
+        PersianChronology.INSTANCE.checkValidMonth(13);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnCheckValidDayOfMonthOutOfRange() {
+        PersianChronology.INSTANCE.checkValidDayOfMonth(0);
+    }
+
+    @Test
+    public void testOnRangeIsCached() {
+        assertSame(PersianChronology.INSTANCE.range(YEAR), PersianChronology.INSTANCE.range(YEAR));
+        assertSame(PersianChronology.INSTANCE.range(DAY_OF_MONTH), PersianChronology.INSTANCE.range(DAY_OF_MONTH));
+    }
+    //-----------------------------------------------------
+
     @Test
     public void testOnGetId() {
         assertEquals("Persian", PersianChronology.INSTANCE.getId());
@@ -169,4 +221,86 @@ public class PersianChronologyTest {
         ValueRange actual = PersianChronology.INSTANCE.range(ERA);
         assertReflectionEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    //-----------------------------------------------------
+
+    @Test
+    public void testOnResolveDate() {
+        DateTimeFormatter smart = DateTimeFormatter.ofPattern("yyyy/MM/dd").withChronology(PersianChronology.INSTANCE);
+        DateTimeFormatter strict = DateTimeFormatter.ofPattern("uuuu/MM/dd").withChronology(PersianChronology.INSTANCE)
+                .withResolverStyle(ResolverStyle.STRICT);
+        DateTimeFormatter lenient = smart.withResolverStyle(ResolverStyle.LENIENT);
+        assertEquals(PersianDate.of(1396, 8, 7), PersianChronology.INSTANCE.date(smart.parse("1396/08/07")));
+        assertEquals(PersianDate.of(1396, 8, 7), PersianChronology.INSTANCE.date(strict.parse("1396/08/07")));
+        assertEquals(PersianDate.of(1396, 8, 7), PersianChronology.INSTANCE.date(lenient.parse("1396/08/07")));
+        assertEquals(PersianDate.of(1399, 12, 30), PersianChronology.INSTANCE.date(strict.parse("1399/12/30")));
+        // Smart resolves a day after the end of month to the last day of month
+        assertEquals(PersianDate.of(1398, 12, 29), PersianChronology.INSTANCE.date(smart.parse("1398/12/30")));
+        assertEquals(PersianDate.of(1396, 7, 30), PersianChronology.INSTANCE.date(smart.parse("1396/07/31")));
+        assertEquals(PersianDate.of(1397, 12, 29), PersianChronology.INSTANCE.date(smart.parse("1397/12/31")));
+        assertEquals(PersianDate.of(1399, 12, 30), PersianChronology.INSTANCE.date(smart.parse("1399/12/31")));
+        assertEquals(PersianDate.of(1399, 1, 1), PersianChronology.INSTANCE.date(lenient.parse("1398/12/30")));
+        // Lenient rolls over months and days
+        assertEquals(PersianDate.of(1399, 1, 1), PersianChronology.INSTANCE.date(lenient.parse("1398/13/01")));
+        assertEquals(PersianDate.of(1396, 8, 1), PersianChronology.INSTANCE.date(lenient.parse("1396/07/31")));
+    }
+
+    @Test
+    public void testOnResolveDateInvalid() {
+        DateTimeFormatter smart = DateTimeFormatter.ofPattern("yyyy/MM/dd").withChronology(PersianChronology.INSTANCE);
+        String[][] invalid = {{"yyyy/MM/dd", "SMART", "1396/13/01"}, {"yyyy/MM/dd", "SMART", "1396/01/32"},
+                {"uuuu/MM/dd", "STRICT", "1398/12/30"}, {"yyyy/MM/dd", "STRICT", "1396/08/07"},
+                {"uuuu/MM/dd", "SMART", "2000/01/01"}};
+        for (String[] test : invalid) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(test[0])
+                    .withChronology(PersianChronology.INSTANCE).withResolverStyle(ResolverStyle.valueOf(test[1]));
+            try {
+                PersianChronology.INSTANCE.date(formatter.parse(test[2]));
+                fail(Arrays.toString(test));
+            } catch (DateTimeException ex) {
+                // expected
+            }
+        }
+        assertEquals(PersianDate.of(1396, 8, 7), PersianChronology.INSTANCE.date(smart.parse("1396/08/07")));
+    }
+
+    @Test
+    public void testOnResolveDateOtherFields() {
+        Map<TemporalField, Long> fieldValues = new HashMap<>();
+        fieldValues.put(YEAR, 1396L);
+        fieldValues.put(DAY_OF_YEAR, 223L);
+        assertEquals(PersianDate.of(1396, 8, 7), PersianChronology.INSTANCE.resolveDate(fieldValues, ResolverStyle.SMART));
+        assertTrue(fieldValues.isEmpty());
+        fieldValues.put(YEAR, 1396L);
+        fieldValues.put(MONTH_OF_YEAR, 8L);
+        fieldValues.put(DAY_OF_MONTH, 7L);
+        fieldValues.put(DAY_OF_WEEK, 7L);
+        assertEquals(PersianDate.of(1396, 8, 7), PersianChronology.INSTANCE.resolveDate(fieldValues, ResolverStyle.STRICT));
+        // Fields other than the resolved ones are left to be cross-checked
+        assertEquals(Collections.singletonMap(DAY_OF_WEEK, 7L), fieldValues);
+        fieldValues.clear();
+        fieldValues.put(YEAR, 1396L);
+        assertNull(PersianChronology.INSTANCE.resolveDate(fieldValues, ResolverStyle.SMART));
+    }
+
+    @Test
+    public void testOnTextMaps() {
+        DateTimeFormatter formatter = new DateTimeFormatterBuilder()
+                .appendText(DAY_OF_WEEK, PersianChronology.dayOfWeekNames()).appendLiteral(' ')
+                .appendValue(DAY_OF_MONTH).appendLiteral(' ')
+                .appendText(MONTH_OF_YEAR, PersianChronology.monthNames()).appendLiteral(' ')
+                .appendValue(YEAR_OF_ERA, 4)
+                .toFormatter().withChronology(PersianChronology.INSTANCE);
+        PersianDate pd = PersianDate.of(1396, 8, 7);
+        assertEquals("یکشنبه 7 آبان 1396", formatter.format(pd));
+        assertEquals(pd, PersianChronology.INSTANCE.date(formatter.parse("یکشنبه 7 آبان 1396")));
+        assertEquals(12, PersianChronology.monthNames().size());
+        assertEquals("اسفند", PersianChronology.monthNames().get(12L));
+        assertEquals("شنبه", PersianChronology.dayOfWeekNames().get((long) DayOfWeek.SATURDAY.getValue()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testOnTextMapsUnmodifiable() {
+        PersianChronology.monthNames().put(1L, "");
+    }
+}
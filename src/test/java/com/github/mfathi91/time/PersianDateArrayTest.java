@@ -0,0 +1,161 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PersianDateArrayTest {
+
+    private static PersianDate date(int month, int day) {
+        return PersianDate.of(1398, month, day);
+    }
+
+    private static PersianDateArray randomArray(int size, long seed) {
+        Random random = new Random(seed);
+        PersianDateArray array = PersianDateArray.withCapacity(size);
+        for (int i = 0; i < size; i++) {
+            array.add(PersianDate.ofEpochDay(PersianDate.of(1390, 1, 1).toEpochDay() + random.nextInt(3000)));
+        }
+        return array;
+    }
+
+    @Test
+    public void testOnAddAndGet() {
+        PersianDateArray array = PersianDateArray.create();
+        assertTrue(array.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            array.add(PersianDate.MIN.plusDays(i));
+        }
+        array.addPacked(PackedPersianDate.MAX);
+        assertEquals(101, array.size());
+        assertEquals(PersianDate.MIN.plusDays(50), array.get(50));
+        assertEquals(PackedPersianDate.pack(PersianDate.MIN.plusDays(7)), array.getPacked(7));
+        assertEquals(PersianDate.MAX.toEpochDay(), array.getEpochDay(100));
+        assertTrue(array.isSorted());
+
+        array.set(0, date(1, 1));
+        assertEquals(date(1, 1), array.get(0));
+        assertFalse(array.isSorted());
+        array.clear();
+        assertTrue(array.isEmpty());
+        assertTrue(array.isSorted());
+
+        assertEquals("[1398-01-01, 1398-01-02]", PersianDateArray.of(date(1, 1), date(1, 2)).toString());
+        assertEquals("[]", PersianDateArray.withCapacity(0).toString());
+    }
+
+    @Test
+    public void testOnInvalidArguments() {
+        PersianDateArray array = PersianDateArray.of(date(1, 1));
+        try {
+            array.get(1);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        try {
+            array.setPacked(-1, PackedPersianDate.MIN);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        try {
+            array.addPacked(PackedPersianDate.packUnchecked(1398, 12, 30));
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        try {
+            array.add(null);
+            fail();
+        } catch (NullPointerException ignored) {
+        }
+        try {
+            PersianDateArray.withCapacity(-1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        assertEquals(1, array.size());
+    }
+
+    @Test
+    public void testOnSort() {
+        for (int size : new int[]{0, 1, 100, 10_000}) {
+            PersianDateArray array = randomArray(size, size);
+            int[] expected = new int[size];
+            for (int i = 0; i < size; i++) {
+                expected[i] = array.getPacked(i);
+            }
+            Arrays.sort(expected);
+            array.sort();
+            assertTrue(array.isSorted());
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected[i], array.getPacked(i));
+            }
+        }
+    }
+
+    @Test
+    public void testOnBinarySearch() {
+        PersianDateArray array = PersianDateArray.of(date(1, 5), date(1, 1), date(1, 3), date(1, 3));
+        try {
+            array.binarySearch(date(1, 1));
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        array.sort();
+        assertEquals(0, array.binarySearch(date(1, 1)));
+        assertEquals(3, array.binarySearch(date(1, 5)));
+        assertEquals(date(1, 3), array.get(array.binarySearch(date(1, 3))));
+        assertEquals(-1, array.binarySearch(PersianDate.MIN));
+        assertEquals(-2, array.binarySearch(date(1, 2)));
+        assertEquals(-5, array.binarySearchPacked(PackedPersianDate.MAX));
+    }
+
+    @Test
+    public void testOnFilters() {
+        PersianDateArray array = randomArray(5000, 7);
+        PersianDate start = PersianDate.of(1393, 6, 1);
+        PersianDate end = PersianDate.of(1395, 2, 15);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < array.size(); i++) {
+            if (!array.get(i).isBefore(start) && array.get(i).isBefore(end)) {
+                expected.add(i);
+            }
+        }
+        List<Integer> indexes = new ArrayList<>();
+        array.forEachIndex(start, end, indexes::add);
+        assertEquals(expected, indexes);
+        assertEquals(expected.size(), array.count(start, end));
+        PersianDateArray filtered = array.filter(start, end);
+        assertEquals(expected.size(), filtered.size());
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(array.get(expected.get(i)), filtered.get(i));
+        }
+
+        // sorted arrays are filtered by binary search
+        array.sort();
+        int first = array.binarySearch(start);
+        first = first < 0 ? -first - 1 : first;
+        while (first > 0 && array.get(first - 1).equals(start)) {
+            first--;
+        }
+        indexes.clear();
+        array.forEachIndex(start, end, indexes::add);
+        assertEquals(expected.size(), indexes.size());
+        assertEquals(first, (int) indexes.get(0));
+        assertEquals(expected.size(), array.count(start, end));
+        filtered = array.filter(start, end);
+        assertTrue(filtered.isSorted());
+        for (int i = 0; i < filtered.size(); i++) {
+            assertEquals(array.get(first + i), filtered.get(i));
+        }
+
+        assertEquals(0, array.count(end, start));
+        assertEquals(0, array.filter(end, start).size());
+        assertEquals(array.size(), array.count(PersianDate.MIN, PersianDate.MAX));
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.mfathi91.time;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
+import static org.junit.Assert.*;
+
+public class PersianDateCacheTest {
+
+    @After
+    public void tearDown() {
+        PersianDateCache.disable();
+        PersianDateCache.resetCounters();
+    }
+
+    @Test
+    public void testOnDisabledByDefault() {
+        assertFalse(PersianDateCache.isEnabled());
+        assertNotSame(PersianDate.of(1396, 8, 7), PersianDate.of(1396, 8, 7));
+        assertEquals(0, PersianDateCache.hits());
+        assertEquals(0, PersianDateCache.misses());
+    }
+
+    @Test
+    public void testOnEnableWindow() {
+        PersianDateCache.enable(PersianDate.of(1396, 1, 1), PersianDate.of(1396, 12, 29));
+        assertTrue(PersianDateCache.isEnabled());
+        PersianDate pd = PersianDate.of(1396, 8, 7);
+        assertSame(pd, PersianDate.of(1396, 8, 7));
+        assertSame(pd, PersianDate.ofEpochDay(17468));
+        assertSame(pd, PersianDate.fromGregorian(LocalDate.of(2017, 10, 29)));
+        assertSame(PersianDate.of(1396, 1, 1), PersianDate.of(1395, 12, 30).plusDays(1));
+        assertEquals(6, PersianDateCache.hits());
+        assertEquals(1, PersianDateCache.misses());
+    }
+
+    @Test
+    public void testOnOutOfWindow() {
+        PersianDateCache.enable(PersianDate.of(1396, 1, 1), PersianDate.of(1396, 12, 29));
+        PersianDate pd = PersianDate.of(1397, 1, 1);
+        assertNotSame(pd, PersianDate.of(1397, 1, 1));
+        assertEquals(pd, PersianDate.of(1397, 1, 1));
+        assertEquals(0, PersianDateCache.hits());
+        assertEquals(3, PersianDateCache.misses());
+    }
+
+    @Test
+    public void testOnEnableYearsAround() {
+        PersianDateCache.enable(1);
+        PersianDate today = PersianDate.now();
+        assertSame(PersianDate.of(today.getYear() - 1, 1, 1), PersianDate.of(today.getYear() - 1, 1, 1));
+        assertSame(PersianDate.of(today.getYear() + 1, 12, 29), PersianDate.of(today.getYear() + 1, 12, 29));
+        assertNotSame(PersianDate.of(today.getYear() + 2, 1, 1), PersianDate.of(today.getYear() + 2, 1, 1));
+    }
+
+    @Test
+    public void testOnEnableHugeYearsAround() {
+        PersianDateCache.enable(Integer.MAX_VALUE);
+        assertSame(PersianDate.of(1, 1, 1), PersianDate.of(1, 1, 1));
+        assertSame(PersianDate.of(1999, 12, 29), PersianDate.of(1999, 12, 29));
+    }
+
+    @Test
+    public void testOnEnableWholeRange() {
+        PersianDateCache.enable(PersianDate.MIN, PersianDate.MAX);
+        assertSame(PersianDate.ofEpochDay(PersianDate.MAX.toEpochDay()), PersianDate.of(1999, 12, 29));
+        assertSame(PersianDate.ofEpochDay(PersianDate.MIN.toEpochDay()), PersianDate.of(1, 1, 1));
+    }
+
+    @Test
+    public void testOnStillValidates() {
+        PersianDateCache.enable(PersianDate.of(1388, 1, 1), PersianDate.of(1388, 12, 29));
+        try {
+            PersianDate.of(1388, 12, 30);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+    }
+
+    @Test
+    public void testOnDisable() {
+        PersianDateCache.enable(PersianDate.of(1396, 1, 1), PersianDate.of(1396, 12, 29));
+        PersianDateCache.disable();
+        assertFalse(PersianDateCache.isEnabled());
+        assertNotSame(PersianDate.of(1396, 8, 7), PersianDate.of(1396, 8, 7));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnEnableLastBeforeFirst() {
+        PersianDateCache.enable(PersianDate.of(1396, 1, 2), PersianDate.of(1396, 1, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnEnableNegativeYears() {
+        PersianDateCache.enable(-1);
+    }
+}
@@ -0,0 +1,146 @@
+package com.github.mfathi91.time;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PersianDateColumnFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testOnWriteAndOpen() throws IOException {
+        PersianDate[] dates = PersianDate.of(1398, 1, 1).datesUntil(PersianDate.of(1400, 1, 1))
+                .toArray(PersianDate[]::new);
+        Path path = folder.newFile().toPath();
+        PersianDateColumnFile.write(path, dates, 0, dates.length);
+        assertEquals(16 + 4 * dates.length, Files.size(path));
+        PersianDateColumnFile column = PersianDateColumnFile.open(path);
+        assertEquals(dates.length, column.size());
+        for (int i = 0; i < dates.length; i++) {
+            assertEquals(dates[i], column.get(i));
+            assertEquals(PackedPersianDate.pack(dates[i]), column.getPacked(i));
+            assertEquals(dates[i].toEpochDay(), column.getEpochDay(i));
+        }
+    }
+
+    @Test
+    public void testOnFileFormat() throws IOException {
+        Path path = folder.newFile().toPath();
+        int[] packed = {PackedPersianDate.of(1396, 8, 7), PackedPersianDate.MIN, PackedPersianDate.MAX};
+        PersianDateColumnFile.write(path, packed, 1, 3);
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(24, bytes.remaining());
+        assertEquals('P', bytes.get(0));
+        assertEquals('D', bytes.get(1));
+        assertEquals('C', bytes.get(2));
+        assertEquals('1', bytes.get(3));
+        assertEquals(0, bytes.getInt(4));
+        assertEquals(2, bytes.getLong(8));
+        assertEquals(PackedPersianDate.MIN, bytes.getInt(16));
+        assertEquals(PackedPersianDate.MAX, bytes.getInt(20));
+    }
+
+    @Test
+    public void testOnSegments() throws IOException {
+        int[] packed = new int[100];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = PackedPersianDate.plusDays(PackedPersianDate.of(1300, 1, 1), i * 50L);
+        }
+        Path path = folder.newFile().toPath();
+        PersianDateColumnFile.write(path, packed, 0, packed.length);
+        // segments of eight dates
+        PersianDateColumnFile column = PersianDateColumnFile.open(path, 3);
+        for (int i = 0; i < packed.length; i++) {
+            assertEquals(packed[i], column.getPacked(i));
+        }
+        for (int from = 0; from < packed.length; from += 7) {
+            int to = Math.min(packed.length, from + 19);
+            List<Integer> scanned = new ArrayList<>();
+            column.forEachPacked(from, to, scanned::add);
+            assertEquals(to - from, scanned.size());
+            for (int i = from; i < to; i++) {
+                assertEquals(packed[i], (int) scanned.get(i - from));
+            }
+        }
+        try {
+            column.forEachPacked(90, 101, date -> {
+            });
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        try {
+            column.getPacked(100);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+        try {
+            column.getPacked(-1);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Test
+    public void testOnEmptyColumn() throws IOException {
+        Path path = folder.newFile().toPath();
+        PersianDateColumnFile.write(path, new PersianDate[0], 0, 0);
+        assertEquals(0, PersianDateColumnFile.open(path).size());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnInvalidFiles() throws IOException {
+        Path path = folder.newFile().toPath();
+        byte[][] contents = {
+                new byte[0],
+                new byte[16],
+                {'P', 'D', 'C', '1', 0, 0, 0, 0, 2, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4},
+                {'P', 'D', 'C', '1', 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4, 5},
+                {'P', 'D', 'C', '1', 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0x80}};
+        for (byte[] content : contents) {
+            Files.write(path, content);
+            try {
+                PersianDateColumnFile.open(path);
+                fail(content.length + " bytes");
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    @Test
+    public void testOnInvalidStoredDate() throws IOException {
+        Path path = folder.newFile().toPath();
+        Files.write(path, new byte[]{'P', 'D', 'C', '1', 0, 0, 0, 0, 1, 0, 0, 0, 0, 0, 0, 0, 1, 2, 3, 4});
+        PersianDateColumnFile column = PersianDateColumnFile.open(path);
+        assertEquals(0x04030201, column.getPacked(0));
+        try {
+            column.get(0);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+    }
+
+    @Test
+    public void testOnWriteInvalidPackedDate() throws IOException {
+        Path path = folder.getRoot().toPath().resolve("column");
+        try {
+            PersianDateColumnFile.write(path, new int[]{PackedPersianDate.MIN, 0}, 0, 2);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        assertFalse(Files.exists(path));
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+
+import static org.junit.Assert.*;
+
+public class PersianDateCursorTest {
+
+    @Test
+    public void testOnStaticFactoryMethods() {
+        PersianDateCursor cursor = PersianDateCursor.of(1398, 12, 29);
+        assertEquals(1398, cursor.getYear());
+        assertEquals(12, cursor.getMonthValue());
+        assertEquals(PersianMonth.ESFAND, cursor.getMonth());
+        assertEquals(29, cursor.getDayOfMonth());
+        assertEquals(365, cursor.getDayOfYear());
+        assertFalse(cursor.isLeapYear());
+        assertEquals(29, cursor.lengthOfMonth());
+        assertEquals(PersianDate.of(1398, 12, 29), cursor.toPersianDate());
+        assertEquals(PersianDate.of(1398, 12, 29), PersianDateCursor.of(PersianDate.of(1398, 12, 29)).toPersianDate());
+        assertEquals("1398-12-29", cursor.toString());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnStaticFactoryMethodInvalidDate() {
+        PersianDateCursor.of(1398, 12, 30);
+    }
+
+    @Test
+    public void testOnSet() {
+        PersianDateCursor cursor = PersianDateCursor.of(1398, 1, 1);
+        assertSame(cursor, cursor.set(PersianDate.of(1399, 12, 30)));
+        assertEquals(PersianDate.of(1399, 12, 30), cursor.toPersianDate());
+        assertTrue(cursor.isLeapYear());
+        assertEquals(30, cursor.lengthOfMonth());
+        try {
+            cursor.set(1399, 7, 31);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        assertEquals(PersianDate.of(1399, 12, 30), cursor.toPersianDate());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnNextDay() {
+        PersianDate date = PersianDate.of(1300, 1, 1);
+        PersianDateCursor cursor = PersianDateCursor.of(date);
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(date, cursor.toPersianDate());
+            assertEquals(date.toEpochDay(), cursor.toEpochDay());
+            assertEquals(date.getDayOfWeek(), cursor.getDayOfWeek());
+            assertEquals(date.getDayOfYear(), cursor.getDayOfYear());
+            assertEquals(date.lengthOfMonth(), cursor.lengthOfMonth());
+            assertEquals(PackedPersianDate.pack(date), cursor.toPacked());
+            date = date.plusDays(1);
+            cursor.nextDay();
+        }
+    }
+
+    @Test
+    public void testOnPreviousDay() {
+        PersianDate date = PersianDate.of(1500, 1, 1);
+        PersianDateCursor cursor = PersianDateCursor.of(date);
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals(date, cursor.toPersianDate());
+            assertEquals(date.toEpochDay(), cursor.toEpochDay());
+            assertEquals(date.lengthOfMonth(), cursor.lengthOfMonth());
+            date = date.plusDays(-1);
+            cursor.previousDay();
+        }
+    }
+
+    @Test
+    public void testOnPlusDays() {
+        PersianDate date = PersianDate.of(1398, 6, 31);
+        long[] days = {0, 1, -1, -30, -31, 60, 365, -366, 10_000, -100_000};
+        for (long n : days) {
+            PersianDateCursor cursor = PersianDateCursor.of(date).plusDays(n);
+            assertEquals(date.plusDays(n), cursor.toPersianDate());
+            assertEquals(date.plusDays(n).toEpochDay(), cursor.toEpochDay());
+        }
+    }
+
+    @Test
+    public void testOnPlusMonths() {
+        PersianDate date = PersianDate.of(1395, 6, 31);
+        PersianDateCursor cursor = PersianDateCursor.of(date);
+        for (int i = 0; i < 120; i++) {
+            assertEquals(date.plusMonths(i), cursor.toPersianDate());
+            assertEquals(date.plusMonths(i).toEpochDay(), cursor.toEpochDay());
+            cursor.set(date).nextMonth();
+            assertEquals(date.plusMonths(1), cursor.toPersianDate());
+            cursor.set(date).plusMonths(i + 1);
+        }
+        cursor.set(date);
+        for (int i = 0; i < 120; i++) {
+            assertEquals(date.plusMonths(-i), cursor.toPersianDate());
+            cursor.set(date).plusMonths(-i - 1);
+        }
+        assertEquals(PersianDate.of(1398, 12, 29), PersianDateCursor.of(1399, 1, 31).previousMonth().toPersianDate());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnLimits() {
+        PersianDateCursor max = PersianDateCursor.of(PersianDate.MAX);
+        try {
+            max.nextDay();
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        try {
+            max.nextMonth();
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        assertEquals(PersianDate.MAX, max.toPersianDate());
+        PersianDateCursor min = PersianDateCursor.of(PersianDate.MIN);
+        try {
+            min.previousDay();
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        try {
+            min.plusDays(-1);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        assertEquals(PersianDate.MIN, min.toPersianDate());
+    }
+
+    @Test
+    public void testOnComparisons() {
+        PersianDateCursor cursor = PersianDateCursor.of(1398, 5, 10);
+        assertTrue(cursor.isBefore(PersianDate.of(1398, 5, 11)));
+        assertTrue(cursor.isBefore(PersianDate.of(1398, 6, 1)));
+        assertTrue(cursor.isAfter(PersianDate.of(1397, 12, 29)));
+        assertFalse(cursor.isAfter(PersianDate.of(1398, 5, 10)));
+        assertEquals(0, cursor.compareTo(PersianDate.of(1398, 5, 10)));
+    }
+}
@@ -0,0 +1,159 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PersianDateDeltaCodecTest {
+
+    @Test
+    public void testOnConsecutiveDates() {
+        PersianDate[] dates = PersianDate.of(1398, 1, 1).datesUntil(PersianDate.of(1399, 1, 1))
+                .toArray(PersianDate[]::new);
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        int length = PersianDateDeltaCodec.encode(dates, 0, dates.length, buffer);
+        // two bytes of count, three bytes of the first epoch day and a byte for every other date
+        assertEquals(2 + 3 + dates.length - 1, length);
+        assertEquals(length, buffer.position());
+        buffer.flip();
+        assertArrayEquals(dates, PersianDateDeltaCodec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testOnRandomSortedDates() {
+        Random random = new Random(1396);
+        long[] epochDays = new long[10_000];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = PersianYearTable.MIN_EPOCH_DAY +
+                    (long) (random.nextDouble() * (PersianYearTable.MAX_EPOCH_DAY - PersianYearTable.MIN_EPOCH_DAY + 1));
+        }
+        epochDays[0] = PersianYearTable.MIN_EPOCH_DAY;
+        epochDays[1] = PersianYearTable.MAX_EPOCH_DAY;
+        epochDays[2] = epochDays[3];
+        Arrays.sort(epochDays);
+        ByteBuffer buffer = ByteBuffer.allocate(epochDays.length * 4);
+        PersianDateDeltaCodec.encode(epochDays, 0, epochDays.length, buffer);
+        buffer.flip();
+        PersianDateDeltaCodec.Decoder decoder = PersianDateDeltaCodec.decoder(buffer);
+        assertEquals(epochDays.length, decoder.remaining());
+        for (int i = 0; i < epochDays.length; i += 2) {
+            assertEquals(epochDays[i], decoder.nextEpochDay());
+            assertEquals(PersianDate.ofEpochDay(epochDays[i + 1]), decoder.next());
+        }
+        assertFalse(decoder.hasNext());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testOnSubrangeAndEmpty() {
+        PersianDate[] dates = {PersianDate.of(1300, 1, 1), PersianDate.of(1396, 8, 7), PersianDate.of(1396, 8, 7),
+                PersianDate.of(1500, 12, 29)};
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        PersianDateDeltaCodec.encode(dates, 1, 3, buffer);
+        assertEquals(1, PersianDateDeltaCodec.encode(dates, 2, 2, buffer));
+        PersianDateDeltaCodec.encode(dates, 0, 4, buffer);
+        buffer.flip();
+        assertArrayEquals(Arrays.copyOfRange(dates, 1, 3), PersianDateDeltaCodec.decode(buffer));
+        assertArrayEquals(new PersianDate[0], PersianDateDeltaCodec.decode(buffer));
+        assertArrayEquals(dates, PersianDateDeltaCodec.decode(buffer));
+    }
+
+    @Test
+    public void testOnLazyDecoding() {
+        long[] epochDays = {100, 101, 102, 5000};
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        PersianDateDeltaCodec.encode(epochDays, 0, epochDays.length, buffer);
+        buffer.flip();
+        PersianDateDeltaCodec.Decoder decoder = PersianDateDeltaCodec.decoder(buffer);
+        assertEquals(1, buffer.position());
+        assertEquals(PersianDate.ofEpochDay(100), decoder.next());
+        assertEquals(3, buffer.position());
+        assertEquals(3, decoder.remaining());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnUnsortedDates() {
+        long[] epochDays = {10, 9};
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        try {
+            PersianDateDeltaCodec.encode(epochDays, 0, 2, buffer);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        assertEquals(0, buffer.position());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnUnsupportedEpochDay() {
+        PersianDateDeltaCodec.encode(new long[]{PersianYearTable.MAX_EPOCH_DAY + 1}, 0, 1, ByteBuffer.allocate(64));
+    }
+
+    @Test
+    public void testOnBufferOverflow() {
+        long[] epochDays = {1000, 2000, 3000};
+        ByteBuffer buffer = ByteBuffer.allocate(6);
+        buffer.position(1);
+        try {
+            PersianDateDeltaCodec.encode(epochDays, 0, epochDays.length, buffer);
+            fail();
+        } catch (BufferOverflowException ignored) {
+        }
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    public void testOnMalformedInput() {
+        long[] epochDays = {1000, 2000, 3000};
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        PersianDateDeltaCodec.encode(epochDays, 0, epochDays.length, buffer);
+        buffer.flip();
+        buffer.limit(buffer.limit() - 1);
+        PersianDateDeltaCodec.Decoder decoder = PersianDateDeltaCodec.decoder(buffer);
+        decoder.next();
+        decoder.next();
+        try {
+            decoder.next();
+            fail();
+        } catch (BufferUnderflowException ignored) {
+        }
+        // a count that is more than the remaining bytes
+        try {
+            PersianDateDeltaCodec.decode(ByteBuffer.wrap(new byte[]{5, 0, 0}));
+            fail();
+        } catch (BufferUnderflowException ignored) {
+        }
+        // a delta that goes beyond the supported range
+        try {
+            PersianDateDeltaCodec.decode(ByteBuffer.wrap(new byte[]{2, 0, (byte) 0xFF, (byte) 0xFF, 0x7F}));
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        byte[] tooLong = new byte[12];
+        Arrays.fill(tooLong, (byte) 0x80);
+        try {
+            PersianDateDeltaCodec.decoder(ByteBuffer.wrap(tooLong));
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testOnNextAfterLastDate() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        PersianDateDeltaCodec.encode(new long[]{1}, 0, 1, buffer);
+        buffer.flip();
+        PersianDateDeltaCodec.Decoder decoder = PersianDateDeltaCodec.decoder(buffer);
+        decoder.next();
+        decoder.next();
+    }
+}
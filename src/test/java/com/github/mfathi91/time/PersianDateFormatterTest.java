@@ -0,0 +1,127 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.Assert.*;
+
+public class PersianDateFormatterTest {
+
+    @Test
+    public void testOnFormat() {
+        PersianDate pd = PersianDate.of(1396, 8, 7);
+        assertEquals("1396/08/07", PersianDateFormatter.ofPattern("yyyy/MM/dd").format(pd));
+        assertEquals("96-8-7", PersianDateFormatter.ofPattern("yy-M-d").format(pd));
+        assertEquals("7 آبان 1396", PersianDateFormatter.ofPattern("d MMMM y").format(pd));
+        assertEquals("یکشنبه 1396/08/07", PersianDateFormatter.ofPattern("EEEE yyyy/MM/dd").format(pd));
+        assertEquals("223 223", PersianDateFormatter.ofPattern("D DDD").format(pd));
+        assertEquals("7 07 007", PersianDateFormatter.ofPattern("D DD DDD").format(PersianDate.of(1396, 1, 7)));
+        assertEquals("0031 031 31", PersianDateFormatter.ofPattern("yyyy yyy y").format(PersianDate.of(31, 1, 1)));
+        assertEquals("'1396'T", PersianDateFormatter.ofPattern("''yyyy'''T'").format(pd));
+    }
+
+    @Test
+    public void testOnFormatSameAsDateTimeFormatter() {
+        String[] patterns = {"yyyy/MM/dd", "y-M-d", "yy MM dd", "D", "DDD"};
+        for (String pattern : patterns) {
+            PersianDateFormatter pdf = PersianDateFormatter.ofPattern(pattern);
+            DateTimeFormatter dtf = DateTimeFormatter.ofPattern(pattern);
+            for (long epochDay = PersianDate.of(1300, 1, 1).toEpochDay();
+                 epochDay <= PersianDate.of(1500, 1, 1).toEpochDay(); epochDay += 13) {
+                PersianDate pd = PersianDate.ofEpochDay(epochDay);
+                assertEquals(dtf.format(pd), pdf.format(pd));
+            }
+        }
+    }
+
+    @Test
+    public void testOnFormatWithDigits() {
+        PersianDateFormatter pdf = PersianDateFormatter.ofPattern("yyyy/MM/dd EEEE").withDigits(PersianDigits.PERSIAN);
+        assertEquals(PersianDigits.PERSIAN, pdf.getDigits());
+        assertEquals("yyyy/MM/dd EEEE", pdf.getPattern());
+        assertEquals("۱۳۹۶/۰۸/۰۷ یکشنبه", pdf.format(PersianDate.of(1396, 8, 7)));
+        StringBuilder sb = new StringBuilder();
+        pdf.formatTo(PersianDate.of(1396, 8, 9), sb);
+        assertEquals("۱۳۹۶/۰۸/۰۹ سه‌شنبه", sb.toString());
+        assertSame(pdf, pdf.withDigits(PersianDigits.PERSIAN));
+    }
+
+    @Test
+    public void testOnDayOfWeekNames() {
+        PersianDateFormatter pdf = PersianDateFormatter.ofPattern("E");
+        PersianDate saturday = PersianDate.of(1396, 8, 6);
+        String[] names = {"شنبه", "یکشنبه", "دوشنبه", "سه‌شنبه", "چهارشنبه", "پنجشنبه", "جمعه"};
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(names[i], pdf.format(saturday.plusDays(i)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnUnknownLetter() {
+        PersianDateFormatter.ofPattern("yyyy-MM-dd HH");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnTooManyLetters() {
+        PersianDateFormatter.ofPattern("ddd");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnIncompleteLiteral() {
+        PersianDateFormatter.ofPattern("yyyy 'at");
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnParse() {
+        PersianDate pd = PersianDate.of(1396, 8, 7);
+        assertEquals(pd, PersianDateFormatter.ofPattern("yyyy/MM/dd").parse("1396/08/07"));
+        assertEquals(pd, PersianDateFormatter.ofPattern("yyyy/MM/dd").parse("۱۳۹۶/۰۸/۰۷"));
+        assertEquals(pd, PersianDateFormatter.ofPattern("y-M-d").parse("1396-8-7"));
+        assertEquals(pd, PersianDateFormatter.ofPattern("yyyyMMdd").parse("13960807"));
+        assertEquals(pd, PersianDateFormatter.ofPattern("d MMMM y").parse("7 آبان 1396"));
+        assertEquals(pd, PersianDateFormatter.ofPattern("EEEE d MMMM y").parse("یکشنبه 7 آبان 1396"));
+        assertEquals(pd, PersianDateFormatter.ofPattern("yyyy DDD").parse("1396 223"));
+        assertEquals(PersianDate.of(1405, 1, 1), PersianDateFormatter.ofPattern("yy/MM/dd").parse("05/01/01"));
+        assertEquals(pd, PersianDateFormatter.ofPattern("'T'yyyy/MM/dd").parse("T1396/08/07"));
+    }
+
+    @Test
+    public void testOnParseFormatted() {
+        PersianDateFormatter pdf = PersianDateFormatter.ofPattern("EEEE d MMMM yyyy").withDigits(PersianDigits.PERSIAN);
+        for (long epochDay = PersianDate.of(1390, 1, 1).toEpochDay();
+             epochDay <= PersianDate.of(1400, 1, 1).toEpochDay(); epochDay++) {
+            PersianDate pd = PersianDate.ofEpochDay(epochDay);
+            assertEquals(pd, pdf.parse(pdf.format(pd)));
+        }
+    }
+
+    @Test
+    public void testOnParseInvalid() {
+        assertParseError("yyyy/MM/dd", "1396/08-07", 7);
+        assertParseError("yyyy/MM/dd", "1396/8/07", 5);
+        assertParseError("yyyy/MM/dd", "1396/08/07x", 10);
+        assertParseError("yyyy/MM/dd", "1396/08/00", 8);
+        assertParseError("d MMMM y", "7 آبا 1396", 2);
+        assertParseError("yyyy/MM/dd", "1398/12/30", 0);
+        assertParseError("yyyy/MM", "1398/12", 0);
+        assertParseError("EEEE yyyy/MM/dd", "شنبه 1396/08/07", 0);
+        assertParseError("yyyy/MM/dd DDD", "1396/08/07 224", 0);
+    }
+
+    private static void assertParseError(String pattern, String text, int errorIndex) {
+        try {
+            PersianDateFormatter.ofPattern(pattern).parse(text);
+            fail(text);
+        } catch (DateTimeParseException ex) {
+            assertEquals(text, ex.getParsedString());
+            assertEquals(text, errorIndex, ex.getErrorIndex());
+            if (errorIndex == 0) {
+                assertTrue(ex.getCause() instanceof DateTimeException);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PersianDateRangeSetTest {
+
+    private static PersianDate date(int month, int day) {
+        return PersianDate.of(1398, month, day);
+    }
+
+    @Test
+    public void testOnAdd() {
+        PersianDateRangeSet set = new PersianDateRangeSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(date(1, 1), date(1, 5)));
+        assertTrue(set.add(date(1, 12), date(1, 14)));
+        assertFalse(set.add(date(1, 2), date(1, 4)));
+        assertFalse(set.add(date(1, 12)));
+        assertFalse(set.add(date(1, 3), date(1, 3)));
+        assertEquals(2, set.rangeCount());
+        assertEquals(6, set.dayCount());
+        assertEquals("[1398-01-01..1398-01-04, 1398-01-12..1398-01-13]", set.toString());
+        // adjacent ranges are merged
+        assertTrue(set.add(date(1, 5), date(1, 12)));
+        assertEquals(1, set.rangeCount());
+        assertEquals(date(1, 1), set.getStart(0));
+        assertEquals(date(1, 13), set.getLast(0));
+        assertEquals(date(1, 14), set.getEndExclusive(0));
+    }
+
+    @Test
+    public void testOnRemove() {
+        PersianDateRangeSet set = new PersianDateRangeSet();
+        set.add(date(1, 1), date(2, 1));
+        assertTrue(set.remove(date(1, 13)));
+        assertTrue(set.remove(date(1, 20), date(1, 25)));
+        assertFalse(set.remove(date(1, 21), date(1, 23)));
+        assertFalse(set.remove(date(2, 1), date(3, 1)));
+        assertEquals("[1398-01-01..1398-01-12, 1398-01-14..1398-01-19, 1398-01-25..1398-01-31]", set.toString());
+        assertTrue(set.remove(date(1, 10), date(1, 28)));
+        assertEquals("[1398-01-01..1398-01-09, 1398-01-28..1398-01-31]", set.toString());
+        set.clear();
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    public void testOnQueries() {
+        PersianDateRangeSet set = new PersianDateRangeSet();
+        set.add(date(1, 1), date(1, 5));
+        set.add(date(1, 12), date(1, 14));
+        assertTrue(set.contains(date(1, 1)));
+        assertTrue(set.contains(date(1, 4)));
+        assertFalse(set.contains(date(1, 5)));
+        assertFalse(set.contains(PersianDate.of(1397, 12, 29)));
+        assertTrue(set.containsEpochDay(date(1, 13).toEpochDay()));
+        assertFalse(set.containsEpochDay(Long.MAX_VALUE));
+        assertTrue(set.overlaps(date(1, 4), date(1, 12)));
+        assertFalse(set.overlaps(date(1, 5), date(1, 12)));
+        assertFalse(set.overlaps(date(1, 2), date(1, 2)));
+        assertTrue(set.encloses(date(1, 1), date(1, 5)));
+        assertFalse(set.encloses(date(1, 1), date(1, 6)));
+        assertFalse(set.encloses(date(1, 4), date(1, 13)));
+        assertTrue(set.encloses(date(1, 8), date(1, 8)));
+    }
+
+    @Test
+    public void testOnSupportedRangeLimits() {
+        PersianDateRangeSet set = new PersianDateRangeSet();
+        set.add(PersianDate.MIN);
+        set.add(PersianDate.MAX);
+        assertTrue(set.contains(PersianDate.MIN));
+        assertTrue(set.contains(PersianDate.MAX));
+        assertEquals(PersianDate.MAX, set.getLast(1));
+        assertEquals("[0001-01-01..0001-01-01, 1999-12-29..1999-12-29]", set.toString());
+        try {
+            set.getEndExclusive(1);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnRandomOperations() {
+        Random random = new Random(1396);
+        PersianDate first = PersianDate.of(1398, 1, 1);
+        boolean[] days = new boolean[400];
+        PersianDateRangeSet set = new PersianDateRangeSet();
+        for (int i = 0; i < 2000; i++) {
+            int start = random.nextInt(days.length);
+            int end = Math.min(days.length, start + random.nextInt(20));
+            boolean add = random.nextInt(3) > 0;
+            boolean changed = false;
+            for (int d = start; d < end; d++) {
+                changed |= days[d] != add;
+                days[d] = add;
+            }
+            PersianDate startDate = first.plusDays(start);
+            PersianDate endDate = first.plusDays(end);
+            assertEquals(changed, add ? set.add(startDate, endDate) : set.remove(startDate, endDate));
+
+            int ranges = 0;
+            for (int d = 0; d < days.length; d++) {
+                assertEquals(days[d], set.contains(first.plusDays(d)));
+                if (days[d] && (d == 0 || !days[d - 1])) {
+                    assertEquals(first.plusDays(d), set.getStart(ranges++));
+                }
+            }
+            assertEquals(ranges, set.rangeCount());
+            int from = random.nextInt(days.length);
+            int to = Math.min(days.length, from + random.nextInt(20));
+            boolean any = false;
+            boolean all = true;
+            for (int d = from; d < to; d++) {
+                any |= days[d];
+                all &= days[d];
+            }
+            assertEquals(any, set.overlaps(first.plusDays(from), first.plusDays(to)));
+            assertEquals(all, set.encloses(first.plusDays(from), first.plusDays(to)));
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnCopyAndEquals() {
+        PersianDateRangeSet set = new PersianDateRangeSet();
+        for (int month = 1; month <= 12; month++) {
+            set.add(date(month, 1), date(month, 10));
+        }
+        PersianDateRangeSet copy = new PersianDateRangeSet(set);
+        assertEquals(set, copy);
+        assertEquals(set.hashCode(), copy.hashCode());
+        copy.remove(date(5, 1));
+        assertNotEquals(set, copy);
+        assertEquals(12, set.rangeCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnAddReversedRange() {
+        new PersianDateRangeSet().add(date(2, 1), date(1, 1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOnGetStartOutOfBounds() {
+        new PersianDateRangeSet().getStart(0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOnContainsNull() {
+        new PersianDateRangeSet().contains(null);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import static org.junit.Assert.*;
+
+public class PersianDateSpliteratorTest {
+
+    @Test
+    public void testOnSize() {
+        PersianDate start = PersianDate.of(1398, 1, 1);
+        assertEquals(365, PersianDateSpliterator.of(start, PersianDate.of(1399, 1, 1), 0, 1).estimateSize());
+        assertEquals(183, PersianDateSpliterator.of(start, PersianDate.of(1399, 1, 1), 0, 2).estimateSize());
+        assertEquals(12, PersianDateSpliterator.of(start, PersianDate.of(1399, 1, 1), 1, 0).estimateSize());
+        assertEquals(13, PersianDateSpliterator.of(start, PersianDate.of(1399, 1, 2), 1, 0).estimateSize());
+        assertEquals(1, PersianDateSpliterator.of(start, PersianDate.of(1398, 1, 2), 12, 0).estimateSize());
+        assertEquals(0, PersianDateSpliterator.of(start, start, 1, 0).estimateSize());
+    }
+
+    @Test
+    public void testOnSizeAtEndOfSupportedRange() {
+        PersianDate start = PersianDate.of(1990, 12, 29);
+        assertEquals(9, PersianDateSpliterator.of(start, PersianDate.MAX, 12, 0).estimateSize());
+        start = PersianDate.of(10, 1, 1);
+        assertEquals(9, PersianDateSpliterator.of(start, PersianDate.MIN, -12, 0).estimateSize());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnTrySplit() {
+        PersianDate start = PersianDate.of(1390, 6, 31);
+        PersianDate end = PersianDate.of(1410, 1, 1);
+        long[][] steps = {{0, 1}, {0, 7}, {0, 30}, {1, 0}, {1, 3}};
+        for (long[] step : steps) {
+            List<PersianDate> expected = new ArrayList<>();
+            PersianDateSpliterator.of(start, end, step[0], step[1]).forEachRemaining(expected::add);
+            Spliterator<PersianDate> second = PersianDateSpliterator.of(start, end, step[0], step[1]);
+            long size = second.estimateSize();
+            Spliterator<PersianDate> first = second.trySplit();
+            assertNotNull(first);
+            assertEquals(size / 2, first.estimateSize());
+            assertEquals(size - size / 2, second.estimateSize());
+            assertTrue(first.hasCharacteristics(Spliterator.SUBSIZED));
+            List<PersianDate> actual = new ArrayList<>();
+            assertTrue(first.tryAdvance(actual::add));
+            first.forEachRemaining(actual::add);
+            second.forEachRemaining(actual::add);
+            assertFalse(second.tryAdvance(actual::add));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testOnTrySplitSingleElement() {
+        PersianDate start = PersianDate.of(1398, 1, 1);
+        Spliterator<PersianDate> spliterator = PersianDateSpliterator.of(start, start.plusDays(1), 0, 1);
+        assertNull(spliterator.trySplit());
+        assertEquals(1, spliterator.estimateSize());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnCharacteristics() {
+        PersianDate start = PersianDate.of(1398, 1, 1);
+        Spliterator<PersianDate> forward = PersianDateSpliterator.of(start, start.plusDays(10), 0, 1);
+        assertTrue(forward.hasCharacteristics(Spliterator.SORTED));
+        assertNull(forward.getComparator());
+        Spliterator<PersianDate> backward = PersianDateSpliterator.of(start, start.plusDays(-10), 0, -1);
+        assertFalse(backward.hasCharacteristics(Spliterator.SORTED));
+        assertTrue(backward.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testOnGetComparatorWhenNotSorted() {
+        PersianDate start = PersianDate.of(1398, 1, 1);
+        PersianDateSpliterator.of(start, start.plusDays(-10), 0, -1).getComparator();
+    }
+}
@@ -2,11 +2,20 @@ package com.github.mfathi91.time;
 
 import org.junit.Test;
 
+import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.time.DateTimeException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.Period;
 import java.time.chrono.ChronoPeriod;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static java.time.temporal.ChronoField.*;
 import static java.time.temporal.ChronoUnit.*;
@@ -57,6 +66,16 @@ public class PersianDateTest {
         PersianDate.of(1000, 4, 32);
     }
 
+    @Test(expected = DateTimeException.class)
+    public void testOnPersianDateInvalidDayZero() {
+        PersianDate.of(1400, 1, 0);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnPersianDateInvalidMonth() {
+        PersianDate.of(1400, 13, 1);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void testOnGetDayOfYear() {
@@ -104,6 +123,30 @@ public class PersianDateTest {
         assertEquals(PersianDate.MAX, PersianDate.ofJulianDays(2678438));
     }
 
+    @Test
+    public void testOnOfJulianDayWholeRange() {
+        int year = 1, month = 1, day = 1;
+        for (long jd = PersianDate.MIN.toJulianDay(); jd <= PersianDate.MAX.toJulianDay(); jd++) {
+            PersianDate pd = PersianDate.ofJulianDays(jd);
+            assertEquals(year, pd.getYear());
+            assertEquals(month, pd.getMonthValue());
+            assertEquals(day, pd.getDayOfMonth());
+            assertEquals(jd, pd.toJulianDay());
+            if (day++ == pd.lengthOfMonth()) {
+                day = 1;
+                if (month++ == 12) {
+                    month = 1;
+                    year++;
+                }
+            }
+        }
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfJulianDayAfterMax() {
+        PersianDate.ofJulianDays(PersianDate.MAX.toJulianDay() + 1);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void testOnPlusYears() {
@@ -257,6 +300,16 @@ public class PersianDateTest {
         assertEquals(expected, actual);
     }
 
+    @Test(expected = DateTimeException.class)
+    public void testOnPlusDaysAfterMax() {
+        PersianDate.MAX.plusDays(1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfEpochDayBeforeMin() {
+        PersianDate.ofEpochDay(PersianDate.MIN.toEpochDay() - 1);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void testOnIsLeapYear() {
@@ -557,6 +610,60 @@ public class PersianDateTest {
         assertEquals("0031-01-12", PersianDate2.toString());
     }
 
+    @Test
+    public void testOnToStringWholeRange() {
+        for (PersianDate pd = PersianDate.MIN; pd.isBefore(PersianDate.MAX); pd = pd.plusDays(1)) {
+            assertEquals(String.format("%04d-%02d-%02d", pd.getYear(), pd.getMonthValue(), pd.getDayOfMonth()),
+                    pd.toString());
+        }
+    }
+
+    @Test
+    public void testOnFormatToStringBuilder() {
+        StringBuilder sb = new StringBuilder("date: ");
+        PersianDate.of(1396, 8, 7).formatTo(sb);
+        assertEquals("date: 1396-08-07", sb.toString());
+    }
+
+    @Test
+    public void testOnFormatToAppendable() {
+        StringWriter writer = new StringWriter();
+        PersianDate.of(31, 1, 12).formatTo(writer);
+        assertEquals("0031-01-12", writer.toString());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnFormatToAppendableIOException() {
+        PersianDate.of(31, 1, 12).formatTo(new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public Appendable append(char c) throws IOException {
+                throw new IOException();
+            }
+        });
+    }
+
+    @Test
+    public void testOnFormatToCharArray() {
+        char[] buf = "[xxxxxxxxxx]".toCharArray();
+        assertEquals(11, PersianDate.of(1999, 12, 29).formatTo(buf, 1));
+        assertEquals("[1999-12-29]", new String(buf));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOnFormatToCharArrayNoRoom() {
+        PersianDate.of(1999, 12, 29).formatTo(new char[12], 3);
+    }
+
     //-----------------------------------------------------------------------
     @Test
     public void testOnUntilTemporalDays() {
@@ -652,4 +759,212 @@ public class PersianDateTest {
         assertEquals(-5, pd2UntilPd1.get(MONTHS));
         assertEquals(-24, pd2UntilPd1.get(DAYS));
     }
-}
\ No newline at end of file
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnParse() {
+        assertEquals(PersianDate.of(1396, 8, 7), PersianDate.parse("1396-08-07"));
+        assertEquals(PersianDate.of(1396, 8, 7), PersianDate.parse("1396/08/07"));
+        assertEquals(PersianDate.of(1399, 12, 30), PersianDate.parse("1399-12-30"));
+        assertEquals(PersianDate.MIN, PersianDate.parse(PersianDate.MIN.toString()));
+        assertEquals(PersianDate.MAX, PersianDate.parse(PersianDate.MAX.toString()));
+        char[] buf = "on 1400-01-01.".toCharArray();
+        assertEquals(PersianDate.of(1400, 1, 1), PersianDate.parse(buf, 3, 10));
+    }
+
+    @Test
+    public void testOnParseToStringWholeRange() {
+        for (long epochDay = PersianDate.MIN.toEpochDay(); epochDay <= PersianDate.MAX.toEpochDay(); epochDay += 7) {
+            PersianDate pd = PersianDate.ofEpochDay(epochDay);
+            assertEquals(pd, PersianDate.parse(pd.toString()));
+        }
+    }
+
+    @Test
+    public void testOnParseInvalidText() {
+        String[] texts = {"", "1396-8-7", "1396-08-07 ", "1396-08/07", "1396.08.07", "139a-08-07",
+                "1396-08-0-", "13960807"};
+        for (String text : texts) {
+            try {
+                PersianDate.parse(text);
+                fail(text);
+            } catch (DateTimeParseException ex) {
+                assertEquals(text, ex.getParsedString());
+                assertNull(ex.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void testOnParseInvalidDate() {
+        String[] texts = {"1398-12-30", "1396-07-31", "1396-13-01", "1396-00-01", "1396-01-00", "0000-01-01"};
+        for (String text : texts) {
+            try {
+                PersianDate.parse(text);
+                fail(text);
+            } catch (DateTimeParseException ex) {
+                assertEquals(text, ex.getParsedString());
+                assertTrue(ex.getCause() instanceof DateTimeException);
+            }
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOnParseOutOfBounds() {
+        PersianDate.parse("1396-08-07".toCharArray(), 1, 10);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnDatesUntil() {
+        PersianDate start = PersianDate.of(1395, 11, 20);
+        PersianDate end = PersianDate.of(1399, 2, 5);
+        List<PersianDate> dates = start.datesUntil(end).collect(Collectors.toList());
+        assertEquals(end.toEpochDay() - start.toEpochDay(), dates.size());
+        for (int i = 0; i < dates.size(); i++) {
+            assertEquals(start.plusDays(i), dates.get(i));
+        }
+        assertEquals(0, start.datesUntil(start).count());
+    }
+
+    @Test
+    public void testOnDatesUntilWithStep() {
+        PersianDate start = PersianDate.of(1398, 6, 31);
+        PersianDate end = PersianDate.of(1403, 1, 1);
+        ChronoPeriod[] steps = {PersianChronology.INSTANCE.period(0, 0, 3),
+                PersianChronology.INSTANCE.period(0, 1, 0), PersianChronology.INSTANCE.period(1, 2, 5),
+                Period.ofDays(40), Period.of(0, 1, 2)};
+        for (ChronoPeriod step : steps) {
+            List<PersianDate> dates = start.datesUntil(end, step).collect(Collectors.toList());
+            long months = step.get(YEARS) * 12 + step.get(MONTHS);
+            long days = step.get(DAYS);
+            int n = 0;
+            for (PersianDate date = start; date.isBefore(end);
+                 n++, date = start.plusMonths(n * months).plusDays(n * days)) {
+                assertEquals(step.toString(), date, dates.get(n));
+            }
+            assertEquals(step.toString(), n, dates.size());
+        }
+    }
+
+    @Test
+    public void testOnDatesUntilWithNegativeStep() {
+        PersianDate start = PersianDate.of(1399, 12, 30);
+        PersianDate end = PersianDate.of(1397, 3, 1);
+        List<PersianDate> dates = start.datesUntil(end, PersianChronology.INSTANCE.period(0, -1, 0))
+                .collect(Collectors.toList());
+        assertEquals(34, dates.size());
+        assertEquals(PersianDate.of(1399, 11, 30), dates.get(1));
+        assertEquals(PersianDate.of(1398, 12, 29), dates.get(12));
+        assertEquals(PersianDate.of(1397, 3, 30), dates.get(33));
+        assertEquals(start.toEpochDay() - end.toEpochDay(), start.datesUntil(end, Period.ofDays(-1)).count());
+    }
+
+    @Test
+    public void testOnDatesUntilInParallel() {
+        PersianDate start = PersianDate.of(1300, 1, 1);
+        PersianDate end = PersianDate.of(1500, 1, 1);
+        long sum = start.datesUntil(end).mapToLong(PersianDate::toEpochDay).sum();
+        assertEquals(sum, start.datesUntil(end).parallel().mapToLong(PersianDate::toEpochDay).sum());
+        assertEquals(start.datesUntil(end).collect(Collectors.toList()),
+                start.datesUntil(end).parallel().collect(Collectors.toList()));
+        ChronoPeriod step = PersianChronology.INSTANCE.period(0, 1, 1);
+        assertEquals(start.datesUntil(end, step).collect(Collectors.toList()),
+                start.datesUntil(end, step).parallel().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testOnDatesUntilInvalidArguments() {
+        PersianDate start = PersianDate.of(1398, 1, 1);
+        PersianDate before = PersianDate.of(1397, 1, 1);
+        PersianDate after = PersianDate.of(1399, 1, 1);
+        ChronoPeriod[] steps = {Period.ZERO, PersianChronology.INSTANCE.period(0, 1, -1), Period.ofDays(-1)};
+        for (ChronoPeriod step : steps) {
+            try {
+                start.datesUntil(after, step);
+                fail(step.toString());
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        try {
+            start.datesUntil(before);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnWriteToAndReadFrom() {
+        ByteBuffer buffer = ByteBuffer.allocate(PersianDate.BYTES * 3).order(ByteOrder.LITTLE_ENDIAN);
+        PersianDate.of(1396, 8, 7).writeTo(buffer);
+        PersianDate.MIN.writeTo(buffer);
+        PersianDate.MAX.writeTo(buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        // 1396 << 9 | 8 << 5 | 7, most significant byte first
+        assertEquals(0x0A, buffer.get(0));
+        assertEquals((byte) 0xE9, buffer.get(1));
+        assertEquals(0x07, buffer.get(2));
+        assertEquals(PersianDate.of(1396, 8, 7), PersianDate.readFrom(buffer));
+        assertEquals(PersianDate.MIN, PersianDate.readFrom(buffer));
+        assertEquals(PersianDate.MAX, PersianDate.readFrom(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testOnWriteToRoundTrip() {
+        ByteBuffer buffer = ByteBuffer.allocate(PersianDate.BYTES);
+        int previous = 0;
+        for (PersianDate date = PersianDate.of(1300, 1, 1); date.isBefore(PersianDate.of(1500, 1, 1));
+             date = date.plusDays(1)) {
+            buffer.clear();
+            date.writeTo(buffer);
+            buffer.flip();
+            assertEquals(date, PersianDate.readFrom(buffer));
+            // unsigned bytes of later dates are greater
+            int bytes = (buffer.get(0) & 0xFF) << 16 | (buffer.get(1) & 0xFF) << 8 | buffer.get(2) & 0xFF;
+            assertTrue(bytes > previous);
+            previous = bytes;
+        }
+    }
+
+    @Test
+    public void testOnWriteToWithoutRoom() {
+        ByteBuffer buffer = ByteBuffer.allocate(2);
+        try {
+            PersianDate.of(1396, 8, 7).writeTo(buffer);
+            fail();
+        } catch (BufferOverflowException ignored) {
+        }
+        assertEquals(0, buffer.position());
+        try {
+            PersianDate.readFrom(buffer);
+            fail();
+        } catch (BufferUnderflowException ignored) {
+        }
+        assertEquals(0, buffer.position());
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnReadFromInvalidDate() {
+        // 1398 << 9 | 12 << 5 | 30
+        PersianDate.readFrom(ByteBuffer.wrap(new byte[]{0x0A, (byte) 0xED, (byte) 0x9E}));
+    }
+
+    @Test
+    public void testOnSerialization() throws IOException, ClassNotFoundException {
+        PersianDate[] dates = {PersianDate.of(1396, 8, 7), PersianDate.MIN, PersianDate.MAX, PersianDate.of(1399, 12, 30)};
+        for (PersianDate date : dates) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                out.writeObject(date);
+            }
+            // the stream header, the class of the delegate, the type and three bytes
+            assertTrue(bytes.size() < 64);
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                assertEquals(date, in.readObject());
+            }
+        }
+    }
+}
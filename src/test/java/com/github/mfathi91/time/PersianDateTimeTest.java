@@ -0,0 +1,298 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.*;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.Assert.*;
+
+public class PersianDateTimeTest {
+
+    @Test
+    public void testOnOf() {
+        PersianDateTime pdt = PersianDateTime.of(1396, 8, 7, 10, 15, 30, 500);
+        assertEquals(1396, pdt.getYear());
+        assertEquals(8, pdt.getMonthValue());
+        assertEquals(PersianMonth.ABAN, pdt.getMonth());
+        assertEquals(7, pdt.getDayOfMonth());
+        assertEquals(223, pdt.getDayOfYear());
+        assertEquals(DayOfWeek.SUNDAY, pdt.getDayOfWeek());
+        assertEquals(10, pdt.getHour());
+        assertEquals(15, pdt.getMinute());
+        assertEquals(30, pdt.getSecond());
+        assertEquals(500, pdt.getNano());
+        assertEquals(PersianDate.of(1396, 8, 7), pdt.toLocalDate());
+        assertEquals(LocalTime.of(10, 15, 30, 500), pdt.toLocalTime());
+        assertEquals(PersianChronology.INSTANCE, pdt.getChronology());
+        assertEquals(pdt, PersianDateTime.of(PersianDate.of(1396, 8, 7), LocalTime.of(10, 15, 30, 500)));
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 15, 0, 0), PersianDateTime.of(1396, 8, 7, 10, 15));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfInvalidDate() {
+        PersianDateTime.of(1398, 12, 30, 10, 15);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfInvalidTime() {
+        PersianDateTime.of(1396, 8, 7, 24, 0);
+    }
+
+    @Test
+    public void testOnGregorian() {
+        LocalDateTime ldt = LocalDateTime.of(2017, 10, 29, 10, 15, 30);
+        PersianDateTime pdt = PersianDateTime.fromGregorian(ldt);
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 15, 30), pdt);
+        assertEquals(ldt, pdt.toGregorian());
+        assertEquals(pdt, PersianDateTime.from(ldt));
+        assertEquals(pdt, PersianDateTime.from(pdt.atZone(ZoneOffset.UTC)));
+        assertEquals(ldt.toEpochSecond(ZoneOffset.ofHours(3)), pdt.toEpochSecond(ZoneOffset.ofHours(3)));
+        assertEquals(ldt.toInstant(ZoneOffset.UTC), pdt.toInstant(ZoneOffset.UTC));
+    }
+
+    @Test
+    public void testOnOfEpochSecond() {
+        ZoneOffset offset = ZoneOffset.ofHoursMinutes(3, 30);
+        for (long epochSecond = -5_000_000_000L; epochSecond < 5_000_000_000L; epochSecond += 7_654_321L) {
+            LocalDateTime ldt = LocalDateTime.ofEpochSecond(epochSecond, 7, offset);
+            assertEquals(ldt, PersianDateTime.ofEpochSecond(epochSecond, 7, offset).toGregorian());
+        }
+    }
+
+    @Test
+    public void testOnOfEpochMilli() {
+        for (String id : new String[]{"Asia/Tehran", "Europe/London", "+03:30"}) {
+            ZoneId zone = ZoneId.of(id);
+            for (long epochMilli = -5_000_000_000_000L; epochMilli < 5_000_000_000_000L; epochMilli += 3_654_321_987L) {
+                Instant instant = Instant.ofEpochMilli(epochMilli);
+                LocalDateTime ldt = LocalDateTime.ofInstant(instant, zone);
+                assertEquals(id + " " + epochMilli, ldt, PersianDateTime.ofEpochMilli(epochMilli, zone).toGregorian());
+                assertEquals(id + " " + epochMilli, ldt, PersianDateTime.ofInstant(instant, zone).toGregorian());
+            }
+        }
+        ZoneId tehran = ZoneId.of("Asia/Tehran");
+        // 1396-08-07T10:15:30.123+03:30
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 15, 30, 123_000_000),
+                PersianDateTime.ofEpochMilli(1509259530123L, tehran));
+        // the last second before the daylight saving time of 1398 ended, and the first second after it
+        assertEquals(PersianDateTime.of(1398, 6, 30, 23, 59, 59), PersianDateTime.ofEpochMilli(1569094199000L, tehran));
+        assertEquals(PersianDateTime.of(1398, 6, 30, 23, 0, 0), PersianDateTime.ofEpochMilli(1569094200000L, tehran));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnOfEpochMilliOutOfRange() {
+        PersianDateTime.ofEpochMilli(Long.MIN_VALUE, ZoneId.of("Asia/Tehran"));
+    }
+
+    @Test
+    public void testOnMinAndMax() {
+        assertEquals(PersianDate.MIN, PersianDateTime.MIN.toLocalDate());
+        assertEquals(LocalTime.MIN, PersianDateTime.MIN.toLocalTime());
+        assertEquals(PersianDate.MAX, PersianDateTime.MAX.toLocalDate());
+        assertEquals(LocalTime.MAX, PersianDateTime.MAX.toLocalTime());
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnGetLong() {
+        PersianDateTime pdt = PersianDateTime.of(1396, 8, 7, 10, 15, 30);
+        for (ChronoField field : ChronoField.values()) {
+            if (field.isTimeBased()) {
+                assertEquals(pdt.toLocalTime().getLong(field), pdt.getLong(field));
+            } else if (field.isDateBased()) {
+                assertEquals(pdt.toLocalDate().getLong(field), pdt.getLong(field));
+            } else {
+                assertFalse(pdt.isSupported(field));
+            }
+        }
+    }
+
+    @Test
+    public void testOnWith() {
+        PersianDateTime pdt = PersianDateTime.of(1398, 12, 29, 10, 15, 30);
+        assertEquals(PersianDateTime.of(1398, 12, 29, 23, 15, 30), pdt.withHour(23));
+        assertEquals(PersianDateTime.of(1398, 12, 29, 10, 0, 30), pdt.withMinute(0));
+        assertEquals(PersianDateTime.of(1398, 12, 29, 10, 15, 1), pdt.withSecond(1));
+        assertEquals(PersianDateTime.of(1398, 12, 29, 10, 15, 30, 9), pdt.withNano(9));
+        assertEquals(PersianDateTime.of(1398, 12, 1, 10, 15, 30), pdt.with(ChronoField.DAY_OF_MONTH, 1));
+        assertEquals(PersianDateTime.of(1398, 1, 29, 10, 15, 30), pdt.with(ChronoField.MONTH_OF_YEAR, 1));
+        assertEquals(PersianDateTime.of(1399, 12, 29, 10, 15, 30), pdt.with(ChronoField.YEAR, 1399));
+        assertEquals(PersianDateTime.of(1398, 1, 1, 10, 15, 30), pdt.with(ChronoField.DAY_OF_YEAR, 1));
+        assertEquals(PersianDateTime.of(1398, 12, 26, 10, 15, 30), pdt.with(ChronoField.DAY_OF_WEEK, 1));
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 15, 30), pdt.with(PersianDate.of(1396, 8, 7)));
+        assertEquals(PersianDateTime.of(1398, 12, 29, 0, 0), pdt.with(LocalTime.MIDNIGHT));
+        assertSame(pdt, pdt.with(ChronoField.HOUR_OF_DAY, 10));
+        PersianDateTime leap = PersianDateTime.of(1399, 12, 30, 10, 15);
+        assertEquals(PersianDateTime.of(1398, 12, 29, 10, 15), leap.with(ChronoField.YEAR, 1398));
+    }
+
+    @Test
+    public void testOnWithEpochDayAndAlignedFields() {
+        PersianDateTime pdt = PersianDateTime.of(1398, 12, 29, 10, 15, 30);
+        assertEquals(PersianDateTime.of(1396, 8, 8, 10, 15, 30), pdt.with(ChronoField.EPOCH_DAY, 17469));
+        assertEquals(PersianDateTime.of(1396, 8, 8, 10, 15, 30).atZone(ZoneId.of("Asia/Tehran")),
+                pdt.atZone(ZoneId.of("Asia/Tehran")).with(ChronoField.EPOCH_DAY, 17469));
+        assertEquals(PersianDateTime.of(1398, 1, 29, 10, 15, 30),
+                pdt.with(ChronoField.PROLEPTIC_MONTH, 1398 * 12L));
+        PersianDateTime tenth = PersianDateTime.of(1398, 12, 10, 10, 15);
+        assertEquals(PersianDateTime.of(1398, 12, 8, 10, 15), tenth.with(ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH, 1));
+        assertEquals(PersianDateTime.of(1398, 12, 8, 10, 15), tenth.with(ChronoField.ALIGNED_DAY_OF_WEEK_IN_YEAR, 1));
+        assertEquals(PersianDateTime.of(1398, 12, 3, 10, 15), tenth.with(ChronoField.ALIGNED_WEEK_OF_MONTH, 1));
+        assertEquals(PersianDateTime.of(1398, 1, 3, 10, 15), tenth.with(ChronoField.ALIGNED_WEEK_OF_YEAR, 1));
+        assertSame(pdt, pdt.with(ChronoField.ERA, 1));
+        for (ChronoField field : ChronoField.values()) {
+            if (pdt.isSupported(field)) {
+                assertEquals(pdt, pdt.with(field, pdt.getLong(field)));
+            }
+        }
+        try {
+            pdt.with(ChronoField.EPOCH_DAY, PersianDate.MAX.toEpochDay() + 1);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+        try {
+            pdt.with(ChronoField.ERA, 0);
+            fail();
+        } catch (DateTimeException ignored) {
+        }
+    }
+
+    @Test
+    public void testOnTruncatedTo() {
+        PersianDateTime pdt = PersianDateTime.of(1396, 8, 7, 10, 15, 30, 123_456_789);
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 15, 30, 123_000_000), pdt.truncatedTo(ChronoUnit.MILLIS));
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 0), pdt.truncatedTo(ChronoUnit.HOURS));
+        assertEquals(PersianDateTime.of(1396, 8, 7, 0, 0), pdt.truncatedTo(ChronoUnit.DAYS));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnPlusTimeUnits() {
+        PersianDateTime pdt = PersianDateTime.of(1398, 12, 29, 23, 59, 59);
+        assertEquals(PersianDateTime.of(1399, 1, 1, 0, 0, 0), pdt.plusSeconds(1));
+        assertEquals(PersianDateTime.of(1399, 1, 1, 0, 59, 59), pdt.plusHours(1));
+        assertEquals(PersianDateTime.of(1398, 12, 28, 23, 59, 59), pdt.plusHours(-24));
+        assertEquals(PersianDateTime.of(1398, 12, 29, 23, 58, 59), pdt.minusMinutes(1));
+        assertEquals(PersianDateTime.of(1398, 12, 29, 23, 59, 58), pdt.minusSeconds(1));
+        assertEquals(PersianDateTime.of(1398, 12, 28, 23, 59, 59), pdt.minusHours(24));
+        assertEquals(PersianDateTime.of(1399, 1, 1, 0, 0, 0), pdt.plusNanos(1_000_000_000));
+        assertSame(pdt, pdt.plusSeconds(0));
+    }
+
+    @Test
+    public void testOnPlusSameAsLocalDateTime() {
+        PersianDateTime pdt = PersianDateTime.of(1396, 8, 7, 10, 15, 30, 500);
+        LocalDateTime ldt = pdt.toGregorian();
+        ChronoUnit[] units = {ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS, ChronoUnit.SECONDS,
+                ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS, ChronoUnit.DAYS, ChronoUnit.WEEKS};
+        long[] amounts = {-1_000_000_007L, -100_003L, -25, -1, 0, 1, 25, 100_003L, 1_000_000_007L};
+        for (ChronoUnit unit : units) {
+            for (long amount : amounts) {
+                if (unit.getDuration().getSeconds() * Math.abs(amount) > 500L * 365 * 86400) {
+                    continue;
+                }
+                assertEquals(unit + " " + amount, ldt.plus(unit.getDuration().multipliedBy(amount)), pdt.plus(amount, unit).toGregorian());
+                assertEquals(unit + " " + amount, ldt.minus(unit.getDuration().multipliedBy(amount)), pdt.minus(amount, unit).toGregorian());
+            }
+        }
+    }
+
+    @Test
+    public void testOnPlusDateUnits() {
+        PersianDateTime pdt = PersianDateTime.of(1399, 12, 30, 10, 15);
+        assertEquals(PersianDateTime.of(1400, 1, 30, 10, 15), pdt.plusMonths(1));
+        assertEquals(PersianDateTime.of(1400, 12, 29, 10, 15), pdt.plusYears(1));
+        assertEquals(PersianDateTime.of(1400, 1, 7, 10, 15), pdt.plusWeeks(1));
+        assertEquals(PersianDateTime.of(1399, 12, 29, 10, 15), pdt.minusDays(1));
+        assertEquals(PersianDateTime.of(1409, 12, 29, 10, 15), pdt.plus(1, ChronoUnit.DECADES));
+        assertEquals(PersianDateTime.of(1400, 2, 3, 12, 15), pdt.plus(PersianChronology.INSTANCE.period(0, 1, 4)).plusHours(2));
+        assertEquals(PersianDateTime.of(1399, 12, 30, 8, 45), pdt.minus(Duration.ofMinutes(90)));
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnPlusOutOfRange() {
+        PersianDateTime.MAX.plusNanos(1);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnMinusOutOfRange() {
+        PersianDateTime.MIN.minusSeconds(1);
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnUntilSameAsLocalDateTime() {
+        PersianDateTime start = PersianDateTime.of(1396, 8, 7, 10, 15, 30, 500);
+        PersianDateTime[] ends = {
+                start,
+                PersianDateTime.of(1396, 8, 7, 9, 0),
+                PersianDateTime.of(1396, 8, 8, 9, 0),
+                PersianDateTime.of(1396, 8, 8, 11, 0),
+                PersianDateTime.of(1396, 9, 7, 10, 15, 30, 499),
+                PersianDateTime.of(1396, 9, 7, 10, 15, 30, 500),
+                PersianDateTime.of(1397, 8, 7, 10, 0),
+                PersianDateTime.of(1396, 8, 6, 11, 0),
+                PersianDateTime.of(1395, 8, 7, 11, 0),
+                PersianDateTime.of(1300, 1, 1, 0, 0),
+                PersianDateTime.of(1500, 12, 29, 23, 59)};
+        for (PersianDateTime end : ends) {
+            for (ChronoUnit unit : new ChronoUnit[]{ChronoUnit.NANOS, ChronoUnit.MICROS, ChronoUnit.MILLIS,
+                    ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.HALF_DAYS,
+                    ChronoUnit.DAYS, ChronoUnit.WEEKS}) {
+                assertEquals(end + " " + unit, start.toGregorian().until(end.toGregorian(), unit),
+                        start.until(end, unit));
+            }
+        }
+    }
+
+    @Test
+    public void testOnUntilMonths() {
+        PersianDateTime start = PersianDateTime.of(1396, 8, 7, 10, 15);
+        assertEquals(0, start.until(PersianDateTime.of(1396, 9, 7, 10, 14), ChronoUnit.MONTHS));
+        assertEquals(1, start.until(PersianDateTime.of(1396, 9, 7, 10, 15), ChronoUnit.MONTHS));
+        assertEquals(11, start.until(PersianDateTime.of(1397, 8, 7, 10, 14), ChronoUnit.MONTHS));
+        assertEquals(1, start.until(PersianDateTime.of(1397, 8, 7, 10, 15), ChronoUnit.YEARS));
+        assertEquals(0, start.until(PersianDateTime.of(1396, 7, 7, 10, 16), ChronoUnit.MONTHS));
+        assertEquals(-1, start.until(PersianDateTime.of(1396, 7, 7, 10, 15), ChronoUnit.MONTHS));
+        assertEquals(10, start.until(PersianDateTime.of(1496, 8, 7, 10, 15), ChronoUnit.DECADES));
+        assertEquals(0, start.until(PersianDateTime.of(1496, 8, 7, 10, 15), ChronoUnit.ERAS));
+        assertEquals(3, start.until(PersianDateTime.of(1396, 8, 7, 10, 15).plusHours(3).toGregorian(),
+                ChronoUnit.HOURS));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnCompare() {
+        PersianDateTime pdt1 = PersianDateTime.of(1396, 8, 7, 10, 15);
+        PersianDateTime pdt2 = PersianDateTime.of(1396, 8, 7, 10, 16);
+        PersianDateTime pdt3 = PersianDateTime.of(1396, 8, 8, 0, 0);
+        assertTrue(pdt1.compareTo(pdt2) < 0);
+        assertTrue(pdt3.compareTo(pdt2) > 0);
+        assertTrue(pdt1.isBefore(pdt2));
+        assertTrue(pdt3.isAfter(pdt2));
+        assertTrue(pdt1.isEqual(PersianDateTime.of(1396, 8, 7, 10, 15)));
+        ChronoLocalDateTime<?> other = pdt1.toGregorian();
+        assertTrue(pdt1.isEqual(other));
+        assertNotEquals(0, pdt1.compareTo(other));
+        assertEquals(pdt1, pdt1.toLocalDate().atTime(LocalTime.of(10, 15)));
+        assertTrue(pdt1.isBefore(pdt1.toGregorian().plusSeconds(1)));
+    }
+
+    @Test
+    public void testOnEqualsAndHashCode() {
+        PersianDateTime pdt = PersianDateTime.of(1396, 8, 7, 10, 15);
+        assertEquals(pdt, PersianDateTime.of(1396, 8, 7, 10, 15));
+        assertEquals(pdt.hashCode(), PersianDateTime.of(1396, 8, 7, 10, 15).hashCode());
+        assertNotEquals(pdt, PersianDateTime.of(1396, 8, 7, 10, 16));
+        assertNotEquals(pdt, pdt.toGregorian());
+    }
+
+    @Test
+    public void testOnToString() {
+        assertEquals("1396-08-07T10:15", PersianDateTime.of(1396, 8, 7, 10, 15).toString());
+        assertEquals("0001-01-01T00:00:30.000000500", PersianDateTime.of(1, 1, 1, 0, 0, 30, 500).toString());
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class PersianDatesTest {
+
+    private static long[] epochDaysOfWholeRange() {
+        long min = PersianDate.MIN.toEpochDay();
+        long[] epochDays = new long[(int) (PersianDate.MAX.toEpochDay() - min + 1)];
+        for (int i = 0; i < epochDays.length; i++) {
+            epochDays[i] = min + i;
+        }
+        return epochDays;
+    }
+
+    @Test
+    public void testOnConvertEpochDays() {
+        long[] epochDays = epochDaysOfWholeRange();
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        PersianDates.convertEpochDays(epochDays, years, months, days);
+        for (int i = 0; i < epochDays.length; i++) {
+            PersianDate expected = PersianDate.ofEpochDay(epochDays[i]);
+            assertEquals(expected.getYear(), years[i]);
+            assertEquals(expected.getMonthValue(), months[i]);
+            assertEquals(expected.getDayOfMonth(), days[i]);
+        }
+    }
+
+    @Test
+    public void testOnConvertEpochDaysYyyymmdd() {
+        long[] epochDays = epochDaysOfWholeRange();
+        int[] yyyymmdd = new int[epochDays.length];
+        PersianDates.convertEpochDays(epochDays, yyyymmdd);
+        for (int i = 0; i < epochDays.length; i++) {
+            PersianDate expected = PersianDate.ofEpochDay(epochDays[i]);
+            assertEquals(expected.getYear() * 10000 + expected.getMonthValue() * 100 + expected.getDayOfMonth(),
+                    yyyymmdd[i]);
+        }
+        assertEquals(13960807, yyyymmdd[(int) (17468 - epochDays[0])]);
+    }
+
+    @Test
+    public void testOnConvertEpochDaysEmpty() {
+        PersianDates.convertEpochDays(new long[0], new int[0]);
+        PersianDates.convertEpochDays(new long[0], new int[0], new int[0], new int[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnConvertEpochDaysShortOutput() {
+        PersianDates.convertEpochDays(new long[]{0, 1}, new int[2], new int[1], new int[2]);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnConvertEpochDaysOutOfRange() {
+        PersianDates.convertEpochDays(new long[]{0, PersianDate.MAX.toEpochDay() + 1}, new int[2]);
+    }
+
+    @Test
+    public void testOnConvertEpochDaysParallel() {
+        long[] epochDays = epochDaysOfWholeRange();
+        int[] years = new int[epochDays.length];
+        int[] months = new int[epochDays.length];
+        int[] days = new int[epochDays.length];
+        int[] expectedYears = new int[epochDays.length];
+        int[] expectedMonths = new int[epochDays.length];
+        int[] expectedDays = new int[epochDays.length];
+        PersianDates.convertEpochDays(epochDays, expectedYears, expectedMonths, expectedDays);
+        PersianDates.convertEpochDaysParallel(epochDays, years, months, days);
+        assertArrayEquals(expectedYears, years);
+        assertArrayEquals(expectedMonths, months);
+        assertArrayEquals(expectedDays, days);
+    }
+
+    @Test
+    public void testOnConvertEpochDaysParallelYyyymmdd() {
+        long[] epochDays = epochDaysOfWholeRange();
+        int[] expected = new int[epochDays.length];
+        int[] actual = new int[epochDays.length];
+        PersianDates.convertEpochDays(epochDays, expected);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            PersianDates.convertEpochDaysParallel(epochDays, actual, pool);
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testOnConvertEpochDaysParallelBelowThreshold() {
+        long[] epochDays = {17468, 17469};
+        int[] actual = new int[epochDays.length];
+        PersianDates.convertEpochDaysParallel(epochDays, actual);
+        assertArrayEquals(new int[]{13960807, 13960808}, actual);
+    }
+
+    @Test(expected = DateTimeException.class)
+    public void testOnConvertEpochDaysParallelOutOfRange() {
+        long[] epochDays = epochDaysOfWholeRange();
+        epochDays[epochDays.length - 1]++;
+        PersianDates.convertEpochDaysParallel(epochDays, new int[epochDays.length]);
+    }
+
+    @Test
+    public void testOnSort() {
+        Random random = new Random(1);
+        for (int length : new int[]{0, 1, 10, 64, 65, 10_000}) {
+            PersianDate[] dates = new PersianDate[length];
+            for (int i = 0; i < length; i++) {
+                dates[i] = PersianDate.ofEpochDay(PersianYearTable.MIN_EPOCH_DAY +
+                        random.nextInt((int) (PersianYearTable.MAX_EPOCH_DAY - PersianYearTable.MIN_EPOCH_DAY + 1)));
+            }
+            PersianDate[] expected = dates.clone();
+            Arrays.sort(expected);
+            PersianDates.sort(dates);
+            assertArrayEquals(expected, dates);
+        }
+    }
+
+    @Test
+    public void testOnSortRangeIsStable() {
+        PersianDate[] dates = new PersianDate[200];
+        for (int i = 0; i < dates.length; i++) {
+            // equal but distinct instances
+            dates[i] = PersianDate.ofEpochDay(PersianDate.of(1398, 1, 1).toEpochDay() + (dates.length - i) / 3);
+        }
+        PersianDate[] expected = dates.clone();
+        Arrays.sort(expected, 10, 190);
+        PersianDates.sort(dates, 10, 190);
+        for (int i = 0; i < dates.length; i++) {
+            assertSame(expected[i], dates[i]);
+        }
+    }
+
+    @Test
+    public void testOnSortInvalidArguments() {
+        try {
+            PersianDates.sort(new PersianDate[]{PersianDate.MIN, null});
+            fail();
+        } catch (NullPointerException ignored) {
+        }
+        try {
+            PersianDates.sort(new PersianDate[2], 1, 3);
+            fail();
+        } catch (IndexOutOfBoundsException ignored) {
+        }
+    }
+
+    @Test
+    public void testOnBinarySearch() {
+        PersianDate[] dates = {PersianDate.of(1398, 1, 1), PersianDate.of(1398, 1, 3), PersianDate.of(1399, 1, 1)};
+        int[] packed = new int[dates.length];
+        for (int i = 0; i < dates.length; i++) {
+            packed[i] = PackedPersianDate.pack(dates[i]);
+        }
+        for (PersianDate key : new PersianDate[]{PersianDate.MIN, dates[0], PersianDate.of(1398, 1, 2),
+                dates[1], dates[2], PersianDate.MAX}) {
+            int expected = Arrays.binarySearch(dates, key);
+            assertEquals(expected, PersianDates.binarySearch(dates, key));
+            assertEquals(expected, PersianDates.binarySearch(packed, key));
+        }
+        assertEquals(-1, PersianDates.binarySearch(new PersianDate[0], PersianDate.MIN));
+    }
+}
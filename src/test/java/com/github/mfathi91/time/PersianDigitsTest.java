@@ -0,0 +1,118 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.Assert.*;
+
+public class PersianDigitsTest {
+
+    @Test
+    public void testOnToChar() {
+        assertEquals('7', PersianDigits.LATIN.toChar(7));
+        assertEquals('۷', PersianDigits.PERSIAN.toChar(7));
+        assertEquals('٧', PersianDigits.ARABIC_INDIC.toChar(7));
+        assertEquals('۰', PersianDigits.PERSIAN.getZeroDigit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOnToCharInvalid() {
+        PersianDigits.PERSIAN.toChar(10);
+    }
+
+    @Test
+    public void testOnDigitValue() {
+        for (PersianDigits digits : PersianDigits.values()) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, PersianDigits.digitValue(digits.toChar(i)));
+            }
+        }
+        assertEquals(-1, PersianDigits.digitValue('a'));
+        assertEquals(-1, PersianDigits.digitValue('/'));
+        assertEquals(-1, PersianDigits.digitValue('ۺ'));
+        assertEquals(-1, PersianDigits.digitValue('￿'));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnFormat() {
+        PersianDate pd = PersianDate.of(1396, 8, 7);
+        assertEquals("۱۳۹۶/۰۸/۰۷", PersianDigits.PERSIAN.format(pd, '/'));
+        assertEquals("١٣٩٦-٠٨-٠٧", PersianDigits.ARABIC_INDIC.format(pd, '-'));
+        assertEquals(pd.toString(), PersianDigits.LATIN.format(pd, '-'));
+        StringBuilder sb = new StringBuilder("date: ");
+        PersianDigits.PERSIAN.formatTo(pd, '/', sb);
+        assertEquals("date: ۱۳۹۶/۰۸/۰۷", sb.toString());
+        char[] buf = new char[12];
+        assertEquals(11, PersianDigits.PERSIAN.formatTo(pd, '/', buf, 1));
+        assertEquals("۱۳۹۶/۰۸/۰۷", new String(buf, 1, 10));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOnFormatToCharArrayOutOfBounds() {
+        PersianDigits.PERSIAN.formatTo(PersianDate.of(1396, 8, 7), '/', new char[12], 3);
+    }
+
+    @Test
+    public void testOnFormatLong() {
+        assertEquals("۷ آبان ۱۳۹۶", PersianDigits.PERSIAN.formatLong(PersianDate.of(1396, 8, 7)));
+        assertEquals("29 اسفند 1", PersianDigits.LATIN.formatLong(PersianDate.of(1, 12, 29)));
+        StringBuilder sb = new StringBuilder();
+        PersianDigits.PERSIAN.formatLongTo(PersianDate.of(1400, 1, 15), sb);
+        assertEquals("۱۵ فروردین ۱۴۰۰", sb.toString());
+    }
+
+    @Test
+    public void testOnAppendTo() {
+        long[] values = {0, 7, 10, 1396, -42, Long.MAX_VALUE, Long.MIN_VALUE};
+        for (long value : values) {
+            StringBuilder sb = new StringBuilder();
+            PersianDigits.LATIN.appendTo(value, sb);
+            assertEquals(Long.toString(value), sb.toString());
+        }
+        StringBuilder sb = new StringBuilder();
+        PersianDigits.PERSIAN.appendTo(1396, sb);
+        assertEquals("۱۳۹۶", sb.toString());
+    }
+
+    @Test
+    public void testOnLocalize() {
+        assertEquals("1396/08/07", PersianDigits.LATIN.localize("۱۳۹۶/۰۸/۰۷"));
+        assertEquals("سال ۱۳۹۶، روز ۷", PersianDigits.PERSIAN.localize("سال 1396، روز ٧"));
+        assertEquals("", PersianDigits.PERSIAN.localize(""));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnParse() {
+        PersianDate pd = PersianDate.of(1396, 8, 7);
+        assertEquals(pd, PersianDigits.parse("۱۳۹۶/۰۸/۰۷"));
+        assertEquals(pd, PersianDigits.parse("١٣٩٦-٠٨-٠٧"));
+        assertEquals(pd, PersianDigits.parse("1396-08-07"));
+        assertEquals(pd, PersianDigits.parse("۱۳96/٠8/۰۷"));
+        for (PersianDigits digits : PersianDigits.values()) {
+            assertEquals(PersianDate.MAX, PersianDigits.parse(digits.format(PersianDate.MAX, '/')));
+        }
+    }
+
+    @Test
+    public void testOnParseInvalid() {
+        String[] texts = {"", "۱۳۹۶/۸/۷", "۱۳۹۶/۰۸-۰۷", "۱۳۹a/۰۸/۰۷", "۱۳۹۸/۱۲/۳۰", "۱۳۹۶/۱۳/۰۱"};
+        for (String text : texts) {
+            try {
+                PersianDigits.parse(text);
+                fail(text);
+            } catch (DateTimeParseException ex) {
+                assertEquals(text, ex.getParsedString());
+            }
+        }
+        try {
+            PersianDigits.parse("۱۳۹۸/۱۲/۳۰");
+            fail();
+        } catch (DateTimeParseException ex) {
+            assertTrue(ex.getCause() instanceof DateTimeException);
+        }
+    }
+}
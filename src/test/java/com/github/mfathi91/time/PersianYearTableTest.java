@@ -0,0 +1,50 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PersianYearTableTest {
+
+    @Test
+    public void testOnFirstEpochDayMatchesArithmetic() {
+        for (int year = PersianYearTable.MIN_YEAR; year <= PersianYearTable.MAX_YEAR; year++) {
+            long expected = PersianYearTable.computeJulianDay(year, 1) - PersianYearTable.JULIAN_DAY_TO_1970;
+            assertEquals(expected, PersianYearTable.firstEpochDay(year));
+        }
+    }
+
+    @Test
+    public void testOnIsLeapYearMatchesArithmetic() {
+        for (int year = PersianYearTable.MIN_YEAR; year <= PersianYearTable.MAX_YEAR; year++) {
+            long lengthOfYear = PersianYearTable.computeJulianDay(year + 1, 1) - PersianYearTable.computeJulianDay(year, 1);
+            assertEquals(lengthOfYear == 366, PersianYearTable.isLeapYear(year));
+        }
+    }
+
+    @Test
+    public void testOnYearOfEpochDayMatchesArithmetic() {
+        for (long epochDay = PersianYearTable.MIN_EPOCH_DAY; epochDay <= PersianYearTable.MAX_EPOCH_DAY; epochDay++) {
+            int year = PersianYearTable.yearOfEpochDay(epochDay);
+            int dayOfYear = (int) (epochDay - PersianYearTable.firstEpochDay(year)) + 1;
+            assertTrue(MyUtils.isBetween(dayOfYear, 1, PersianYearTable.isLeapYear(year) ? 366 : 365));
+            long julianDay = PersianYearTable.computeJulianDay(year, dayOfYear);
+            assertEquals(epochDay, julianDay - PersianYearTable.JULIAN_DAY_TO_1970);
+        }
+    }
+
+    @Test
+    public void testOnToEpochDay() {
+        assertEquals(17468, PersianYearTable.toEpochDay(1396, 8, 7));
+        assertEquals(-492267, PersianYearTable.toEpochDay(1, 1, 1));
+    }
+
+    @Test
+    public void testOnSupportedEpochDays() {
+        assertEquals(PersianDate.MIN.toEpochDay(), PersianYearTable.MIN_EPOCH_DAY);
+        assertEquals(PersianDate.MAX.toEpochDay(), PersianYearTable.MAX_EPOCH_DAY);
+        assertTrue(PersianYearTable.isSupportedEpochDay(0));
+        assertFalse(PersianYearTable.isSupportedEpochDay(PersianYearTable.MIN_EPOCH_DAY - 1));
+        assertFalse(PersianYearTable.isSupportedEpochDay(PersianYearTable.MAX_EPOCH_DAY + 1));
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.*;
+import java.time.chrono.ChronoLocalDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.Assert.*;
+
+public class PersianZonedDateTimeTest {
+
+    private static final ZoneId TEHRAN = ZoneId.of("Asia/Tehran");
+
+    private static final ZoneId LONDON = ZoneId.of("Europe/London");
+
+    @Test
+    public void testOnOf() {
+        PersianZonedDateTime pzdt = PersianZonedDateTime.of(PersianDateTime.of(1396, 8, 7, 10, 15), TEHRAN);
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 15), pzdt.toLocalDateTime());
+        assertEquals(PersianDate.of(1396, 8, 7), pzdt.toLocalDate());
+        assertEquals(LocalTime.of(10, 15), pzdt.toLocalTime());
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), pzdt.getOffset());
+        assertEquals(TEHRAN, pzdt.getZone());
+        assertEquals(PersianChronology.INSTANCE, pzdt.getChronology());
+        assertEquals(ZonedDateTime.of(2017, 10, 29, 10, 15, 0, 0, TEHRAN).toInstant(), pzdt.toInstant());
+        assertEquals(pzdt, PersianDateTime.of(1396, 8, 7, 10, 15).atZone(TEHRAN));
+        assertEquals("1396-08-07T10:15+03:30[Asia/Tehran]", pzdt.toString());
+        assertEquals("1396-08-07T10:15Z", PersianDateTime.of(1396, 8, 7, 10, 15).atZone(ZoneOffset.UTC).toString());
+    }
+
+    @Test
+    public void testOnOfLocalGapAndOverlap() {
+        // daylight saving time of 1398 started at 1398-01-02T00:00 and ended at 1398-06-31T00:00
+        PersianZonedDateTime gap = PersianZonedDateTime.of(PersianDateTime.of(1398, 1, 2, 0, 30), TEHRAN);
+        assertEquals(PersianDateTime.of(1398, 1, 2, 1, 30), gap.toLocalDateTime());
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), gap.getOffset());
+        PersianDateTime overlapping = PersianDateTime.of(1398, 6, 30, 23, 30);
+        PersianZonedDateTime earlier = PersianZonedDateTime.of(overlapping, TEHRAN);
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), earlier.getOffset());
+        PersianZonedDateTime later = earlier.withLaterOffsetAtOverlap();
+        assertEquals(ZoneOffset.ofHoursMinutes(3, 30), later.getOffset());
+        assertEquals(overlapping, later.toLocalDateTime());
+        assertEquals(earlier, later.withEarlierOffsetAtOverlap());
+        assertEquals(later, PersianZonedDateTime.ofLocal(overlapping, TEHRAN, ZoneOffset.ofHoursMinutes(3, 30)));
+        assertEquals(3600, earlier.until(later, ChronoUnit.SECONDS));
+        assertSame(gap, gap.withLaterOffsetAtOverlap());
+    }
+
+    @Test
+    public void testOnOfEpochMilliSameAsZonedDateTime() {
+        for (ZoneId zone : new ZoneId[]{TEHRAN, LONDON, ZoneOffset.ofHours(-5)}) {
+            for (long epochMilli = -3_000_000_000_000L; epochMilli < 5_000_000_000_000L; epochMilli += 2_345_678_901L) {
+                ZonedDateTime zdt = Instant.ofEpochMilli(epochMilli).atZone(zone);
+                PersianZonedDateTime pzdt = PersianZonedDateTime.ofEpochMilli(epochMilli, zone);
+                assertEquals(zdt.toLocalDateTime(), pzdt.toLocalDateTime().toGregorian());
+                assertEquals(zdt.getOffset(), pzdt.getOffset());
+                assertEquals(epochMilli, pzdt.toInstant().toEpochMilli());
+                assertEquals(pzdt, PersianZonedDateTime.ofInstant(zdt.toInstant(), zone));
+                assertEquals(pzdt, PersianZonedDateTime.from(zdt));
+            }
+        }
+    }
+
+    @Test
+    public void testOnChronologyReturnsPersianTypes() {
+        ZonedDateTime zdt = ZonedDateTime.of(2017, 10, 29, 10, 15, 0, 0, TEHRAN);
+        ChronoZonedDateTime<?> fromInstant = PersianChronology.INSTANCE.zonedDateTime(zdt.toInstant(), TEHRAN);
+        ChronoZonedDateTime<?> fromTemporal = PersianChronology.INSTANCE.zonedDateTime(zdt);
+        ChronoLocalDateTime<?> local = PersianChronology.INSTANCE.localDateTime(zdt);
+        assertEquals(PersianZonedDateTime.of(PersianDateTime.of(1396, 8, 7, 10, 15), TEHRAN), fromInstant);
+        assertEquals(fromInstant, fromTemporal);
+        assertEquals(PersianDateTime.of(1396, 8, 7, 10, 15), local);
+        assertTrue(PersianDate.of(1396, 8, 7).atTime(LocalTime.NOON) instanceof PersianDateTime);
+        DateTimeFormatter formatter = DateTimeFormatter.ISO_ZONED_DATE_TIME.withChronology(PersianChronology.INSTANCE);
+        assertEquals("1396-08-07T10:15:00+03:30[Asia/Tehran]", formatter.format(fromInstant));
+        assertEquals(fromInstant, formatter.parse(formatter.format(fromInstant), ChronoZonedDateTime::from));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnAtStartOfDay() {
+        for (ZoneId zone : new ZoneId[]{TEHRAN, LONDON, ZoneId.of("America/Sao_Paulo")}) {
+            for (long epochDay = PersianDate.of(1350, 1, 1).toEpochDay();
+                 epochDay < PersianDate.of(1410, 1, 1).toEpochDay(); epochDay++) {
+                PersianDate date = PersianDate.ofEpochDay(epochDay);
+                ZonedDateTime expected = date.toGregorian().atStartOfDay(zone);
+                PersianZonedDateTime start = date.atStartOfDay(zone);
+                assertEquals(zone + " " + date, expected.toInstant(), start.toInstant());
+                assertEquals(expected.getOffset(), start.getOffset());
+            }
+        }
+        PersianZonedDateTime start = PersianDate.of(1398, 1, 2).atStartOfDay(TEHRAN);
+        assertEquals(PersianDateTime.of(1398, 1, 2, 1, 0), start.toLocalDateTime());
+        assertEquals(PersianDateTime.of(1398, 1, 1, 0, 0),
+                PersianDate.of(1398, 1, 1).atStartOfDay(ZoneOffset.UTC).toLocalDateTime());
+    }
+
+    @Test
+    public void testOnTruncatedTo() {
+        PersianZonedDateTime pzdt = PersianZonedDateTime.of(PersianDateTime.of(1396, 8, 7, 10, 15, 30), TEHRAN);
+        assertEquals(PersianZonedDateTime.of(PersianDateTime.of(1396, 8, 7, 0, 0), TEHRAN),
+                pzdt.truncatedTo(ChronoUnit.DAYS));
+        assertEquals(PersianZonedDateTime.of(PersianDateTime.of(1396, 8, 7, 10, 0), TEHRAN),
+                pzdt.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    //-----------------------------------------------------------------------
+    @Test
+    public void testOnPlusAndUntilSameAsZonedDateTime() {
+        ZonedDateTime zdt = ZonedDateTime.of(2019, 3, 21, 12, 0, 0, 0, TEHRAN);
+        PersianZonedDateTime pzdt = PersianZonedDateTime.from(zdt);
+        ChronoUnit[] units = {ChronoUnit.SECONDS, ChronoUnit.MINUTES, ChronoUnit.HOURS, ChronoUnit.DAYS,
+                ChronoUnit.WEEKS};
+        for (ChronoUnit unit : units) {
+            for (long amount = -400; amount <= 400; amount += 7) {
+                ZonedDateTime expected = zdt.plus(amount, unit);
+                PersianZonedDateTime actual = pzdt.plus(amount, unit);
+                assertEquals(unit + " " + amount, expected.toInstant(), actual.toInstant());
+                assertEquals(unit + " " + amount, expected.getOffset(), actual.getOffset());
+                assertEquals(unit + " " + amount, zdt.until(expected, unit), pzdt.until(actual, unit));
+                assertEquals(unit + " " + amount, expected.toInstant(), pzdt.minus(-amount, unit).toInstant());
+            }
+        }
+        assertEquals(PersianDateTime.of(1399, 1, 1, 12, 0), pzdt.plus(1, ChronoUnit.YEARS).toLocalDateTime());
+        assertEquals(25, pzdt.until(zdt.plusHours(25).withZoneSameInstant(LONDON), ChronoUnit.HOURS));
+        assertEquals(pzdt.plus(Duration.ofHours(3)), pzdt.plus(3, ChronoUnit.HOURS));
+        assertEquals(pzdt.minus(Duration.ofHours(3)), pzdt.minus(3, ChronoUnit.HOURS));
+    }
+
+    @Test
+    public void testOnWith() {
+        PersianZonedDateTime pzdt = PersianZonedDateTime.of(PersianDateTime.of(1396, 8, 7, 10, 15), TEHRAN);
+        assertEquals(PersianDateTime.of(1396, 8, 7, 0, 15), pzdt.with(ChronoField.HOUR_OF_DAY, 0).toLocalDateTime());
+        assertEquals(PersianDateTime.of(1396, 1, 7, 10, 15), pzdt.with(ChronoField.MONTH_OF_YEAR, 1).toLocalDateTime());
+        assertEquals(ZoneOffset.ofHoursMinutes(4, 30), pzdt.with(ChronoField.MONTH_OF_YEAR, 1).getOffset());
+        assertEquals(PersianDateTime.of(1396, 1, 1, 10, 15), pzdt.with(PersianDate.of(1396, 1, 1)).toLocalDateTime());
+        assertEquals(Instant.EPOCH, pzdt.with(Instant.EPOCH).toInstant());
+        assertEquals(0, pzdt.with(ChronoField.INSTANT_SECONDS, 0).toEpochSecond());
+        assertSame(pzdt, pzdt.with(ChronoField.OFFSET_SECONDS, 3600));
+        ZonedDateTime london = ZonedDateTime.of(2017, 10, 29, 10, 15, 0, 0, LONDON);
+        assertEquals(london.toInstant(), pzdt.withZoneSameLocal(LONDON).toInstant());
+        assertEquals(pzdt.toInstant(), pzdt.withZoneSameInstant(LONDON).toInstant());
+        assertEquals(pzdt, pzdt.withZoneSameInstant(LONDON).withZoneSameInstant(TEHRAN));
+    }
+
+    @Test
+    public void testOnEqualsAndHashCode() {
+        PersianZonedDateTime pzdt = PersianZonedDateTime.of(PersianDateTime.of(1396, 8, 7, 10, 15), TEHRAN);
+        PersianZonedDateTime same = PersianZonedDateTime.ofInstant(pzdt.toInstant(), ZoneId.of("Asia/Tehran"));
+        assertEquals(pzdt, same);
+        assertEquals(pzdt.hashCode(), same.hashCode());
+        PersianZonedDateTime offset = pzdt.withZoneSameInstant(ZoneOffset.ofHoursMinutes(3, 30));
+        assertNotEquals(pzdt, offset);
+        assertTrue(pzdt.isEqual(offset));
+    }
+}
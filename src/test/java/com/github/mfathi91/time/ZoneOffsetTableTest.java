@@ -0,0 +1,70 @@
+package com.github.mfathi91.time;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+
+import static org.junit.Assert.*;
+
+public class ZoneOffsetTableTest {
+
+    private static final String[] ZONES = {"Asia/Tehran", "Europe/London", "America/New_York",
+            "Australia/Lord_Howe", "Asia/Kolkata", "UTC", "+03:30"};
+
+    @Test
+    public void testOnGetOffsetSecondsMatchesRules() {
+        for (String id : ZONES) {
+            ZoneId zone = ZoneId.of(id);
+            ZoneOffsetTable table = ZoneOffsetTable.of(zone);
+            for (long epochSecond = -3_000_000_000L; epochSecond < 5_000_000_000L; epochSecond += 86_399L) {
+                assertEquals(id + " " + epochSecond, zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond))
+                        .getTotalSeconds(), table.getOffsetSeconds(epochSecond));
+            }
+        }
+    }
+
+    @Test
+    public void testOnGetOffsetSecondsAtTransitions() {
+        for (String id : ZONES) {
+            ZoneRules rules = ZoneId.of(id).getRules();
+            ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.of(id));
+            for (ZoneOffsetTransition transition : rules.getTransitions()) {
+                long epochSecond = transition.toEpochSecond();
+                assertEquals(transition.getOffsetBefore().getTotalSeconds(), table.getOffsetSeconds(epochSecond - 1));
+                assertEquals(transition.getOffsetAfter().getTotalSeconds(), table.getOffsetSeconds(epochSecond));
+            }
+        }
+    }
+
+    @Test
+    public void testOnGetEarliestEpochSecondMatchesRules() {
+        for (String id : ZONES) {
+            ZoneRules rules = ZoneId.of(id).getRules();
+            ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.of(id));
+            for (long localSecond = -3_000_000_000L; localSecond < 5_000_000_000L; localSecond += 1_799L) {
+                LocalDateTime localDateTime = LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC);
+                ZoneOffsetTransition transition = rules.getTransition(localDateTime);
+                long expected = transition != null && transition.isGap() ? transition.toEpochSecond() :
+                        localDateTime.toEpochSecond(rules.getValidOffsets(localDateTime).get(0));
+                assertEquals(id + " " + localDateTime, expected, table.getEarliestEpochSecond(localSecond));
+            }
+        }
+    }
+
+    @Test
+    public void testOnOfReturnsSameTable() {
+        ZoneOffsetTable table = ZoneOffsetTable.of(ZoneId.of("Asia/Tehran"));
+        ZoneOffsetTable.of(ZoneId.of("Europe/London"));
+        assertSame(table, ZoneOffsetTable.of(ZoneId.of("Asia/Tehran")));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOnOfNull() {
+        ZoneOffsetTable.of(null);
+    }
+}